@@ -0,0 +1,15 @@
+package torquehub.torquehub.business.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when anything shown on a question's detail page changes: the question itself,
+ * its answers, their comments or any of their vote counts.
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionContentChangedEvent {
+
+    private final Long questionId;
+}
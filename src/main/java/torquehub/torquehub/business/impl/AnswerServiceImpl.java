@@ -3,10 +3,12 @@ package torquehub.torquehub.business.impl;
 import org.hibernate.Hibernate;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.exeption.ErrorMessages;
 import torquehub.torquehub.business.exeption.answer_exptions.*;
 import torquehub.torquehub.business.exeption.question_exeptions.QuestionNotFoundException;
@@ -48,6 +50,8 @@ public class AnswerServiceImpl implements AnswerService {
     private final JpaFollowRepository followRepository;
     private final JpaBookmarkRepository bookmarkRepository;
     private final JpaVoteRepository voteRepository;
+    private final QuestionSearchIndex searchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public AnswerServiceImpl(
@@ -63,7 +67,9 @@ public class AnswerServiceImpl implements AnswerService {
             NotificationMapper notificationMapper,
             JpaFollowRepository followRepository,
             JpaBookmarkRepository bookmarkRepository,
-            JpaVoteRepository voteRepository) {
+            JpaVoteRepository voteRepository,
+            QuestionSearchIndex searchIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.answerMapper = answerMapper;
         this.commentMapper = commentMapper;
         this.userRepository = userRepository;
@@ -77,6 +83,8 @@ public class AnswerServiceImpl implements AnswerService {
         this.followRepository = followRepository;
         this.bookmarkRepository = bookmarkRepository;
         this.voteRepository = voteRepository;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     private static final String ANSWER_ID_PREFIX = "Answer with ID ";
@@ -84,7 +92,6 @@ public class AnswerServiceImpl implements AnswerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#answerCreateRequest.getQuestionId()")
     public AnswerResponse addAnswer(AnswerCreateRequest answerCreateRequest) {
         try{
             JpaUser jpaUser = userRepository.findById(answerCreateRequest.getUserId())
@@ -106,8 +113,10 @@ public class AnswerServiceImpl implements AnswerService {
                     .build();
 
             JpaAnswer savedJpaAnswer = answerRepository.save(jpaAnswer);
+            searchIndex.indexAnswer(savedJpaAnswer);
             jpaQuestion.setTotalAnswers(jpaQuestion.getTotalAnswers() + 1);
             jpaQuestion.setLastActivityTime(LocalDateTime.now());
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaQuestion.getId()));
             ReputationUpdateRequest reputationUpdateRequest = new ReputationUpdateRequest(jpaUser.getId(), ReputationConstants.POINTS_NEW_ANSWER);
             ReputationResponse reputationResponse = reputationService.updateReputationForNewAnswer(reputationUpdateRequest);
 
@@ -143,6 +152,8 @@ public class AnswerServiceImpl implements AnswerService {
                 jpaAnswer.setText(answerEditRequest.getText());
                 jpaAnswer.setEdited(true);
                 JpaAnswer savedJpaAnswer = answerRepository.save(jpaAnswer);
+                searchIndex.indexAnswer(savedJpaAnswer);
+                publishQuestionChanged(savedJpaAnswer);
 
                 return answerMapper.toResponse(savedJpaAnswer,  answerEditRequest.getUserId(), bookmarkRepository, followRepository,voteRepository, commentMapper);
             } else {
@@ -181,8 +192,10 @@ public class AnswerServiceImpl implements AnswerService {
                 }
 
                 answerRepository.deleteById(answerId);
+                searchIndex.removeAnswer(answerId);
                 jpaQuestion.setTotalAnswers(jpaQuestion.getTotalAnswers() - 1);
                 jpaQuestion.setLastActivityTime(LocalDateTime.now());
+                eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaQuestion.getId()));
                 return true;
 
             } else {
@@ -219,7 +232,6 @@ public class AnswerServiceImpl implements AnswerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#root.target.getQuestionIdByAnswerId(#answerId)")
     public ReputationResponse upvoteAnswer(Long answerId, Long userId) {
         try {
             JpaAnswer jpaAnswer = findAnswerById(answerId);
@@ -233,7 +245,6 @@ public class AnswerServiceImpl implements AnswerService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#root.target.getQuestionIdByAnswerId(#answerId)")
     public ReputationResponse downvoteAnswer(Long answerId, Long userId) {
         try {
             JpaAnswer jpaAnswer = findAnswerById(answerId);
@@ -264,6 +275,7 @@ public class AnswerServiceImpl implements AnswerService {
 
             jpaQuestion.setBestAnswerId(answerId);
             questionRepository.save(jpaQuestion);
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(questionId));
 
             return reputationService.updateReputationForBestAnswer(
                     new ReputationUpdateRequest(jpaAnswer.getJpaUser().getId(), ReputationConstants.POINTS_BEST_ANSWER)
@@ -325,4 +337,9 @@ public class AnswerServiceImpl implements AnswerService {
                 .orElseThrow(() -> new IllegalArgumentException("User with ID " + userId + NOT_FOUND_SUFFIX));
     }
 
+    private void publishQuestionChanged(JpaAnswer jpaAnswer) {
+        if (jpaAnswer.getJpaQuestion() != null) {
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaAnswer.getJpaQuestion().getId()));
+        }
+    }
 }
@@ -0,0 +1,52 @@
+package torquehub.torquehub.business.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import torquehub.torquehub.business.interfaces.CacheStatsService;
+import torquehub.torquehub.configuration.CacheLoadMetrics;
+import torquehub.torquehub.domain.response.CacheStatsResponse;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    private final CacheManager cacheManager;
+    private final CacheLoadMetrics cacheLoadMetrics;
+
+    public CacheStatsServiceImpl(CacheManager cacheManager, CacheLoadMetrics cacheLoadMetrics) {
+        this.cacheManager = cacheManager;
+        this.cacheLoadMetrics = cacheLoadMetrics;
+    }
+
+    @Override
+    public List<CacheStatsResponse> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                // Two-level caches expose their local Caffeine cache as the native cache
+                .filter(cache -> cache != null
+                        && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)
+                .map(this::toResponse)
+                .sorted(Comparator.comparing(CacheStatsResponse::getName))
+                .toList();
+    }
+
+    private CacheStatsResponse toResponse(Cache cache) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return CacheStatsResponse.builder()
+                .name(cache.getName())
+                .estimatedSize(nativeCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadCount(cacheLoadMetrics.getLoadCount(cache.getName()))
+                .coalescedCount(cacheLoadMetrics.getCoalescedCount(cache.getName()))
+                .build();
+    }
+}
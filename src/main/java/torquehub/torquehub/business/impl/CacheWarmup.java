@@ -0,0 +1,158 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.business.interfaces.FilterService;
+import torquehub.torquehub.business.interfaces.QuestionService;
+import torquehub.torquehub.business.interfaces.TagService;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fills the hottest caches before the application reports itself ready. Spring Boot only switches
+ * readiness to ACCEPTING_TRAFFIC after all application runners have returned, so traffic arriving
+ * after a deploy finds tags, the first feed pages and the most viewed questions already cached.
+ * Steps run in parallel; whatever is not done when the time budget runs out is abandoned and
+ * startup continues with those entries loading on first use.
+ */
+@Component
+public class CacheWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmup.class);
+    // Page size and answer order the controllers use when the client does not ask for one
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final Pageable DEFAULT_ANSWER_PAGE =
+            PageRequest.of(0, DEFAULT_PAGE_SIZE, Sort.by(Sort.Order.desc("votes"), Sort.Order.asc("id")));
+
+    private final TagService tagService;
+    private final FilterService filterService;
+    private final QuestionService questionService;
+    private final boolean enabled;
+    private final long timeBudgetMillis;
+    private final int feedPages;
+    private final int questionDetails;
+    private final int threads;
+
+    public CacheWarmup(TagService tagService,
+                       FilterService filterService,
+                       QuestionService questionService,
+                       @Value("${cache.warmup.enabled:true}") boolean enabled,
+                       @Value("${cache.warmup.time-budget-ms:20000}") long timeBudgetMillis,
+                       @Value("${cache.warmup.feed-pages:3}") int feedPages,
+                       @Value("${cache.warmup.question-details:20}") int questionDetails,
+                       @Value("${cache.warmup.threads:4}") int threads) {
+        this.tagService = tagService;
+        this.filterService = filterService;
+        this.questionService = questionService;
+        this.enabled = enabled;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.feedPages = feedPages;
+        this.questionDetails = questionDetails;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Runs all warm-up steps and returns true when they finished within the time budget.
+     */
+    public boolean warmUp() {
+        long start = System.currentTimeMillis();
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<?>> steps = new ArrayList<>();
+            steps.add(step("all tags", tagService::getAllTags, executor, completed));
+            steps.add(step("top tags", () -> {
+                tagService.getTop5Tags(null).forEach(tag -> tagService.getTagById(tag.getId()));
+                return null;
+            }, executor, completed));
+            for (int page = 0; page < feedPages; page++) {
+                Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
+                steps.add(step("recent questions page " + page, () -> filterService.findAllByOrderByAskedTimeDesc(pageable), executor, completed));
+                steps.add(step("recent activity page " + page, () -> filterService.findAllByOrderByLastActivityTimeDesc(pageable), executor, completed));
+                steps.add(step("top voted page " + page, () -> filterService.findAllByOrderByVotesDesc(pageable), executor, completed));
+                steps.add(step("popular page " + page, () -> filterService.findAllByOrderByViewCountDesc(pageable), executor, completed));
+                steps.add(step("unanswered page " + page, () -> filterService.findQuestionsWithNoAnswers(pageable), executor, completed));
+            }
+            steps.addAll(mostViewedQuestionDetails(executor, completed));
+
+            logger.info("Cache warm-up started: {} steps on {} threads, budget {} ms", steps.size(), threads, timeBudgetMillis);
+            CompletableFuture.allOf(steps.toArray(CompletableFuture[]::new)).get(timeBudgetMillis, TimeUnit.MILLISECONDS);
+            logger.info("Cache warm-up finished: {} steps in {} ms", completed.get(), System.currentTimeMillis() - start);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warn("Cache warm-up stopped after its {} ms budget with {} steps done", timeBudgetMillis, completed.get());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // Steps handle their own failures, so this only happens on a bug in the warm-up itself
+            logger.error("Cache warm-up failed: {}", e.getMessage());
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // The most viewed questions are read from the popular feed, then their detail pages are loaded in parallel
+    private List<CompletableFuture<?>> mostViewedQuestionDetails(ExecutorService executor, AtomicInteger completed) {
+        List<CompletableFuture<?>> steps = new ArrayList<>();
+        for (int page = 0; page * DEFAULT_PAGE_SIZE < questionDetails; page++) {
+            Pageable pageable = PageRequest.of(page, DEFAULT_PAGE_SIZE);
+            int limit = Math.min(DEFAULT_PAGE_SIZE, questionDetails - page * DEFAULT_PAGE_SIZE);
+            steps.add(step("most viewed page " + page, () -> filterService.findAllByOrderByViewCountDesc(pageable), executor, completed)
+                    .thenCompose(popular -> CompletableFuture.allOf(questionIds(popular).stream()
+                            .limit(limit)
+                            .map(id -> step("question " + id, () -> questionService.getQuestionbyId(id, DEFAULT_ANSWER_PAGE), executor, completed))
+                            .toArray(CompletableFuture[]::new))));
+        }
+        return steps;
+    }
+
+    private static List<Long> questionIds(Page<QuestionSummaryResponse> page) {
+        return page == null ? List.of() : page.getContent().stream().map(QuestionSummaryResponse::getId).toList();
+    }
+
+    private <T> CompletableFuture<T> step(String name, Supplier<T> work, ExecutorService executor, AtomicInteger completed) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                T result = work.get();
+                logger.info("Cache warm-up: {} done ({} steps so far)", name, completed.incrementAndGet());
+                return result;
+            } catch (Exception e) {
+                // A failed step only means that entry is loaded on first use instead
+                logger.warn("Cache warm-up: {} failed: {}", name, e.getMessage());
+                return null;
+            }
+        }, executor);
+    }
+}
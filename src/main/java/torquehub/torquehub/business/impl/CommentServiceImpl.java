@@ -2,10 +2,12 @@ package torquehub.torquehub.business.impl;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.exeption.answer_exptions.AnswerNotFoundException;
 import torquehub.torquehub.business.exeption.comment_exeptions.*;
 import torquehub.torquehub.business.exeption.user_exeptions.UserNotFoundException;
@@ -44,6 +46,7 @@ public class CommentServiceImpl implements CommentService {
     private final NotificationService notificationService;
     private final VoteService voteService;
     private final JpaVoteRepository voteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CommentServiceImpl(CommentMapper commentMapper,
                               JpaCommentRepository commentRepository,
@@ -52,7 +55,8 @@ public class CommentServiceImpl implements CommentService {
                               ReputationService reputationService,
                               NotificationService notificationService,
                               VoteService voteService,
-                              JpaVoteRepository voteRepository) {
+                              JpaVoteRepository voteRepository,
+                              ApplicationEventPublisher eventPublisher) {
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
@@ -61,6 +65,7 @@ public class CommentServiceImpl implements CommentService {
         this.notificationService = notificationService;
         this.voteService = voteService;
         this.voteRepository = voteRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     private static final String USER_NOT_FOUND = "User not found";
@@ -71,7 +76,6 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#commentCreateRequest.getAnswerId()")
     public CommentResponse addComment(CommentCreateRequest commentCreateRequest) {
         try {
             JpaUser jpaUser = userRepository.findById(commentCreateRequest.getUserId())
@@ -92,6 +96,7 @@ public class CommentServiceImpl implements CommentService {
             JpaQuestion jpaQuestion = jpaAnswer.getJpaQuestion();
             jpaQuestion.setTotalComments(jpaQuestion.getTotalComments() + 1);
             jpaQuestion.setLastActivityTime(LocalDateTime.now());
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaQuestion.getId()));
             ReputationUpdateRequest reputationUpdateRequest = new ReputationUpdateRequest(jpaUser.getId(),  ReputationConstants.POINTS_NEW_COMMENT);
             ReputationResponse reputationResponse = reputationService.updateReputationForNewComment(reputationUpdateRequest);
 
@@ -124,7 +129,6 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#commentId")
     public CommentResponse editComment(Long commentId, CommentEditRequest commentEditRequest) {
         try {
             Optional<JpaComment> commentOptional = commentRepository.findById(commentId);
@@ -133,6 +137,7 @@ public class CommentServiceImpl implements CommentService {
                 jpaComment.setText(commentEditRequest.getText());
                 jpaComment.setEdited(true);
                 JpaComment savedJpaComment = commentRepository.save(jpaComment);
+                publishQuestionChanged(savedJpaComment);
 
                 return commentMapper.toResponse(savedJpaComment, null, voteRepository);
             } else {
@@ -162,6 +167,7 @@ public class CommentServiceImpl implements CommentService {
                     JpaQuestion jpaQuestion = commentOptional.get().getJpaAnswer().getJpaQuestion();
                     jpaQuestion.setTotalComments(jpaQuestion.getTotalComments() - 1);
                     jpaQuestion.setLastActivityTime(LocalDateTime.now());
+                    eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaQuestion.getId()));
                     return true;
                 }
             } else {
@@ -206,7 +212,6 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#root.target.getQuestionIdByCommentId(#commentId)")
     public ReputationResponse upvoteComment(Long commentId, Long userId) {
         try {
             JpaComment jpaComment = findCommentById(commentId);
@@ -219,7 +224,6 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#root.target.getQuestionIdByCommentId(#commentId)")
     public ReputationResponse downvoteComment(Long commentId, Long userId) {
         try {
             JpaComment jpaComment = findCommentById(commentId);
@@ -259,4 +263,11 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new CommentNotFoundException(COMMENT_NOT_FOUND));
         return comment.getJpaUser().getUsername().equals(username);
     }
+
+    private void publishQuestionChanged(JpaComment jpaComment) {
+        JpaAnswer jpaAnswer = jpaComment.getJpaAnswer();
+        if (jpaAnswer != null && jpaAnswer.getJpaQuestion() != null) {
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(jpaAnswer.getJpaQuestion().getId()));
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package torquehub.torquehub.business.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Caches the pages of the homepage question feeds, keyed by page number and size.
+ * Concurrent misses for the same page share one query, and the first pages of each feed are reloaded
+ * in the background once they are older than the refresh interval, so visitors keep getting the previous
+ * page instead of waiting for the query when it expires.
+ */
+@Component
+public class FeedPageCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedPageCache.class);
+
+    private final CacheManager cacheManager;
+    private final Executor refreshExecutor;
+    private final int refreshAheadPages;
+    private final long refreshAfterMillis;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public FeedPageCache(CacheManager cacheManager,
+                         @Value("${feed.cache.refresh-ahead-pages:3}") int refreshAheadPages,
+                         @Value("${feed.cache.refresh-after-ms:45000}") long refreshAfterMillis,
+                         @Value("${feed.cache.refresh-threads:2}") int refreshThreads) {
+        this(cacheManager, Executors.newFixedThreadPool(refreshThreads, runnable -> {
+            Thread thread = new Thread(runnable, "feed-page-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), refreshAheadPages, refreshAfterMillis);
+    }
+
+    FeedPageCache(CacheManager cacheManager, Executor refreshExecutor, int refreshAheadPages, long refreshAfterMillis) {
+        this.cacheManager = cacheManager;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAheadPages = refreshAheadPages;
+        this.refreshAfterMillis = refreshAfterMillis;
+    }
+
+    public Page<QuestionSummaryResponse> get(String cacheName, Pageable pageable,
+                                             Supplier<Page<QuestionSummaryResponse>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        // Caffeine computes a missing key once, so callers that miss together wait on the same query
+        LoadedPage page = cache.get(key, () -> new LoadedPage(loader.get(), System.currentTimeMillis()));
+        if (pageable.getPageNumber() < refreshAheadPages
+                && System.currentTimeMillis() - page.loadedAt() >= refreshAfterMillis) {
+            refresh(cache, key, loader);
+        }
+        return page.content();
+    }
+
+    private void refresh(Cache cache, String key, Supplier<Page<QuestionSummaryResponse>> loader) {
+        String refreshKey = cache.getName() + "|" + key;
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    cache.put(key, new LoadedPage(loader.get(), System.currentTimeMillis()));
+                } catch (Exception e) {
+                    // The current page stays cached until it expires; the next hit tries again
+                    logger.warn("Failed to refresh {} page {}: {}", cache.getName(), key, e.getMessage());
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshKey);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    record LoadedPage(Page<QuestionSummaryResponse> content, long loadedAt) {
+    }
+}
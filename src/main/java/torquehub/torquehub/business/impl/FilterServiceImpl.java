@@ -2,18 +2,32 @@ package torquehub.torquehub.business.impl;
 
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import torquehub.torquehub.business.interfaces.FilterService;
 import torquehub.torquehub.domain.mapper.QuestionMapper;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+import torquehub.torquehub.domain.response.question_dtos.QuestionFeedResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaTagRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
+import torquehub.torquehub.persistence.jpa.specification.QuestionSpecifications;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class FilterServiceImpl implements FilterService {
@@ -21,94 +35,136 @@ public class FilterServiceImpl implements FilterService {
     private final JpaQuestionRepository questionRepository;
     private final JpaTagRepository tagRepository;
     private final QuestionMapper questionMapper;
+    private final FeedPageCache feedPageCache;
 
-    public FilterServiceImpl(JpaQuestionRepository jpaQuestionRepository, JpaTagRepository jpaTagRepository, QuestionMapper questionMapper) {
+    public FilterServiceImpl(JpaQuestionRepository jpaQuestionRepository, JpaTagRepository jpaTagRepository, QuestionMapper questionMapper, FeedPageCache feedPageCache) {
         this.questionRepository = jpaQuestionRepository;
         this.tagRepository = jpaTagRepository;
         this.questionMapper = questionMapper;
+        this.feedPageCache = feedPageCache;
     }
 
     @Override
     @Cacheable(value = "questionsByTags", key = "#tags.toString() + '-' + #pageable.pageNumber")
     public Page<QuestionSummaryResponse> getQuestionsByTags(Set<String> tags, Pageable pageable) {
-        // Collect Tag entities by unwrapping the Optional<Tag> from the repository
-        List<JpaTag> jpaTagEntities = tags.stream()
-                .map(tagName -> tagRepository.findByName(tagName)
-                        .orElseThrow(() -> new IllegalArgumentException("Tag not found: " + tagName)))
-                .toList();
+        // Check all requested tags exist with one query; the question query itself only needs the names
+        Set<String> knownTags = tagRepository.findByNameIn(tags).stream()
+                .map(JpaTag::getName)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
+        for (String tagName : tags) {
+            if (!knownTags.contains(tagName)) {
+                throw new IllegalArgumentException("Tag not found: " + tagName);
+            }
+        }
 
         // Query the questions and map them to QuestionSummaryResponse
-        Page<JpaQuestion> filteredQuestions = questionRepository.findQuestionsByTags(jpaTagEntities, pageable);
+        Page<QuestionSummaryProjection> filteredQuestions = questionRepository.findSummariesByTagNames(List.copyOf(tags), pageable);
         return filteredQuestions.map(questionMapper::toSummaryResponse);
     }
 
     @Override
-    @Cacheable(value = "recentQuestions", key = "#pageable.pageNumber")
     public Page<QuestionSummaryResponse> findAllByOrderByAskedTimeDesc(Pageable pageable) {
-        Page<JpaQuestion> questions = questionRepository.findAllByOrderByAskedTimeDesc(pageable);
-        return questions.map(questionMapper::toSummaryResponse);
+        return feedPageCache.get("recentQuestions", pageable, () -> sortedSummaries(pageable, "newest"));
     }
 
     @Override
-    @Cacheable(value = "recentActivityQuestions", key = "#pageable.pageNumber")
     public Page<QuestionSummaryResponse> findAllByOrderByLastActivityTimeDesc(Pageable pageable) {
-        Page<JpaQuestion> questions = questionRepository.findAllByOrderByLastActivityTimeDesc(pageable);
-        return questions.map(questionMapper::toSummaryResponse);
+        return feedPageCache.get("recentActivityQuestions", pageable, () -> sortedSummaries(pageable, "recentActivity"));
     }
 
     @Override
-    @Cacheable(value = "topVotedQuestions", key = "#pageable.pageNumber")
     public Page<QuestionSummaryResponse> findAllByOrderByVotesDesc(Pageable pageable) {
-        Page<JpaQuestion> questions = questionRepository.findAllByOrderByVotesDesc(pageable);
-        return questions.map(questionMapper::toSummaryResponse);
+        return feedPageCache.get("topVotedQuestions", pageable, () -> sortedSummaries(pageable, "mostLiked"));
     }
 
     @Override
-    @Cacheable(value = "popularQuestions", key = "#pageable.pageNumber")
     public Page<QuestionSummaryResponse> findAllByOrderByViewCountDesc(Pageable pageable) {
-        Page<JpaQuestion> questions = questionRepository.findAllByOrderByViewCountDesc(pageable);
-        return questions.map(questionMapper::toSummaryResponse);
+        return feedPageCache.get("popularQuestions", pageable, () -> sortedSummaries(pageable, "mostViews"));
     }
 
     @Override
-    @Cacheable(value = "questionsWithoutAnswers", key = "#pageable.pageNumber")
     public Page<QuestionSummaryResponse> findQuestionsWithNoAnswers(Pageable pageable) {
-        Page<JpaQuestion> questions = questionRepository.findQuestionsWithNoAnswers(pageable);
-        return questions.map(questionMapper::toSummaryResponse);
+        return feedPageCache.get("questionsWithoutAnswers", pageable, () ->
+                questionRepository.findUnansweredSummaries(pageable).map(questionMapper::toSummaryResponse));
     }
 
     @Override
-    public Page<QuestionSummaryResponse> filterQuestions(Set<String> tags, Boolean noAnswers, Boolean noAcceptedAnswer, String sortOption, Pageable pageable) {
-        // Build your dynamic query based on these parameters
-        Page<JpaQuestion> questions;
+    public Page<QuestionSummaryResponse> filterQuestions(Set<String> tags, String tagMode, Boolean noAnswers, Boolean noAcceptedAnswer, String sortOption, Pageable pageable) {
+        // Every filter is folded into one specification so the whole combination runs as a single query
+        Specification<JpaQuestion> specification = Specification.where(null);
 
         if (tags != null && !tags.isEmpty()) {
-            // Find questions by tags if tags are specified
-            List<JpaTag> jpaTagEntities = tags.stream()
-                    .map(tagName -> tagRepository.findByName(tagName)
-                            .orElseThrow(() -> new IllegalArgumentException("Tag not found: " + tagName)))
-                    .toList();
-            questions = questionRepository.findQuestionsByTags(jpaTagEntities, pageable);
-        } else {
-            // Use sorting and no answers/accepted answers filters
-            if (sortOption.equals("newest")) {
-                questions = questionRepository.findAllByOrderByAskedTimeDesc(pageable);
-            } else if (sortOption.equals("recentActivity")) {
-                questions = questionRepository.findAllByOrderByLastActivityTimeDesc(pageable);
-            } else if (sortOption.equals("mostLiked")) {
-                questions = questionRepository.findAllByOrderByVotesDesc(pageable);
-            } else if (sortOption.equals("mostViews")) {
-                questions = questionRepository.findAllByOrderByViewCountDesc(pageable);
-            } else {
-                questions = questionRepository.findAll(pageable); // Default fallback
-            }
+            specification = specification.and("all".equalsIgnoreCase(tagMode)
+                    ? QuestionSpecifications.hasAllTags(tags)
+                    : QuestionSpecifications.hasAnyTag(tags));
         }
+        if (Boolean.TRUE.equals(noAnswers)) {
+            specification = specification.and(QuestionSpecifications.hasNoAnswers());
+        }
+        if (Boolean.TRUE.equals(noAcceptedAnswer)) {
+            specification = specification.and(QuestionSpecifications.hasNoAcceptedAnswer());
+        }
+
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), filterSort(sortOption, pageable));
+        // The specification only picks the ids of the page; their rows and tags then come from one summary query
+        Page<Long> ids = questionRepository.findIds(specification, sortedPageable);
+        return new PageImpl<>(summariesInOrder(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
 
-        if (noAnswers != null && noAnswers) {
-            questions = questionRepository.findQuestionsWithNoAnswers(pageable);
+    private List<QuestionSummaryResponse> summariesInOrder(List<Long> ids) {
+        Map<Long, QuestionSummaryProjection> summaries = questionRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(QuestionSummaryProjection::getId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(questionMapper::toSummaryResponse)
+                .toList();
+    }
+
+    private Page<QuestionSummaryResponse> sortedSummaries(Pageable pageable, String sortOption) {
+        Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), filterSort(sortOption, pageable));
+        return questionRepository.findSummaries(sortedPageable).map(questionMapper::toSummaryResponse);
+    }
+
+    private Sort filterSort(String sortOption, Pageable pageable) {
+        if (sortOption == null) {
+            return pageable.getSort();
         }
+        return switch (sortOption) {
+            case "newest" -> Sort.by(Sort.Order.desc("askedTime"), Sort.Order.desc("id"));
+            case "recentActivity" -> Sort.by(Sort.Order.desc("lastActivityTime"), Sort.Order.desc("id"));
+            case "mostLiked" -> Sort.by(Sort.Order.desc("votes"), Sort.Order.desc("id"));
+            case "mostViews" -> Sort.by(Sort.Order.desc("views"), Sort.Order.desc("id"));
+            default -> pageable.getSort();
+        };
+    }
 
-        return questions.map(questionMapper::toSummaryResponse);
+    @Override
+    public QuestionFeedResponse getQuestionFeed(String sort, String cursor, int size) {
+        QuestionFeedCursor.Feed feed = QuestionFeedCursor.Feed.fromSortName(sort);
+        QuestionFeedCursor after = (cursor == null || cursor.isBlank()) ? null : QuestionFeedCursor.decode(feed, cursor);
+        Pageable limit = PageRequest.of(0, size);
+
+        Long afterId = after != null ? after.getId() : null;
+        Slice<QuestionFeedKeyProjection> questions = switch (feed) {
+            case ASKED_TIME -> questionRepository.findAskedTimeFeed(after != null ? after.getTimeKey() : null, afterId, limit);
+            case LAST_ACTIVITY -> questionRepository.findLastActivityFeed(after != null ? after.getTimeKey() : null, afterId, limit);
+            case VOTES -> questionRepository.findVotesFeed(after != null ? after.getCountKey() : null, afterId, limit);
+            case VIEWS -> questionRepository.findViewsFeed(after != null ? after.getCountKey() : null, afterId, limit);
+        };
+
+        List<QuestionFeedKeyProjection> keys = questions.getContent();
+        String nextCursor = questions.hasNext() && !keys.isEmpty()
+                ? QuestionFeedCursor.after(feed, keys.get(keys.size() - 1)).encode()
+                : null;
+
+        // The keyset query only walks the feed index; the page's rows and tags come from one summary query
+        List<Long> ids = keys.stream().map(QuestionFeedKeyProjection::getId).toList();
+        return QuestionFeedResponse.builder()
+                .content(summariesInOrder(ids))
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
     }
 
 }
@@ -78,7 +78,6 @@ public class FollowServiceImpl implements FollowService {
     }
 
     @Override
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#followAnswerRequest.answerId")
     @Transactional
     public FollowResponse toggleFollowAnswer(FollowAnswerRequest followAnswerRequest) {
         try {
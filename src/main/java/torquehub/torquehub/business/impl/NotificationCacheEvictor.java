@@ -0,0 +1,65 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts the cached notification lists of single users, so creating or reading notifications no longer
+ * clears the caches of every other user.
+ */
+@Component
+public class NotificationCacheEvictor {
+
+    private final Cache topUnreadNotifications;
+    private final Cache top5UnreadNotificationsWithCount;
+    private final Cache userNotifications;
+    private final int cachedPages;
+
+    public NotificationCacheEvictor(CacheManager cacheManager,
+                                    @Value("${notification.cache.evict-pages:10}") int cachedPages) {
+        this.topUnreadNotifications = cacheManager.getCache("topUnreadNotifications");
+        this.top5UnreadNotificationsWithCount = cacheManager.getCache("top5UnreadNotificationsWithCount");
+        this.userNotifications = cacheManager.getCache("userNotifications");
+        this.cachedPages = cachedPages;
+    }
+
+    /**
+     * Evicts the user's entries once the current transaction commits, or right away outside a transaction.
+     */
+    public void evictUser(Long userId) {
+        evictUsers(List.of(userId));
+    }
+
+    public void evictUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(this::evictNow);
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(NotificationCacheEvictor.this::evictNow);
+            }
+        });
+    }
+
+    private void evictNow(Long userId) {
+        topUnreadNotifications.evict(userId);
+        top5UnreadNotificationsWithCount.evict(userId);
+        // userNotifications is keyed "<userId>-<page>"; pages past the bound expire with the cache's short TTL
+        for (int page = 0; page < cachedPages; page++) {
+            userNotifications.evict(userId + "-" + page);
+        }
+    }
+}
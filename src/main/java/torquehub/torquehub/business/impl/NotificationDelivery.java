@@ -0,0 +1,32 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.controllers.websocketcontrollers.WebSocketNotificationController;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.messaging.NotificationPushPublisher;
+
+/**
+ * Pushes a stored notification to its recipient's websocket topic. With broadcasting enabled the push goes
+ * through RabbitMQ to every node; otherwise it goes to this node's STOMP broker directly.
+ */
+@Component
+public class NotificationDelivery {
+
+    private final WebSocketNotificationController webSocketNotificationController;
+    private final NotificationPushPublisher pushPublisher;
+
+    public NotificationDelivery(WebSocketNotificationController webSocketNotificationController,
+                                ObjectProvider<NotificationPushPublisher> pushPublisher) {
+        this.webSocketNotificationController = webSocketNotificationController;
+        this.pushPublisher = pushPublisher.getIfAvailable();
+    }
+
+    public void deliver(NotificationResponse notification) {
+        if (pushPublisher != null) {
+            pushPublisher.publish(notification);
+        } else {
+            webSocketNotificationController.notifyClients(notification.getUserId(), notification);
+        }
+    }
+}
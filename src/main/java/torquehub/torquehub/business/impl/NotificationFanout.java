@@ -0,0 +1,89 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent.TargetType;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.jpa.projection.FollowerProjection;
+import torquehub.torquehub.persistence.repository.FollowRepository;
+import torquehub.torquehub.persistence.repository.NotificationFanoutEventRepository;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Notifies the followers of a question or answer without doing it in the request that caused it.
+ * The request only records a fan-out event; {@link NotificationFanoutWorker} then expands it chunk by chunk,
+ * each chunk inserting its notifications and advancing the event's checkpoint in one transaction, so a
+ * crash or restart resumes after the last committed chunk instead of notifying anyone twice.
+ * The last chunk deletes the event, so the table only ever holds pending fan-outs.
+ */
+@Component
+public class NotificationFanout {
+
+    private final NotificationFanoutEventRepository eventRepository;
+    private final FollowRepository followRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationCacheEvictor cacheEvictor;
+    private final int chunkSize;
+
+    public NotificationFanout(NotificationFanoutEventRepository eventRepository,
+                              FollowRepository followRepository,
+                              NotificationRepository notificationRepository,
+                              NotificationUnreadCounter unreadCounter,
+                              NotificationCacheEvictor cacheEvictor,
+                              @Value("${notification.fanout.chunk-size:500}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.followRepository = followRepository;
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.cacheEvictor = cacheEvictor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional
+    public void enqueue(TargetType targetType, Long targetId, Long actorId, String message) {
+        eventRepository.save(JpaNotificationFanoutEvent.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .actorId(actorId)
+                .message(message)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Writes the notifications for the next chunk of followers of the event and returns them for delivery.
+     * Returns empty when the event is already complete or another node is expanding it right now.
+     */
+    @Transactional
+    public Optional<List<NotificationResponse>> expandNextChunk(Long eventId) {
+        Optional<JpaNotificationFanoutEvent> locked = eventRepository.lockPendingById(eventId);
+        if (locked.isEmpty()) {
+            return Optional.empty();
+        }
+        JpaNotificationFanoutEvent event = locked.get();
+        List<FollowerProjection> followers = event.getTargetType() == TargetType.QUESTION
+                ? followRepository.findUnmutedQuestionFollowersAfter(event.getTargetId(), event.getLastFollowId(), chunkSize)
+                : followRepository.findUnmutedAnswerFollowersAfter(event.getTargetId(), event.getLastFollowId(), chunkSize);
+
+        List<Long> recipientIds = followers.stream().map(FollowerProjection::getUserId).toList();
+        List<NotificationResponse> notifications = notificationRepository.insertAll(
+                recipientIds, event.getActorId(), event.getMessage(), 0, event.getCreatedAt());
+        unreadCounter.incrementAll(recipientIds);
+        cacheEvictor.evictUsers(recipientIds);
+
+        if (followers.size() < chunkSize) {
+            eventRepository.delete(event);
+        } else {
+            event.setLastFollowId(followers.get(followers.size() - 1).getFollowId());
+            eventRepository.save(event);
+        }
+        return Optional.of(notifications);
+    }
+}
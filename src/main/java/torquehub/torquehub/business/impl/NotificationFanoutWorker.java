@@ -0,0 +1,130 @@
+package torquehub.torquehub.business.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationFanoutEventRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Picks up pending fan-out events and expands them on a small worker pool. Each worker pushes the
+ * websocket messages of a chunk at a bounded rate, so a question with thousands of followers does not
+ * flood the message broker in one burst.
+ */
+@Component
+public class NotificationFanoutWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutWorker.class);
+
+    private final NotificationFanout notificationFanout;
+    private final NotificationFanoutEventRepository eventRepository;
+    private final NotificationDelivery notificationDelivery;
+    private final Executor workers;
+    private final int pollBatchSize;
+    private final long pushIntervalNanos;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public NotificationFanoutWorker(NotificationFanout notificationFanout,
+                                    NotificationFanoutEventRepository eventRepository,
+                                    NotificationDelivery notificationDelivery,
+                                    @Value("${notification.fanout.threads:2}") int threads,
+                                    @Value("${notification.fanout.poll-batch-size:20}") int pollBatchSize,
+                                    @Value("${notification.fanout.pushes-per-second:500}") int pushesPerSecond) {
+        this(notificationFanout, eventRepository, notificationDelivery, Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-fanout");
+            thread.setDaemon(true);
+            return thread;
+        }), pollBatchSize, pushesPerSecond);
+    }
+
+    NotificationFanoutWorker(NotificationFanout notificationFanout,
+                             NotificationFanoutEventRepository eventRepository,
+                             NotificationDelivery notificationDelivery,
+                             Executor workers, int pollBatchSize, int pushesPerSecond) {
+        this.notificationFanout = notificationFanout;
+        this.eventRepository = eventRepository;
+        this.notificationDelivery = notificationDelivery;
+        this.workers = workers;
+        this.pollBatchSize = pollBatchSize;
+        this.pushIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, pushesPerSecond);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.fanout.poll-interval-ms:1000}")
+    public void poll() {
+        List<Long> pending;
+        try {
+            pending = eventRepository.findPendingIds(pollBatchSize);
+        } catch (Exception e) {
+            logger.error("Failed to read pending notification fan-out events: {}", e.getMessage());
+            return;
+        }
+        for (Long eventId : pending) {
+            // An event still being expanded from an earlier poll is left to that worker
+            if (!running.add(eventId)) {
+                continue;
+            }
+            try {
+                workers.execute(() -> expand(eventId));
+            } catch (RejectedExecutionException e) {
+                running.remove(eventId);
+            }
+        }
+    }
+
+    void expand(Long eventId) {
+        int delivered = 0;
+        try {
+            Optional<List<NotificationResponse>> chunk;
+            while ((chunk = notificationFanout.expandNextChunk(eventId)).isPresent()) {
+                push(chunk.get());
+                delivered += chunk.get().size();
+            }
+            logger.debug("Notification fan-out event {} delivered {} notifications", eventId, delivered);
+        } catch (Exception e) {
+            // Committed chunks stay committed; the next poll resumes from the event's checkpoint
+            logger.error("Notification fan-out event {} stopped after {} notifications: {}", eventId, delivered, e.getMessage());
+        } finally {
+            running.remove(eventId);
+        }
+    }
+
+    private void push(List<NotificationResponse> notifications) {
+        long nextPushAt = System.nanoTime();
+        for (NotificationResponse notification : notifications) {
+            long wait = nextPushAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            nextPushAt = Math.max(nextPushAt, System.nanoTime()) + pushIntervalNanos;
+            try {
+                notificationDelivery.deliver(notification);
+            } catch (Exception e) {
+                // The notification is stored; the user still sees it on the next page load
+                logger.warn("Failed to push notification {} to user {}: {}", notification.getId(), notification.getUserId(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package torquehub.torquehub.business.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationOutboxMessage;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Websocket pushes are written to the outbox in the transaction that stores their notification, so a push
+ * exists exactly when its notification does and survives a crash right after commit. The relay drains the
+ * outbox in batches, deletes what it delivered and reschedules failures with exponential backoff.
+ */
+@Component
+public class NotificationOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutbox.class);
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationDelivery notificationDelivery;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public NotificationOutbox(NotificationOutboxRepository outboxRepository,
+                              NotificationDelivery notificationDelivery,
+                              ObjectMapper objectMapper,
+                              @Value("${notification.outbox.batch-size:100}") int batchSize,
+                              @Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+                              @Value("${notification.outbox.backoff-initial-ms:1000}") long initialBackoffMillis,
+                              @Value("${notification.outbox.backoff-max-ms:300000}") long maxBackoffMillis) {
+        this.outboxRepository = outboxRepository;
+        this.notificationDelivery = notificationDelivery;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(NotificationResponse notification) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            outboxRepository.save(JpaNotificationOutboxMessage.builder()
+                    .recipientId(notification.getUserId())
+                    .payload(objectMapper.writeValueAsString(notification))
+                    .createdAt(now)
+                    .nextAttemptAt(now)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification " + notification.getId(), e);
+        }
+    }
+
+    /**
+     * Delivers one batch of due pushes and returns how many were taken from the outbox.
+     */
+    @Transactional
+    public int relayBatch() {
+        List<JpaNotificationOutboxMessage> due = outboxRepository.lockDue(LocalDateTime.now(), batchSize);
+        List<JpaNotificationOutboxMessage> finished = new ArrayList<>();
+        for (JpaNotificationOutboxMessage message : due) {
+            try {
+                notificationDelivery.deliver(objectMapper.readValue(message.getPayload(), NotificationResponse.class));
+                finished.add(message);
+            } catch (Exception e) {
+                if (message.getAttempts() + 1 >= maxAttempts) {
+                    // The notification itself is stored, so the user still sees it when the list is next loaded
+                    logger.error("Dropping push {} for user {} after {} attempts: {}",
+                            message.getId(), message.getRecipientId(), maxAttempts, e.getMessage());
+                    finished.add(message);
+                } else {
+                    reschedule(message, e);
+                }
+            }
+        }
+        if (!finished.isEmpty()) {
+            outboxRepository.deleteAll(finished);
+        }
+        return due.size();
+    }
+
+    private void reschedule(JpaNotificationOutboxMessage message, Exception error) {
+        int attempts = message.getAttempts() + 1;
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempts - 1, 30));
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+        String reason = String.valueOf(error.getMessage());
+        message.setLastError(reason.length() > MAX_ERROR_LENGTH ? reason.substring(0, MAX_ERROR_LENGTH) : reason);
+        outboxRepository.save(message);
+    }
+}
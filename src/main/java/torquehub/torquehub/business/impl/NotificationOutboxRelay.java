@@ -0,0 +1,36 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxRelay.class);
+
+    private final NotificationOutbox notificationOutbox;
+    private final int maxBatchesPerRun;
+
+    public NotificationOutboxRelay(NotificationOutbox notificationOutbox,
+                                   @Value("${notification.outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.notificationOutbox = notificationOutbox;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    // Keeps draining while batches come back full, so a burst is not spread over many intervals
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-ms:500}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                if (notificationOutbox.relayBatch() < notificationOutbox.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Failed to relay notification outbox: {}", e.getMessage());
+        }
+    }
+}
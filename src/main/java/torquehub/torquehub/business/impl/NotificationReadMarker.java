@@ -0,0 +1,42 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+/**
+ * Marks a user's unread notifications as read with bulk UPDATEs instead of loading them as entities.
+ * Each chunk commits on its own together with the matching unread counter change, so a user with a large
+ * backlog never holds their notification rows locked for the whole run.
+ */
+@Component
+public class NotificationReadMarker {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final int chunkSize;
+
+    public NotificationReadMarker(NotificationRepository notificationRepository,
+                                  NotificationUnreadCounter unreadCounter,
+                                  @Value("${notification.mark-all-read.chunk-size:5000}") int chunkSize) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Marks up to one chunk of the user's unread notifications as read and returns how many rows changed.
+     * A result below {@link #getChunkSize()} means nothing unread is left.
+     */
+    @Transactional
+    public int markNextChunkAsRead(Long userId) {
+        int marked = notificationRepository.markUnreadAsRead(userId, chunkSize);
+        unreadCounter.decrement(userId, marked);
+        return marked;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
@@ -0,0 +1,88 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
+import torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps the notifications table from growing without bound. Only read notifications are touched, so unread
+ * counters never change here. Each batch is its own short transaction; {@link NotificationRetentionJob}
+ * decides how many batches to run.
+ */
+@Component
+public class NotificationRetention {
+
+    private final NotificationRepository notificationRepository;
+    private final int batchSize;
+    private final boolean archive;
+
+    public NotificationRetention(NotificationRepository notificationRepository,
+                                 @Value("${notification.retention.batch-size:1000}") int batchSize,
+                                 @Value("${notification.retention.archive:false}") boolean archive) {
+        this.notificationRepository = notificationRepository;
+        this.batchSize = batchSize;
+        this.archive = archive;
+    }
+
+    /**
+     * Replaces the read vote notifications of each user and target older than the cutoff with one digest row,
+     * e.g. "12 people upvoted your answer". Returns the number of rows removed net of the digests written.
+     */
+    @Transactional
+    public int compactBatch(LocalDateTime cutoff) {
+        List<VoteNotificationGroupProjection> groups = notificationRepository.findReadVoteGroupsBefore(cutoff, batchSize);
+        int removed = 0;
+        for (VoteNotificationGroupProjection group : groups) {
+            int deleted = notificationRepository.deleteReadVoteGroupBefore(
+                    group.getUserId(), group.getType(), group.getTargetId(), cutoff);
+            // Another node may have compacted this group since it was read
+            if (deleted == 0) {
+                continue;
+            }
+            int actorCount = Math.toIntExact(group.getActorCount());
+            notificationRepository.insertReadDigest(group.getUserId(), group.getType(), group.getTargetId(),
+                    actorCount, digestMessage(group.getType(), actorCount), group.getLatestCreatedAt());
+            removed += deleted - 1;
+        }
+        return removed;
+    }
+
+    /**
+     * Deletes, or moves to notifications_archive, up to one batch of read notifications older than the cutoff.
+     * Returns the number of rows removed; fewer than {@link #getBatchSize()} means nothing is left.
+     */
+    @Transactional
+    public int purgeBatch(LocalDateTime cutoff) {
+        List<Long> ids = notificationRepository.findReadIdsBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (archive) {
+            notificationRepository.archiveByIds(ids, LocalDateTime.now());
+        }
+        return notificationRepository.deleteByIds(ids);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isArchiving() {
+        return archive;
+    }
+
+    static String digestMessage(JpaNotification.Type type, int actorCount) {
+        String target = switch (type) {
+            case QUESTION_VOTE -> "question";
+            case ANSWER_VOTE -> "answer";
+            case COMMENT_VOTE -> "comment";
+        };
+        return actorCount + " people upvoted your " + target;
+    }
+}
@@ -0,0 +1,83 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Nightly notification cleanup: first merges old read vote notifications into digests, then deletes
+ * (or archives) read notifications past the retention age. Each phase stops after a bounded number of
+ * batches, so a large backlog is worked off over several runs instead of in one long one.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    public record Report(int compactedRows, int purgedRows) {
+    }
+
+    private final NotificationRetention retention;
+    private final boolean enabled;
+    private final long compactAfterHours;
+    private final long maxAgeDays;
+    private final int maxBatchesPerRun;
+
+    public NotificationRetentionJob(NotificationRetention retention,
+                                    @Value("${notification.retention.enabled:true}") boolean enabled,
+                                    @Value("${notification.retention.compact-after-hours:24}") long compactAfterHours,
+                                    @Value("${notification.retention.max-age-days:90}") long maxAgeDays,
+                                    @Value("${notification.retention.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.retention = retention;
+        this.enabled = enabled;
+        this.compactAfterHours = compactAfterHours;
+        this.maxAgeDays = maxAgeDays;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void runOnSchedule() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run();
+        } catch (Exception e) {
+            logger.error("Notification retention run failed: {}", e.getMessage());
+        }
+    }
+
+    public Report run() {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        int compacted = 0;
+        LocalDateTime compactCutoff = now.minusHours(compactAfterHours);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int removed = retention.compactBatch(compactCutoff);
+            compacted += removed;
+            if (removed == 0) {
+                break;
+            }
+        }
+
+        int purged = 0;
+        LocalDateTime purgeCutoff = now.minusDays(maxAgeDays);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int removed = retention.purgeBatch(purgeCutoff);
+            purged += removed;
+            if (removed < retention.getBatchSize()) {
+                break;
+            }
+        }
+
+        logger.info("Notification retention removed {} rows in {} ms: {} merged into digests, {} read notifications older than {} days {}",
+                compacted + purged, System.currentTimeMillis() - started, compacted, purged, maxAgeDays,
+                retention.isArchiving() ? "archived" : "deleted");
+        return new Report(compacted, purged);
+    }
+}
@@ -1,17 +1,14 @@
 package torquehub.torquehub.business.impl;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import torquehub.torquehub.business.interfaces.NotificationService;
-import torquehub.torquehub.controllers.websocketcontrollers.WebSocketNotificationController;
 import torquehub.torquehub.domain.mapper.NotificationMapper;
 import torquehub.torquehub.domain.model.jpa_models.*;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent.TargetType;
 import torquehub.torquehub.domain.request.notification_dtos.*;
 import torquehub.torquehub.domain.request.vote_dtos.VoteAnswerNotificationRequest;
 import torquehub.torquehub.domain.request.vote_dtos.VoteCommentNotificationRequest;
@@ -20,13 +17,11 @@ import torquehub.torquehub.domain.response.notification_dtos.DetailNotificationR
 import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaAnswerRepository;
-import torquehub.torquehub.persistence.jpa.impl.JpaFollowRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaNotificationRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
 import torquehub.torquehub.persistence.repository.UserRepository;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,25 +31,37 @@ public class NotificationServiceImpl implements NotificationService {
     private final JpaNotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
     private final UserRepository userRepository;
-    private final WebSocketNotificationController webSocketNotificationController;
+    private final NotificationOutbox notificationOutbox;
     private final JpaQuestionRepository questionRepository;
     private final JpaAnswerRepository answerRepository;
-    private final JpaFollowRepository followRepository;
+    private final NotificationFanout notificationFanout;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationReadMarker readMarker;
+    private final NotificationCacheEvictor cacheEvictor;
+    private final VoteNotificationCoalescer voteCoalescer;
 
     public NotificationServiceImpl(JpaNotificationRepository notificationRepository,
                                    NotificationMapper notificationMapper,
                                    UserRepository userRepository,
-                                   WebSocketNotificationController webSocketNotificationController,
+                                   NotificationOutbox notificationOutbox,
                                    JpaQuestionRepository questionRepository,
                                    JpaAnswerRepository answerRepository,
-                                   JpaFollowRepository followRepository) {
+                                   NotificationFanout notificationFanout,
+                                   NotificationUnreadCounter unreadCounter,
+                                   NotificationReadMarker readMarker,
+                                   NotificationCacheEvictor cacheEvictor,
+                                   VoteNotificationCoalescer voteCoalescer) {
         this.notificationRepository = notificationRepository;
         this.notificationMapper = notificationMapper;
         this.userRepository = userRepository;
-        this.webSocketNotificationController = webSocketNotificationController;
+        this.notificationOutbox = notificationOutbox;
         this.questionRepository = questionRepository;
         this.answerRepository = answerRepository;
-        this.followRepository = followRepository;
+        this.notificationFanout = notificationFanout;
+        this.unreadCounter = unreadCounter;
+        this.readMarker = readMarker;
+        this.cacheEvictor = cacheEvictor;
+        this.voteCoalescer = voteCoalescer;
     }
 
     private static final String USER_NOT_FOUND = "User not found";
@@ -74,6 +81,34 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
     }
 
+    private JpaNotification saveUnread(JpaNotification jpaNotification) {
+        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
+        unreadCounter.increment(jpaNotification.getJpaUser().getId());
+        cacheEvictor.evictUser(jpaNotification.getJpaUser().getId());
+        return savedNotification;
+    }
+
+    private Optional<NotificationResponse> saveVoteNotification(JpaUser recipient, JpaUser voter, JpaNotification.Type type,
+                                                                Long targetId, String message) {
+        // A vote arriving shortly after another one on the same target joins that notification
+        Optional<NotificationResponse> coalesced = voteCoalescer.coalesce(recipient.getId(), type, targetId);
+        if (coalesced.isPresent()) {
+            // The cached unread lists still show the notification's old digest message
+            cacheEvictor.evictUser(recipient.getId());
+            return coalesced;
+        }
+
+        JpaNotification jpaNotification = createJpaNotification(recipient, voter, message, voter.getPoints());
+        jpaNotification.setType(type);
+        jpaNotification.setTargetId(targetId);
+        JpaNotification savedNotification = saveUnread(jpaNotification);
+
+        // The push is stored with the notification and delivered by the outbox relay after commit
+        notificationOutbox.enqueue(notificationMapper.toResponse(savedNotification));
+
+        return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
+    }
+
     @Override
     @Transactional
     public void notifyAnswerOwner(JpaUser owner, JpaAnswer jpaAnswer, boolean isUpvote, ReputationResponse authorReputation) {
@@ -90,7 +125,7 @@ public class NotificationServiceImpl implements NotificationService {
                 .isRead(false)
                 .build();
 
-        notificationRepository.save(jpaNotification);
+        saveUnread(jpaNotification);
     }
 
     @Override
@@ -102,12 +137,13 @@ public class NotificationServiceImpl implements NotificationService {
                 .orElseThrow(() -> new IllegalArgumentException(VOTER_NOT_FOUND));
 
         JpaNotification jpaNotification = createJpaNotification(user, voter, request.getMessage(), request.getPoints());
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
+        JpaNotification savedNotification = saveUnread(jpaNotification);
 
         return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
     }
 
     @Override
+    @Transactional
     public Optional<NotificationResponse> notifyUserAboutPoints(PointsNotificationRequest pointsRequest) {
 
         JpaUser recipient = userRepository.findById(pointsRequest.getRecipient().getId())
@@ -118,7 +154,7 @@ public class NotificationServiceImpl implements NotificationService {
         String message = String.format("You have gained %d points for %s.", pointsRequest.getPoints(), pointsRequest.getReason());
 
         JpaNotification jpaNotification = createJpaNotification(recipient, voter, message, pointsRequest.getPoints());
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
+        JpaNotification savedNotification = saveUnread(jpaNotification);
 
         return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
     }
@@ -138,20 +174,7 @@ public class NotificationServiceImpl implements NotificationService {
             return Optional.empty();
         }
 
-
-        JpaNotification jpaNotification = createJpaNotification(questionCreator, voter, request.getMessage(), voter.getPoints());
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                NotificationResponse notificationResponse = notificationMapper.toResponse(savedNotification);
-                notifyClients(questionCreator.getId(), notificationResponse);
-            }
-        });
-
-        return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
-
+        return saveVoteNotification(questionCreator, voter, JpaNotification.Type.QUESTION_VOTE, question.getId(), request.getMessage());
     }
 
     @Override
@@ -175,20 +198,7 @@ public class NotificationServiceImpl implements NotificationService {
             return Optional.empty();
         }
 
-        // Create and save the notification
-        JpaNotification jpaNotification = createJpaNotification(answerCreator, voter, request.getMessage(), voter.getPoints());
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
-
-        // Synchronize the notification with WebSocket clients after the transaction
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                NotificationResponse notificationResponse = notificationMapper.toResponse(savedNotification);
-                notifyClients(answerCreator.getId(), notificationResponse);
-            }
-        });
-
-        return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
+        return saveVoteNotification(answerCreator, voter, JpaNotification.Type.ANSWER_VOTE, answer.getId(), request.getMessage());
     }
 
 
@@ -211,16 +221,10 @@ public class NotificationServiceImpl implements NotificationService {
                 .isRead(false)
                 .build();
 
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
+        JpaNotification savedNotification = saveUnread(jpaNotification);
 
-        // Trigger real-time notification through WebSocket after transaction commit
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                NotificationResponse notificationResponse = notificationMapper.toResponse(savedNotification);
-                notifyClients(answerOwner.getId(), notificationResponse);
-            }
-        });
+        // The push is stored with the notification and delivered by the outbox relay after commit
+        notificationOutbox.enqueue(notificationMapper.toResponse(savedNotification));
 
         return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
     }
@@ -233,26 +237,7 @@ public class NotificationServiceImpl implements NotificationService {
         JpaUser voter = userRepository.findById(request.getVoterId())
                 .orElseThrow(() -> new IllegalArgumentException(VOTER_NOT_FOUND));
 
-        JpaNotification jpaNotification = JpaNotification.builder()
-                .jpaUser(commentOwner)
-                .voter(voter)
-                .message(request.getMessage())
-                .points(voter.getPoints())
-                .createdAt(LocalDateTime.now())
-                .isRead(false)
-                .build();
-
-        JpaNotification savedNotification = notificationRepository.save(jpaNotification);
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                NotificationResponse notificationResponse = notificationMapper.toResponse(savedNotification);
-                notifyClients(commentOwner.getId(), notificationResponse);
-            }
-        });
-
-        return Optional.ofNullable(notificationMapper.toResponse(savedNotification));
+        return saveVoteNotification(commentOwner, voter, JpaNotification.Type.COMMENT_VOTE, request.getCommentId(), request.getMessage());
     }
 
     @Override
@@ -277,35 +262,11 @@ public class NotificationServiceImpl implements NotificationService {
     public Optional<NotificationResponse> notifyFollowersAboutNewAnswer(NewAnswerNotificationRequest request) {
         JpaQuestion question = questionRepository.findById(request.getQuestionId())
                 .orElseThrow(() -> new IllegalArgumentException(QUESTION_NOT_FOUND));
-
-        // Find followers of the question who are not muted
-        List<JpaFollow> followers = followRepository.findByQuestionIdAndMutedFalse(question.getId());
-
         JpaUser userWhoAnswered = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException(USER_NOT_FOUND));
 
-        List<JpaNotification> notificationsToSave = new ArrayList<>();
-
-        for (JpaFollow follower : followers) {
-            JpaUser followerUser = follower.getJpaUser();
-            String message = request.getMessage();
-            JpaNotification notification = createJpaNotification(followerUser, userWhoAnswered, message, 0);
-            notificationsToSave.add(notification);
-        }
-
-        // Save all notifications in a batch
-        notificationRepository.saveAll(notificationsToSave);
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                for (JpaNotification savedNotification : notificationsToSave) {
-                    Long followerUserId = savedNotification.getJpaUser().getId();
-                    NotificationResponse response = notificationMapper.toResponse(savedNotification);
-                    notifyClients(followerUserId, response);
-                }
-            }
-        });
+        // Only the fan-out event is written here; the followers are notified by the fan-out worker after commit
+        notificationFanout.enqueue(TargetType.QUESTION, question.getId(), userWhoAnswered.getId(), request.getMessage());
 
         // Returning empty Optional since there’s no specific response expected
         return Optional.empty();
@@ -314,34 +275,11 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional
     public Optional<NotificationResponse> notifyAnswerFollowersAboutNewComment(NewCommentOnAnswerNotificationRequest request) {
-        // Fetch followers who follow the specific answer (not the question)
-        List<JpaFollow> answerFollowers = followRepository.findByAnswerIdAndMutedFalse(request.getAnswerId());
-
         JpaUser userWhoCommented = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException(USER_NOT_FOUND));
 
-        List<JpaNotification> notificationsToSave = new ArrayList<>();
-
-        for (JpaFollow follower : answerFollowers) {
-            JpaUser followerUser = follower.getJpaUser();
-            String message = request.getMessage();
-            JpaNotification notification = createJpaNotification(followerUser, userWhoCommented, message, 0);
-            notificationsToSave.add(notification);
-        }
-
-        // Save all notifications in a batch
-        notificationRepository.saveAll(notificationsToSave);
-
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                for (JpaNotification savedNotification : notificationsToSave) {
-                    Long followerUserId = savedNotification.getJpaUser().getId();
-                    NotificationResponse response = notificationMapper.toResponse(savedNotification);
-                    notifyClients(followerUserId, response);
-                }
-            }
-        });
+        // Followers of the answer (not the question) are notified by the fan-out worker
+        notificationFanout.enqueue(TargetType.ANSWER, request.getAnswerId(), userWhoCommented.getId(), request.getMessage());
 
         // Returning empty Optional as it notifies multiple followers
         return Optional.empty();
@@ -350,32 +288,45 @@ public class NotificationServiceImpl implements NotificationService {
 
 
     @Override
-    @CacheEvict(value = {"topUnreadNotifications", "userNotifications", "top5UnreadNotificationsWithCount"}, key = "#notificationId", allEntries = true)
+    @Transactional
     public boolean markAsRead(Long notificationId) {
         JpaNotification notification = notificationRepository.findById(notificationId);
         if (notification == null) {
             return false;
         }
+        if (notification.isRead()) {
+            return true;
+        }
         notification.setRead(true);
         notificationRepository.save(notification);
+        Long userId = notification.getJpaUser().getId();
+        unreadCounter.decrement(userId, 1);
+        cacheEvictor.evictUser(userId);
         return true;
     }
 
+    /**
+     * Marks every unread notification of the user as read and returns how many were changed.
+     * Not transactional on purpose: each chunk commits on its own to keep row locks short.
+     */
     @Override
-    @CacheEvict(value = {"topUnreadNotifications", "userNotifications", "top5UnreadNotificationsWithCount"}, key = "#userId", allEntries = true)
-    public boolean markAllAsRead(Long userId) {
-        List<JpaNotification> notifications = notificationRepository.findByJpaUserIdAndIsReadFalse(userId);
-        if (notifications.isEmpty()) {
-            return false;
+    public int markAllAsRead(Long userId) {
+        int total = 0;
+        int marked;
+        do {
+            marked = readMarker.markNextChunkAsRead(userId);
+            total += marked;
+        } while (marked >= readMarker.getChunkSize());
+
+        if (total > 0) {
+            cacheEvictor.evictUser(userId);
         }
-        notifications.forEach(notification -> notification.setRead(true));
-        notificationRepository.saveAll(notifications);
-        return true;
+        return total;
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "topUnreadNotifications", key = "#userId")
+    @Cacheable(value = "top5UnreadNotificationsWithCount", key = "#userId")
     public List<DetailNotificationResponse> findTop5UnreadWithCount(Long userId) {
         List<NotificationResponse> unreadNotifications = notificationRepository
                 .findByJpaUserIdAndIsReadFalseOrderByCreatedAtDesc(userId, Pageable.ofSize(5))
@@ -383,7 +334,7 @@ public class NotificationServiceImpl implements NotificationService {
                 .map(notificationMapper::toResponse)
                 .toList();
 
-        List<JpaNotification> totalUnreadCount = notificationRepository.findByJpaUserIdAndIsReadFalse(userId);
+        long totalUnreadCount = unreadCounter.get(userId);
 
         return unreadNotifications.stream()
                 .map(notification -> DetailNotificationResponse.builder()
@@ -394,13 +345,9 @@ public class NotificationServiceImpl implements NotificationService {
                         .points(notification.getPoints())
                         .createdAt(notification.getCreatedAt())
                         .isRead(notification.isRead())
-                        .count(totalUnreadCount.size())  // Setting the total unread count in each response
+                        .count(totalUnreadCount)  // Setting the total unread count in each response
                         .build())
                 .toList();
     }
 
-
-    public void notifyClients(Long userId, NotificationResponse notificationResponse) {
-        webSocketNotificationController.notifyClients(userId, notificationResponse);
-    }
 }
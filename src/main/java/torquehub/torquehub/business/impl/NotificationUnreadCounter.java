@@ -0,0 +1,71 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import torquehub.torquehub.persistence.repository.NotificationUnreadCounterRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Unread notification count per user. The count is stored in its own table and changed by the same transaction
+ * that creates or reads notifications, so the badge never has to count rows; reads are served from the
+ * "unreadNotificationCounts" cache, which is evicted once those transactions commit.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    static final String CACHE_NAME = "unreadNotificationCounts";
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final Cache cache;
+
+    public NotificationUnreadCounter(NotificationUnreadCounterRepository counterRepository, CacheManager cacheManager) {
+        this.counterRepository = counterRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public long get(Long userId) {
+        Long count = cache.get(userId, () -> counterRepository.findUnreadCount(userId));
+        return count != null ? count : 0L;
+    }
+
+    public void increment(Long userId) {
+        counterRepository.adjust(userId, 1);
+        evictAfterCommit(List.of(userId));
+    }
+
+    public void incrementAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        counterRepository.incrementAll(userIds);
+        evictAfterCommit(userIds);
+    }
+
+    public void decrement(Long userId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        counterRepository.adjust(userId, -count);
+        evictAfterCommit(List.of(userId));
+    }
+
+    // Evicting before commit would let a concurrent read cache the old count again until the entry expires
+    private void evictAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userIds.forEach(cache::evict);
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(cache::evict);
+            }
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
+import torquehub.torquehub.domain.response.question_dtos.QuestionDetailResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Caches the part of a question detail page that is the same for every visitor, per question and answer page.
+ * Keys carry a per-question version token, itself stored in the cache; a {@link QuestionContentChangedEvent}
+ * evicts the token after commit, so every cached page of that question is skipped at once without scanning
+ * the cache. Because this is a plain cache eviction, it also reaches the other nodes when two-level caching is on.
+ * The current user's votes, follows and bookmarks are never stored here.
+ */
+@Component
+public class QuestionDetailCache {
+
+    public static final String CACHE_NAME = "questionDetails";
+
+    private static final String VERSION_KEY_PREFIX = "version:";
+
+    private final Cache cache;
+
+    public QuestionDetailCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    public Optional<QuestionDetailResponse> get(Long questionId, Pageable pageable,
+                                                Supplier<Optional<QuestionDetailResponse>> loader) {
+        // The key is taken before loading, so a page read while the question changes lands under the old version
+        String key = key(questionId, pageable);
+        // Concurrent misses share one load; a missing question is reported by exception so nothing is cached
+        try {
+            return Optional.of(cache.get(key, () -> loader.get().orElseThrow(QuestionNotFound::new)));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof QuestionNotFound) {
+                return Optional.empty();
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long questionId) {
+        cache.evict(VERSION_KEY_PREFIX + questionId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionContentChanged(QuestionContentChangedEvent event) {
+        evict(event.getQuestionId());
+    }
+
+    private String key(Long questionId, Pageable pageable) {
+        String page = pageable.isPaged()
+                ? pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort()
+                : "unpaged";
+        return questionId + ":" + version(questionId) + ":" + page;
+    }
+
+    // A random token, so a version created after an eviction can never match one cached before it
+    private String version(Long questionId) {
+        String versionKey = VERSION_KEY_PREFIX + questionId;
+        String version = cache.get(versionKey, String.class);
+        if (version == null) {
+            String candidate = UUID.randomUUID().toString();
+            Cache.ValueWrapper existing = cache.putIfAbsent(versionKey, candidate);
+            version = existing != null && existing.get() != null ? (String) existing.get() : candidate;
+        }
+        return version;
+    }
+
+    private static final class QuestionNotFound extends RuntimeException {
+        private QuestionNotFound() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package torquehub.torquehub.business.impl;
+
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset-paginated question feed: the sort key and id of the last question on the previous page.
+ * Clients only see it as an opaque Base64 token.
+ */
+public final class QuestionFeedCursor {
+
+    public enum Feed {
+        ASKED_TIME("askedTime"),
+        LAST_ACTIVITY("lastActivity"),
+        VOTES("votes"),
+        VIEWS("viewCount");
+
+        private final String sortName;
+
+        Feed(String sortName) {
+            this.sortName = sortName;
+        }
+
+        public String getSortName() {
+            return sortName;
+        }
+
+        public static Feed fromSortName(String sortName) {
+            for (Feed feed : values()) {
+                if (feed.sortName.equals(sortName)) {
+                    return feed;
+                }
+            }
+            throw new IllegalArgumentException("Unknown feed sort: " + sortName);
+        }
+    }
+
+    private static final String SEPARATOR = "|";
+
+    private final Feed feed;
+    private final String sortKey;
+    private final Long id;
+
+    private QuestionFeedCursor(Feed feed, String sortKey, Long id) {
+        this.feed = feed;
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static QuestionFeedCursor after(Feed feed, QuestionFeedKeyProjection lastQuestion) {
+        String sortKey = switch (feed) {
+            case ASKED_TIME, LAST_ACTIVITY -> lastQuestion.getTimeKey().toString();
+            case VOTES, VIEWS -> String.valueOf(lastQuestion.getCountKey());
+        };
+        return new QuestionFeedCursor(feed, sortKey, lastQuestion.getId());
+    }
+
+    public static QuestionFeedCursor decode(Feed feed, String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3 || !parts[0].equals(feed.name())) {
+                throw new IllegalArgumentException("Invalid cursor for feed " + feed.getSortName());
+            }
+            QuestionFeedCursor cursor = new QuestionFeedCursor(feed, parts[1], Long.valueOf(parts[2]));
+            // Parse the key once here so a tampered cursor fails as a bad request rather than inside the query
+            if (feed == Feed.ASKED_TIME || feed == Feed.LAST_ACTIVITY) {
+                cursor.getTimeKey();
+            } else {
+                cursor.getCountKey();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor for feed " + feed.getSortName());
+        }
+    }
+
+    public String encode() {
+        String raw = feed.name() + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Feed getFeed() {
+        return feed;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getTimeKey() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public Integer getCountKey() {
+        return Integer.valueOf(sortKey);
+    }
+}
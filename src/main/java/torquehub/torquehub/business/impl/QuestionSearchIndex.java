@@ -0,0 +1,393 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import torquehub.torquehub.domain.model.jpa_models.JpaAnswer;
+import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Embedded inverted index over question titles, descriptions and answer texts.
+ * Queries are scored with BM25 and boosted by votes and views, so searching never scans the LONGTEXT columns in MySQL.
+ * The index is kept current by the question and answer services, and rebuilt in the background at startup and
+ * periodically so the vote and view counts used for ranking are refreshed.
+ */
+@Component
+public class QuestionSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "how", "i", "in", "is", "it",
+            "my", "of", "on", "or", "the", "this", "to", "was", "what", "when", "with");
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final double voteWeight;
+    private final double viewWeight;
+    private final Executor rebuildExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    private List<Consumer<IndexState>> replayDuringRebuild;
+    private volatile boolean ready;
+
+    @Autowired
+    public QuestionSearchIndex(QuestionRepository questionRepository,
+                               AnswerRepository answerRepository,
+                               @Value("${search.ranking.vote-weight:0.1}") double voteWeight,
+                               @Value("${search.ranking.view-weight:0.02}") double viewWeight) {
+        this(questionRepository, answerRepository, voteWeight, viewWeight, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "question-search-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    QuestionSearchIndex(QuestionRepository questionRepository, AnswerRepository answerRepository,
+                        double voteWeight, double viewWeight, Executor rebuildExecutor) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.voteWeight = voteWeight;
+        this.viewWeight = viewWeight;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return state.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    // Also runs periodically so vote and view counts changed since the last build are picked up for ranking
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.refresh-interval-ms:600000}",
+            initialDelayString = "${search.index.refresh-interval-ms:600000}")
+    public void refresh() {
+        requestRebuild();
+    }
+
+    /**
+     * Starts a rebuild on the background thread unless one is already running.
+     *
+     * @return whether a new rebuild was started
+     */
+    public boolean requestRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    logger.error("Failed to build question search index: {}", e.getMessage());
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+            logger.warn("Question search index rebuild rejected: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reloads the whole index from the database in id-ordered batches. Searches keep using the old index
+     * until the new one is swapped in; changes made meanwhile are replayed onto the new one.
+     */
+    synchronized int rebuild() {
+        lock.writeLock().lock();
+        try {
+            replayDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexState rebuilt = new IndexState();
+        try {
+            Long lastId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = questionRepository.findSearchDocuments(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    rebuilt.putQuestion(lastId, (String) row[1], (String) row[2], (Integer) row[3], (Integer) row[4]);
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            lastId = 0L;
+            do {
+                rows = answerRepository.findSearchDocuments(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    lastId = (Long) row[0];
+                    rebuilt.putAnswer((Long) row[1], lastId, (String) row[2]);
+                }
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replayDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            replayDuringRebuild.forEach(change -> change.accept(rebuilt));
+            replayDuringRebuild = null;
+            state = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Question search index built with {} questions", rebuilt.documents.size());
+        return rebuilt.documents.size();
+    }
+
+    public void indexQuestion(JpaQuestion question) {
+        Long id = question.getId();
+        String title = question.getTitle();
+        String description = question.getDescription();
+        int votes = question.getVotes();
+        int views = question.getViews();
+        afterCommit(index -> index.putQuestion(id, title, description, votes, views));
+    }
+
+    public void removeQuestion(Long questionId) {
+        afterCommit(index -> index.removeQuestion(questionId));
+    }
+
+    public void indexAnswer(JpaAnswer answer) {
+        if (answer == null || answer.getJpaQuestion() == null) {
+            return;
+        }
+        Long questionId = answer.getJpaQuestion().getId();
+        Long answerId = answer.getId();
+        String text = answer.getText();
+        afterCommit(index -> index.putAnswer(questionId, answerId, text));
+    }
+
+    public void removeAnswer(Long answerId) {
+        afterCommit(index -> index.removeAnswer(answerId));
+    }
+
+    /**
+     * Ids of the questions matching any term of the query, best match first.
+     */
+    public Page<Long> search(String query, Pageable pageable) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = state.documents.size();
+            double averageLength = documentCount == 0 ? 1 : Math.max(1.0, (double) state.totalLength / documentCount);
+            for (String term : terms) {
+                Map<Long, Integer> posting = state.postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    Document document = state.documents.get(entry.getKey());
+                    int frequency = entry.getValue();
+                    double norm = K1 * (1 - B + B * document.length / averageLength);
+                    scores.merge(entry.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+            scores.replaceAll((id, score) -> score * popularityBoost(state.documents.get(id)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(ranked.subList(from, to), pageable, ranked.size());
+    }
+
+    private double popularityBoost(Document document) {
+        return 1 + voteWeight * Math.log1p(Math.max(document.votes, 0)) + viewWeight * Math.log1p(Math.max(document.views, 0));
+    }
+
+    private void afterCommit(Consumer<IndexState> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (replayDuringRebuild != null) {
+                replayDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Map<String, Integer> termFrequencies(String text, int weight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static final class Document {
+        private Map<String, Integer> questionTerms = Map.of();
+        private final Map<Long, Map<String, Integer>> answerTerms = new HashMap<>();
+        private Map<String, Integer> terms = Map.of();
+        private int length;
+        private int votes;
+        private int views;
+    }
+
+    /**
+     * Mutable index data; only touched while holding the write lock, or before it is published by a rebuild.
+     */
+    private static final class IndexState {
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Long> answerOwners = new HashMap<>();
+        private long totalLength;
+
+        void putQuestion(Long questionId, String title, String description, int votes, int views) {
+            Document document = documents.computeIfAbsent(questionId, id -> new Document());
+            Map<String, Integer> questionTerms = termFrequencies(title, TITLE_WEIGHT);
+            termFrequencies(description, 1).forEach((term, count) -> questionTerms.merge(term, count, Integer::sum));
+            document.questionTerms = questionTerms;
+            document.votes = votes;
+            document.views = views;
+            reindex(questionId, document);
+        }
+
+        void removeQuestion(Long questionId) {
+            Document document = documents.remove(questionId);
+            if (document == null) {
+                return;
+            }
+            unpost(questionId, document);
+            totalLength -= document.length;
+            document.answerTerms.keySet().forEach(answerOwners::remove);
+        }
+
+        void putAnswer(Long questionId, Long answerId, String text) {
+            Document document = documents.computeIfAbsent(questionId, id -> new Document());
+            document.answerTerms.put(answerId, termFrequencies(text, 1));
+            answerOwners.put(answerId, questionId);
+            reindex(questionId, document);
+        }
+
+        void removeAnswer(Long answerId) {
+            Long questionId = answerOwners.remove(answerId);
+            Document document = questionId == null ? null : documents.get(questionId);
+            if (document != null && document.answerTerms.remove(answerId) != null) {
+                reindex(questionId, document);
+            }
+        }
+
+        private void reindex(Long questionId, Document document) {
+            unpost(questionId, document);
+            totalLength -= document.length;
+
+            Map<String, Integer> terms = new HashMap<>(document.questionTerms);
+            for (Map<String, Integer> answer : document.answerTerms.values()) {
+                answer.forEach((term, count) -> terms.merge(term, count, Integer::sum));
+            }
+            document.terms = terms;
+            document.length = terms.values().stream().mapToInt(Integer::intValue).sum();
+            totalLength += document.length;
+            terms.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(questionId, count));
+        }
+
+        private void unpost(Long questionId, Document document) {
+            for (String term : document.terms.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(questionId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package torquehub.torquehub.business.impl;
 
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.exeption.question_exeptions.QuestionCreationException;
 import torquehub.torquehub.business.interfaces.QuestionService;
 import torquehub.torquehub.business.interfaces.ReputationService;
@@ -16,23 +17,29 @@ import torquehub.torquehub.domain.mapper.AnswerMapper;
 import torquehub.torquehub.domain.mapper.CommentMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapperContext;
+import torquehub.torquehub.domain.mapper.UserInteractionState;
+import torquehub.torquehub.domain.model.jpa_models.JpaAnswer;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
-import torquehub.torquehub.domain.model.jpa_models.JpaVote;
 import torquehub.torquehub.domain.request.question_dtos.QuestionCreateRequest;
 import torquehub.torquehub.domain.request.question_dtos.QuestionUpdateRequest;
 import torquehub.torquehub.domain.request.reputation_dtos.ReputationUpdateRequest;
+import torquehub.torquehub.domain.response.answer_dtos.AnswerResponse;
+import torquehub.torquehub.domain.response.comment_dtos.CommentResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionDetailResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.*;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,6 +56,11 @@ public class QuestionServiceImpl implements QuestionService {
     private final VoteService voteService;
     private final JpaFollowRepository followRepository;
     private final JpaBookmarkRepository bookmarkRepository;
+    private final JpaAnswerRepository answerRepository;
+    private final QuestionSearchIndex searchIndex;
+    private final QuestionViewCounter viewCounter;
+    private final QuestionDetailCache questionDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public QuestionServiceImpl(JpaQuestionRepository questionRepository,
                                JpaTagRepository tagRepository,
@@ -60,7 +72,12 @@ public class QuestionServiceImpl implements QuestionService {
                                CommentMapper commentMapper,
                                VoteService voteService,
                                JpaFollowRepository followRepository,
-                               JpaBookmarkRepository bookmarkRepository) {
+                               JpaBookmarkRepository bookmarkRepository,
+                               JpaAnswerRepository answerRepository,
+                               QuestionSearchIndex searchIndex,
+                               QuestionViewCounter viewCounter,
+                               QuestionDetailCache questionDetailCache,
+                               ApplicationEventPublisher eventPublisher) {
         this.questionRepository = questionRepository;
         this.tagRepository = tagRepository;
         this.userRepository = userRepository;
@@ -72,6 +89,11 @@ public class QuestionServiceImpl implements QuestionService {
         this.followRepository = followRepository;
         this.bookmarkRepository = bookmarkRepository;
         this.answerMapper = answerMapper;
+        this.answerRepository = answerRepository;
+        this.searchIndex = searchIndex;
+        this.viewCounter = viewCounter;
+        this.questionDetailCache = questionDetailCache;
+        this.eventPublisher = eventPublisher;
     }
 
     private static final String QUESTION_ID_PREFIX = "Question with ID ";
@@ -103,6 +125,7 @@ public class QuestionServiceImpl implements QuestionService {
                     .build();
 
             JpaQuestion savedJpaQuestion = questionRepository.save(jpaQuestion);
+            searchIndex.indexQuestion(savedJpaQuestion);
 
             ReputationUpdateRequest reputationUpdateRequest = new ReputationUpdateRequest(jpaUser.getId(), ReputationConstants.POINTS_NEW_QUESTION);
             ReputationResponse reputationResponse = reputationService.updateReputationForNewQuestion(reputationUpdateRequest);
@@ -135,6 +158,8 @@ public class QuestionServiceImpl implements QuestionService {
                     throw new IllegalArgumentException("Error updating reputation for user with ID " + jpaUser.getId());
                 }
                 questionRepository.deleteById(questionId);
+                searchIndex.removeQuestion(questionId);
+                eventPublisher.publishEvent(new QuestionContentChangedEvent(questionId));
 
                 return true;
             } else {
@@ -147,7 +172,8 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     @Override
-    @CachePut(value = "questions", key = "#questionId")
+    // Evicted rather than put: puts are not broadcast, so other nodes would keep serving their old L1 copy
+    @CacheEvict(value = "questions", key = "#questionId")
     @Transactional
     public boolean updateQuestion(Long questionId, QuestionUpdateRequest questionUpdateRequest) {
         try{
@@ -164,6 +190,8 @@ public class QuestionServiceImpl implements QuestionService {
 
                 questionRepository.save(existingJpaQuestion);
                 existingJpaQuestion.setLastActivityTime(LocalDateTime.now());
+                searchIndex.indexQuestion(existingJpaQuestion);
+                eventPublisher.publishEvent(new QuestionContentChangedEvent(questionId));
                 return true;
             } else {
                 throw new IllegalArgumentException(QUESTION_ID_PREFIX + questionId + NOT_FOUND_SUFFIX);
@@ -176,51 +204,63 @@ public class QuestionServiceImpl implements QuestionService {
 
 
     @Override
-    @Cacheable(value = "questionDetailsByIdAndUser", key = "#questionId + '-' + #userId")
+    @Transactional
     public Optional<QuestionDetailResponse> getQuestionbyId(Long questionId, Pageable pageable) {
-        return questionRepository.findById(questionId)
-                .map(question -> {
-                    QuestionMapperContext context = new QuestionMapperContext(commentMapper, answerMapper, bookmarkRepository, followRepository, voteRepository, null, pageable);
-                    return questionMapper.toDetailResponse(question, context);
-                });
+        return questionDetailCache.get(questionId, pageable, () -> loadSharedQuestionDetail(questionId, pageable));
     }
 
     @Override
-    @Cacheable(value = "questionDetailsByIdAndUser")
     @Transactional
     public Optional<QuestionDetailResponse> getQuestionbyId(Long questionId, Pageable pageable, Long userId) {
+        Optional<QuestionDetailResponse> shared = getQuestionbyId(questionId, pageable);
+        if (userId == null) {
+            return shared;
+        }
+        return shared.map(detail -> withUserInteractions(detail, userId, pageable));
+    }
+
+    // The part of the page that is the same for every visitor, i.e. mapped without a user
+    private Optional<QuestionDetailResponse> loadSharedQuestionDetail(Long questionId, Pageable pageable) {
         return questionRepository.findById(questionId)
                 .map(question -> {
-                    QuestionMapperContext context = new QuestionMapperContext(commentMapper, answerMapper, bookmarkRepository, followRepository, voteRepository, userId, pageable);
-                    QuestionDetailResponse questionDetailResponse = questionMapper.toDetailResponse(question, context);
-
-                    if (userId != null) {
-                        // Retrieve the user's vote status on the question
-                        Optional<JpaVote> userVoteOptional = voteRepository.findByUserAndJpaQuestion(userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("User not found")), question);
-                        String userVote = userVoteOptional.map(vote -> vote.isUpvote() ? "up" : "down").orElse(null);
-                        questionDetailResponse.setUserVote(userVote);
-
-                        // Check follow and bookmark status
-                        boolean isFollowing = followRepository.findByUserIdAndQuestionId(userId, questionId).isPresent();
-                        boolean isBookmarked = bookmarkRepository.findByUserIdAndJpaQuestionId(userId, questionId).isPresent();
-                        questionDetailResponse.setIsFollowing(isFollowing);
-                        questionDetailResponse.setIsBookmarked(isBookmarked);
-                    }
-                    return questionDetailResponse;
+                    // Answers are paged and sorted in SQL so only the visible page is loaded and mapped
+                    Page<JpaAnswer> answerPage = answerRepository.findByQuestionId(questionId, pageable);
+                    QuestionMapperContext context = new QuestionMapperContext(commentMapper, answerMapper, bookmarkRepository, followRepository, voteRepository, null, pageable, answerPage);
+                    return questionMapper.toDetailResponse(question, context);
                 });
     }
 
+    private QuestionDetailResponse withUserInteractions(QuestionDetailResponse shared, Long userId, Pageable pageable) {
+        List<AnswerResponse> answers = shared.getAnswers() == null ? List.of() : shared.getAnswers().getContent();
+        List<Long> answerIds = answers.stream().map(AnswerResponse::getId).toList();
+        List<Long> commentIds = answers.stream()
+                .filter(answer -> answer.getComments() != null)
+                .flatMap(answer -> answer.getComments().stream())
+                .map(CommentResponse::getId)
+                .toList();
+        QuestionMapperContext context = new QuestionMapperContext(commentMapper, answerMapper, bookmarkRepository, followRepository, voteRepository, userId, pageable);
+        UserInteractionState interactionState = context.loadInteractionState(answerIds, commentIds);
+
+        Long questionId = shared.getId();
+        String userVote = voteRepository.findByUserIdAndQuestionId(userId, questionId)
+                .map(vote -> vote.isUpvote() ? "up" : "down")
+                .orElse(null);
+        boolean isFollowing = followRepository.findByUserIdAndQuestionId(userId, questionId).isPresent();
+        boolean isBookmarked = bookmarkRepository.findByUserIdAndJpaQuestionId(userId, questionId).isPresent();
+        return questionMapper.withUserInteractions(shared, interactionState, userVote, isFollowing, isBookmarked);
+    }
+
     @Override
-    @Cacheable(value = "allQuestionsList", key = "#pageable.pageNumber")
+    @Cacheable(value = "allQuestionsList", key = "#pageable.pageNumber", sync = true)
     public Page<QuestionSummaryResponse> getAllQuestions(Pageable pageable) {
-        Page<JpaQuestion> questionsPage = questionRepository.findAll(pageable);
+        Page<QuestionSummaryProjection> questionsPage = questionRepository.findSummaries(pageable);
         return questionsPage.map(questionMapper::toSummaryResponse);
     }
 
     @Override
-    @Cacheable(value = "userQuestions", key = "#userId")
+    @Cacheable(value = "userQuestions", key = "#userId", sync = true)
     public Optional<List<QuestionSummaryResponse>> getQuestionsByUser(Long userId) {
-        List<JpaQuestion> jpaQuestions = questionRepository.findByJpaUserId(userId);
+        List<QuestionSummaryProjection> jpaQuestions = questionRepository.findSummariesByUserId(userId);
 
         if (jpaQuestions.isEmpty()) {
             return Optional.empty();
@@ -248,16 +288,9 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     @Override
-    public boolean incrementQuestionView(Long questionId) {
-        try {
-            JpaQuestion jpaQuestion = questionRepository.findById(questionId)
-                    .orElseThrow(() -> new IllegalArgumentException(QUESTION_ID_PREFIX + questionId + NOT_FOUND_SUFFIX));
-            jpaQuestion.setViews(jpaQuestion.getViews() + 1);
-            questionRepository.save(jpaQuestion);
-            return true;
-        } catch (Exception e) {
-            throw new QuestionCreationException("Error incrementing question view count: " + e.getMessage(),e);
-        }
+    public boolean incrementQuestionView(Long questionId, String viewerKey) {
+        // Views are buffered and flushed in batches by QuestionViewCounter instead of saving the question here
+        return viewCounter.record(questionId, viewerKey);
     }
 
     @Override
@@ -266,17 +299,19 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     private Set<JpaTag> convertTagNamesToTags(Set<String> tagNames) {
-        return tagNames.stream()
-                .map(tagName -> {
-                    JpaTag tag = tagRepository.findByName(tagName)
-                            .orElseThrow(() -> new IllegalArgumentException("Tag not found: " + tagName));
-
-                    tag.setUsageCount(tag.getUsageCount() + 1);
-                    tagRepository.save(tag);
+        // Resolve every tag in one query, then bump all usage counts with a single UPDATE
+        Set<JpaTag> jpaTags = new HashSet<>(tagRepository.findByNameIn(tagNames));
+        // MySQL matches names case-insensitively, so compare the same way
+        Set<String> foundNames = jpaTags.stream().map(JpaTag::getName)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER)));
+        for (String tagName : tagNames) {
+            if (!foundNames.contains(tagName)) {
+                throw new IllegalArgumentException("Tag not found: " + tagName);
+            }
+        }
 
-                    return tag;
-                })
-                .collect(Collectors.toSet());
+        tagRepository.incrementUsageCount(jpaTags.stream().map(JpaTag::getId).toList());
+        return jpaTags;
     }
 
 
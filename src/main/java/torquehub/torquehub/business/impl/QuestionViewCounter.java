@@ -0,0 +1,95 @@
+package torquehub.torquehub.business.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts question views in memory and writes them in batches, so reading a question is no longer a write.
+ * Repeat views by the same viewer within the dedup window are ignored.
+ */
+@Component
+public class QuestionViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionViewCounter.class);
+    private static final int MAX_IDS_PER_UPDATE = 1000;
+
+    private final QuestionRepository questionRepository;
+    private final ConcurrentHashMap<Long, Integer> pendingViews = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> recentViewers;
+
+    public QuestionViewCounter(QuestionRepository questionRepository,
+                               @Value("${question.views.dedup-window-seconds:1800}") long dedupWindowSeconds,
+                               @Value("${question.views.dedup-max-entries:100000}") long dedupMaxEntries) {
+        this.questionRepository = questionRepository;
+        this.recentViewers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(dedupWindowSeconds))
+                .maximumSize(dedupMaxEntries)
+                .build();
+    }
+
+    /**
+     * Records a view of the question by the given viewer (user id or client address).
+     * Returns false when the same viewer already counted within the window.
+     */
+    public boolean record(Long questionId, String viewerKey) {
+        if (viewerKey != null && recentViewers.asMap().putIfAbsent(questionId + "|" + viewerKey, Boolean.TRUE) != null) {
+            return false;
+        }
+        pendingViews.merge(questionId, 1, Integer::sum);
+        return true;
+    }
+
+    public int getPendingQuestionCount() {
+        return pendingViews.size();
+    }
+
+    @Scheduled(fixedDelayString = "${question.views.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        // Questions with the same number of new views share one UPDATE ... WHERE id IN (...)
+        Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+        for (Long id : pendingViews.keySet()) {
+            Integer delta = pendingViews.remove(id);
+            if (delta != null && delta > 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        }
+        int statements = 0;
+        for (Map.Entry<Integer, List<Long>> entry : idsByDelta.entrySet()) {
+            int delta = entry.getKey();
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<Long> batch = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+                try {
+                    questionRepository.incrementViews(batch, delta);
+                    statements++;
+                } catch (Exception e) {
+                    batch.forEach(id -> pendingViews.merge(id, delta, Integer::sum));
+                    logger.error("Failed to flush {} question view counters: {}", batch.size(), e.getMessage());
+                }
+            }
+        }
+        logger.debug("Flushed question view counters in {} statements", statements);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
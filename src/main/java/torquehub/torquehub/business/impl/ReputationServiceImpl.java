@@ -3,6 +3,8 @@ package torquehub.torquehub.business.impl;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import torquehub.torquehub.business.interfaces.ReputationService;
 import torquehub.torquehub.domain.ReputationConstants;
 import torquehub.torquehub.domain.mapper.ReputationMapper;
@@ -11,6 +13,8 @@ import torquehub.torquehub.domain.request.reputation_dtos.ReputationUpdateReques
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaUserRepository;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -19,6 +23,8 @@ public class ReputationServiceImpl  implements ReputationService {
     private final JpaUserRepository userRepository;
     private final ReputationMapper reputationMapper;
 
+    private static final String PENDING_DELTAS_KEY = ReputationServiceImpl.class.getName() + ".pendingDeltas";
+
     public ReputationServiceImpl(JpaUserRepository userRepository, ReputationMapper reputationMapper) {
         this.userRepository = userRepository;
         this.reputationMapper = reputationMapper;
@@ -137,24 +143,73 @@ public class ReputationServiceImpl  implements ReputationService {
         }
     }
 
+    @Override
+    public void deferReputationUpdate(ReputationUpdateRequest reputationUpdateRequest) {
+        Long userId = reputationUpdateRequest.getUserId();
+        int points = reputationUpdateRequest.getPoints();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDelta(userId, points);
+            return;
+        }
+        // Deltas for the same user are summed and written as one UPDATE just before the transaction commits
+        pendingDeltas().merge(userId, points, Integer::sum);
+    }
+
     private ReputationResponse updateReputation(Long userId, int points, String action) {
         try {
-            Optional<JpaUser> userOptional = userRepository.findById(userId);
-            if(userOptional.isPresent()) {
-                JpaUser jpaUser = userOptional.get();
+            // Fold in anything deferred for this user so the returned total is up to date
+            int newPoints = applyDelta(userId, points + takePendingDelta(userId));
+            return reputationMapper.toResponse(userId, newPoints, action);
+        }catch (Exception e) {
+            throw new IllegalArgumentException("Error updating reputation for user with ID " + userId + ": " + e.getMessage());
+        }
+    }
 
-                int newPoints = jpaUser.getPoints() + points;
+    private int applyDelta(Long userId, int delta) {
+        return userRepository.addPoints(userId, delta)
+                .orElseThrow(() -> new IllegalArgumentException("User with ID " + userId + " not found."));
+    }
 
-                jpaUser.setPoints(newPoints);
-                userRepository.save(jpaUser);
+    private int takePendingDelta(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return 0;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, Integer> deltas = (Map<Long, Integer>) TransactionSynchronizationManager.getResource(PENDING_DELTAS_KEY);
+        if (deltas == null) {
+            return 0;
+        }
+        Integer pending = deltas.remove(userId);
+        return pending == null ? 0 : pending;
+    }
 
-                return reputationMapper.toResponse(jpaUser, action, points);
-            }else {
-                throw new IllegalArgumentException("User with ID " + userId + " not found.");
-            }
-        }catch (Exception e) {
-            throw new IllegalArgumentException("Error updating reputation for user with ID " + userId + ": " + e.getMessage());
+    @SuppressWarnings("unchecked")
+    private Map<Long, Integer> pendingDeltas() {
+        Map<Long, Integer> deltas = (Map<Long, Integer>) TransactionSynchronizationManager.getResource(PENDING_DELTAS_KEY);
+        if (deltas != null) {
+            return deltas;
         }
+
+        Map<Long, Integer> newDeltas = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_DELTAS_KEY, newDeltas);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                newDeltas.forEach((userId, delta) -> {
+                    if (delta != 0 && !userRepository.incrementPoints(userId, delta)) {
+                        throw new IllegalArgumentException("User with ID " + userId + " not found.");
+                    }
+                });
+                newDeltas.clear();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS_KEY);
+            }
+        });
+        return newDeltas;
     }
 
 
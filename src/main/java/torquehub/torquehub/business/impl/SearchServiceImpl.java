@@ -0,0 +1,58 @@
+package torquehub.torquehub.business.impl;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import torquehub.torquehub.business.interfaces.SearchService;
+import torquehub.torquehub.domain.mapper.QuestionMapper;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private final QuestionSearchIndex searchIndex;
+    private final JpaQuestionRepository questionRepository;
+    private final QuestionMapper questionMapper;
+
+    public SearchServiceImpl(QuestionSearchIndex searchIndex, JpaQuestionRepository questionRepository, QuestionMapper questionMapper) {
+        this.searchIndex = searchIndex;
+        this.questionRepository = questionRepository;
+        this.questionMapper = questionMapper;
+    }
+
+    @Override
+    public Page<QuestionSummaryResponse> searchQuestions(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+
+        Page<Long> hits = searchIndex.search(query, pageable);
+        if (hits.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotalElements());
+        }
+
+        // Only the summary columns of the matched page are read from MySQL, by primary key
+        Map<Long, QuestionSummaryProjection> summaries = questionRepository.findSummariesByIds(hits.getContent()).stream()
+                .collect(Collectors.toMap(QuestionSummaryProjection::getId, Function.identity()));
+        List<QuestionSummaryResponse> content = hits.getContent().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(questionMapper::toSummaryResponse)
+                .toList();
+        return new PageImpl<>(content, pageable, hits.getTotalElements());
+    }
+
+    @Override
+    public boolean rebuildIndex() {
+        return searchIndex.requestRebuild();
+    }
+}
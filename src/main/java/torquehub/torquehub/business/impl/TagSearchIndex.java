@@ -0,0 +1,312 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+import torquehub.torquehub.persistence.repository.TagRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * In-process index for tag autocomplete. Tag names are kept in a suffix array, so a case-insensitive
+ * "name contains" lookup is a binary search instead of a LIKE '%q%' scan in MySQL.
+ * Results are ranked by usage count.
+ */
+@Component
+public class TagSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagSearchIndex.class);
+
+    private final TagRepository tagRepository;
+
+    private final Map<Long, Integer> usageCounts = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.build(Map.of());
+    private volatile boolean ready;
+    // Non-null while a rebuild is loading tags; guarded by this
+    private List<Runnable> changesDuringRebuild;
+
+    public TagSearchIndex(TagRepository tagRepository) {
+        this.tagRepository = tagRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Also runs periodically so usage counts bumped by new questions are picked up for ranking
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tag.search-index.refresh-interval-ms:300000}",
+            initialDelayString = "${tag.search-index.refresh-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                List<JpaTag> tags = tagRepository.findAll();
+                Map<Long, String> names = new HashMap<>();
+                synchronized (this) {
+                    usageCounts.clear();
+                    for (JpaTag tag : tags) {
+                        names.put(tag.getId(), tag.getName());
+                        usageCounts.put(tag.getId(), tag.getUsageCount());
+                    }
+                    snapshot = Snapshot.build(names);
+                    // Changes committed while findAll() was reading may be missing from its result
+                    changesDuringRebuild.forEach(Runnable::run);
+                }
+                ready = true;
+                logger.info("Tag search index built with {} tags", tags.size());
+            } catch (Exception e) {
+                logger.error("Failed to build tag search index: {}", e.getMessage());
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    public void put(JpaTag tag) {
+        afterCommit(() -> apply(() -> {
+            usageCounts.put(tag.getId(), tag.getUsageCount());
+            snapshot = snapshot.with(tag.getId(), tag.getName());
+        }));
+    }
+
+    public void remove(Long tagId) {
+        afterCommit(() -> apply(() -> {
+            usageCounts.remove(tagId);
+            snapshot = snapshot.without(tagId);
+        }));
+    }
+
+    private synchronized void apply(Runnable change) {
+        change.run();
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * Tags whose name contains the query, ignoring case, most used first.
+     * A blank query matches every tag.
+     */
+    public List<JpaTag> search(String query, int limit) {
+        Snapshot current = snapshot;
+        Set<Long> matches = (query == null || query.isBlank())
+                ? current.allIds()
+                : current.idsContaining(query.toLowerCase(Locale.ROOT));
+
+        return matches.stream()
+                .sorted(Comparator.comparing((Long id) -> usageCounts.getOrDefault(id, 0)).reversed()
+                        .thenComparing(id -> current.nameOf(id)))
+                .limit(limit)
+                .map(id -> JpaTag.builder()
+                        .id(id)
+                        .name(current.nameOf(id))
+                        .usageCount(usageCounts.getOrDefault(id, 0))
+                        .build())
+                .toList();
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Immutable view of the tag names. Every suffix of every lower-cased name is sorted,
+     * so all names containing a query sit in one contiguous run of suffixes starting with it.
+     * Single-tag changes copy the arrays and insert or drop that tag's suffixes in place instead of sorting again.
+     */
+    private static final class Snapshot {
+
+        private final Long[] ids;
+        private final String[] originalNames;
+        private final String[] lowerNames;
+        private final Map<Long, Integer> positions;
+        private final int[] suffixTag;
+        private final int[] suffixOffset;
+
+        private Snapshot(Long[] ids, String[] originalNames, String[] lowerNames, int[] suffixTag, int[] suffixOffset) {
+            this.ids = ids;
+            this.originalNames = originalNames;
+            this.lowerNames = lowerNames;
+            this.suffixTag = suffixTag;
+            this.suffixOffset = suffixOffset;
+            this.positions = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                positions.put(ids[i], i);
+            }
+        }
+
+        static Snapshot build(Map<Long, String> names) {
+            int size = names.size();
+            Long[] ids = new Long[size];
+            String[] originalNames = new String[size];
+            String[] lowerNames = new String[size];
+            List<int[]> suffixes = new ArrayList<>();
+            int index = 0;
+            for (Map.Entry<Long, String> entry : names.entrySet()) {
+                ids[index] = entry.getKey();
+                originalNames[index] = entry.getValue();
+                lowerNames[index] = entry.getValue().toLowerCase(Locale.ROOT);
+                for (int offset = 0; offset < lowerNames[index].length(); offset++) {
+                    suffixes.add(new int[]{index, offset});
+                }
+                index++;
+            }
+            suffixes.sort((a, b) -> compareSuffix(lowerNames[a[0]], a[1], lowerNames[b[0]], b[1]));
+
+            int[] suffixTag = new int[suffixes.size()];
+            int[] suffixOffset = new int[suffixes.size()];
+            for (int i = 0; i < suffixes.size(); i++) {
+                suffixTag[i] = suffixes.get(i)[0];
+                suffixOffset[i] = suffixes.get(i)[1];
+            }
+            return new Snapshot(ids, originalNames, lowerNames, suffixTag, suffixOffset);
+        }
+
+        Snapshot with(Long id, String name) {
+            Integer existing = positions.get(id);
+            if (existing != null) {
+                return originalNames[existing].equals(name) ? this : without(id).with(id, name);
+            }
+            int tag = ids.length;
+            Long[] newIds = Arrays.copyOf(ids, tag + 1);
+            String[] newOriginalNames = Arrays.copyOf(originalNames, tag + 1);
+            String[] newLowerNames = Arrays.copyOf(lowerNames, tag + 1);
+            String lower = name.toLowerCase(Locale.ROOT);
+            newIds[tag] = id;
+            newOriginalNames[tag] = name;
+            newLowerNames[tag] = lower;
+
+            // Inserting the new suffixes in order means each one's position is at or after the previous one's
+            int[] offsets = IntStream.range(0, lower.length()).boxed()
+                    .sorted((a, b) -> compareSuffix(lower, a, lower, b))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int[] newSuffixTag = new int[suffixTag.length + offsets.length];
+            int[] newSuffixOffset = new int[newSuffixTag.length];
+            int copied = 0;
+            int written = 0;
+            for (int offset : offsets) {
+                int insertAt = lowerBound(lower, offset);
+                System.arraycopy(suffixTag, copied, newSuffixTag, written, insertAt - copied);
+                System.arraycopy(suffixOffset, copied, newSuffixOffset, written, insertAt - copied);
+                written += insertAt - copied;
+                copied = insertAt;
+                newSuffixTag[written] = tag;
+                newSuffixOffset[written] = offset;
+                written++;
+            }
+            System.arraycopy(suffixTag, copied, newSuffixTag, written, suffixTag.length - copied);
+            System.arraycopy(suffixOffset, copied, newSuffixOffset, written, suffixOffset.length - copied);
+            return new Snapshot(newIds, newOriginalNames, newLowerNames, newSuffixTag, newSuffixOffset);
+        }
+
+        Snapshot without(Long id) {
+            Integer position = positions.get(id);
+            if (position == null) {
+                return this;
+            }
+            int removed = position;
+            int[] newSuffixTag = new int[suffixTag.length - lowerNames[removed].length()];
+            int[] newSuffixOffset = new int[newSuffixTag.length];
+            int written = 0;
+            for (int i = 0; i < suffixTag.length; i++) {
+                if (suffixTag[i] == removed) {
+                    continue;
+                }
+                // Tags after the removed one move down a slot
+                newSuffixTag[written] = suffixTag[i] > removed ? suffixTag[i] - 1 : suffixTag[i];
+                newSuffixOffset[written] = suffixOffset[i];
+                written++;
+            }
+            return new Snapshot(withoutIndex(ids, removed), withoutIndex(originalNames, removed),
+                    withoutIndex(lowerNames, removed), newSuffixTag, newSuffixOffset);
+        }
+
+        private static <T> T[] withoutIndex(T[] array, int index) {
+            T[] copy = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+            return copy;
+        }
+
+        Set<Long> allIds() {
+            return new LinkedHashSet<>(Arrays.asList(ids));
+        }
+
+        String nameOf(Long id) {
+            Integer position = positions.get(id);
+            return position == null ? "" : originalNames[position];
+        }
+
+        Set<Long> idsContaining(String query) {
+            Set<Long> result = new LinkedHashSet<>();
+            for (int i = lowerBound(query, 0); i < suffixTag.length; i++) {
+                String name = lowerNames[suffixTag[i]];
+                if (!name.startsWith(query, suffixOffset[i])) {
+                    break;
+                }
+                result.add(ids[suffixTag[i]]);
+            }
+            return result;
+        }
+
+        // First suffix that is not smaller than the query read from the given offset
+        private int lowerBound(String query, int queryOffset) {
+            int low = 0;
+            int high = suffixTag.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareSuffix(lowerNames[suffixTag[mid]], suffixOffset[mid], query, queryOffset) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int compareSuffix(String a, int offsetA, String b, int offsetB) {
+            int lengthA = a.length() - offsetA;
+            int lengthB = b.length() - offsetB;
+            int length = Math.min(lengthA, lengthB);
+            for (int i = 0; i < length; i++) {
+                char charA = a.charAt(offsetA + i);
+                char charB = b.charAt(offsetB + i);
+                if (charA != charB) {
+                    return charA - charB;
+                }
+            }
+            return lengthA - lengthB;
+        }
+    }
+}
@@ -24,15 +24,17 @@ public class TagServiceImpl implements TagService {
 
     private  final JpaTagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final TagSearchIndex tagSearchIndex;
 
-    public TagServiceImpl(JpaTagRepository tagRepository, TagMapper tagMapper) {
+    public TagServiceImpl(JpaTagRepository tagRepository, TagMapper tagMapper, TagSearchIndex tagSearchIndex) {
         this.tagRepository = tagRepository;
         this.tagMapper = tagMapper;
+        this.tagSearchIndex = tagSearchIndex;
     }
 
 
     @Override
-    @Cacheable(value = "allTags")
+    @Cacheable(value = "allTags", sync = true)
     public List<TagResponse> getAllTags() {
         return  tagRepository.findAll().stream()
                 .map(tagMapper::toResponse)
@@ -41,6 +43,7 @@ public class TagServiceImpl implements TagService {
 
     private static final String TAG_ID_PREFIX = "Tag with ID ";
     private static final String NOT_FOUND_SUFFIX = " not found";
+    private static final int TOP_TAGS_LIMIT = 5;
 
     @Override
     @CacheEvict(value = {"allTags", "tagById"}, key = "#id", allEntries = true)
@@ -55,6 +58,7 @@ public class TagServiceImpl implements TagService {
                         .usageCount(0)
                         .name(tagCreateRequest.getName()).build();
                 JpaTag createdJpaTag = tagRepository.save(jpaTag);
+                tagSearchIndex.put(createdJpaTag);
                 return tagMapper.toResponse(createdJpaTag);
             }
         }
@@ -65,7 +69,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
-    @Cacheable(value = "tagById", key = "#id")
+    @Cacheable(value = "tagById", key = "#id", sync = true)
     public Optional<TagResponse> getTagById(Long id) {
         return tagRepository.findById(id).map(tagMapper::toResponse);
     }
@@ -78,6 +82,7 @@ public class TagServiceImpl implements TagService {
             if(tagOptional.isPresent()){
                 JpaTag jpaTag = tagOptional.get();
                 tagRepository.delete(jpaTag);
+                tagSearchIndex.remove(id);
                 return true;
             }else {
                 throw new IllegalArgumentException(TAG_ID_PREFIX + id + NOT_FOUND_SUFFIX);
@@ -102,6 +107,7 @@ public class TagServiceImpl implements TagService {
                 JpaTag existingJpaTag = tagOptional.get();
                 existingJpaTag.setName(tagUpdateRequest.getName());
                 tagRepository.save(existingJpaTag);
+                tagSearchIndex.put(existingJpaTag);
                 return true;
             } else {
                 throw new IllegalArgumentException(TAG_ID_PREFIX + id + NOT_FOUND_SUFFIX);
@@ -116,7 +122,10 @@ public class TagServiceImpl implements TagService {
     public List<TagResponse> getTop5Tags(String searchQuery) {
         List<JpaTag> tags;
 
-        if (searchQuery == null || searchQuery.isEmpty()) {
+        if (tagSearchIndex.isReady()) {
+            // Autocomplete is answered from memory once the index has loaded
+            tags = tagSearchIndex.search(searchQuery, TOP_TAGS_LIMIT);
+        } else if (searchQuery == null || searchQuery.isEmpty()) {
             // Fetch the top 5 most-used tags without any filter
             tags = tagRepository.findTop5ByOrderByUsageCountDesc();
         } else {
@@ -132,7 +141,10 @@ public class TagServiceImpl implements TagService {
 
     @Override
     public List<TagResponse> findTagsByName(String name) {
-        return tagRepository.findByNameContainingIgnoreCase(name).stream()
+        List<JpaTag> tags = tagSearchIndex.isReady()
+                ? tagSearchIndex.search(name, Integer.MAX_VALUE)
+                : tagRepository.findByNameContainingIgnoreCase(name);
+        return tags.stream()
                 .map(tagMapper::toResponse)
                 .toList();
     }
@@ -68,7 +68,7 @@
         private final SecureRandom random = new SecureRandom();
 
         @Override
-        @Cacheable(value = "allUsers")
+        @Cacheable(value = "allUsers", sync = true)
         public List<UserResponse> getAllUsers() {
             return userRepository.findAll().stream()
                     .map(userMapper::toResponse)
@@ -114,7 +114,7 @@
         }
 
         @Override
-        @Cacheable(value = "userById", key = "#id")
+        @Cacheable(value = "userById", key = "#id", sync = true)
         public Optional<UserResponse> getUserById(Long id) {
             return userRepository.findById(id).map(userMapper::toResponse);
         }
@@ -212,14 +212,14 @@
 
 
         @Override
-        @Cacheable(value = "userByUsername", key = "#username")
+        @Cacheable(value = "userByUsername", key = "#username", sync = true)
         public Optional<UserResponse> findByUsername(String username) {
             return userRepository.findByUsername(username).map(userMapper::toResponse);
         }
 
 
         @Override
-        @Cacheable(value = "userByEmail", key = "#email")
+        @Cacheable(value = "userByEmail", key = "#email", sync = true)
         public Optional<UserResponse> findByEmail(String email) {
             return userRepository.findByEmail(email).map(userMapper::toResponse);
         }
@@ -0,0 +1,173 @@
+package torquehub.torquehub.business.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.CommentRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for vote counters. When enabled, deltas are summed per target in memory
+ * and written with one UPDATE per target on each flush instead of one UPDATE per vote.
+ * Each write publishes a {@link QuestionContentChangedEvent} for the question the target belongs to, so cached
+ * detail pages are dropped once the new count is committed rather than when the vote itself was.
+ */
+@Component
+public class VoteCountBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteCountBuffer.class);
+
+    public enum Target { QUESTION, ANSWER, COMMENT }
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate writeTransaction;
+
+    private final boolean enabled;
+    private final int maxPendingTargets;
+
+    private final Map<Target, ConcurrentHashMap<Long, PendingDelta>> pendingDeltas = new EnumMap<>(Target.class);
+
+    public VoteCountBuffer(QuestionRepository questionRepository,
+                           AnswerRepository answerRepository,
+                           CommentRepository commentRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${vote.write-behind.enabled:false}") boolean enabled,
+                           @Value("${vote.write-behind.max-pending:10000}") int maxPendingTargets) {
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        // A backpressure flush runs in the afterCommit callback of a vote, where joining the surrounding
+        // transaction would mean writing into one that has already committed
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxPendingTargets = maxPendingTargets;
+        for (Target target : Target.values()) {
+            pendingDeltas.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param questionId the question whose detail page shows the counter, or null if it is not shown on one
+     */
+    public void add(Target target, Long id, Long questionId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Only count the vote once its row is committed, otherwise a rollback would leave a phantom delta behind
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer(target, id, questionId, delta);
+                }
+            });
+        } else {
+            buffer(target, id, questionId, delta);
+        }
+    }
+
+    private void buffer(Target target, Long id, Long questionId, int delta) {
+        // Backpressure: once the buffer is full the caller pays for the flush
+        if (getPendingTargetCount() >= maxPendingTargets) {
+            flush();
+        }
+        pendingDeltas.get(target).merge(id, new PendingDelta(questionId, delta), PendingDelta::plus);
+    }
+
+    public int getPendingTargetCount() {
+        int count = 0;
+        for (ConcurrentHashMap<Long, PendingDelta> deltas : pendingDeltas.values()) {
+            count += deltas.size();
+        }
+        return count;
+    }
+
+    public long getPendingDeltaCount() {
+        long count = 0;
+        for (ConcurrentHashMap<Long, PendingDelta> deltas : pendingDeltas.values()) {
+            for (PendingDelta pending : deltas.values()) {
+                count += Math.abs(pending.delta());
+            }
+        }
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${vote.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        if (getPendingTargetCount() == 0) {
+            return;
+        }
+        int written = 0;
+        for (Map.Entry<Target, ConcurrentHashMap<Long, PendingDelta>> entry : pendingDeltas.entrySet()) {
+            ConcurrentHashMap<Long, PendingDelta> deltas = entry.getValue();
+            for (Long id : deltas.keySet()) {
+                // remove() is atomic with merge(), so deltas added after this point start a fresh entry
+                PendingDelta pending = deltas.remove(id);
+                if (pending == null || pending.delta() == 0) {
+                    continue;
+                }
+                try {
+                    if (write(entry.getKey(), id, pending)) {
+                        written++;
+                    } else {
+                        logger.warn("Dropping vote delta {} for missing {} {}", pending.delta(), entry.getKey(), id);
+                    }
+                } catch (Exception e) {
+                    deltas.merge(id, pending, PendingDelta::plus);
+                    logger.error("Failed to flush vote delta for {} {}: {}", entry.getKey(), id, e.getMessage());
+                }
+            }
+        }
+        logger.debug("Flushed {} vote counters, {} targets still pending", written, getPendingTargetCount());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean write(Target target, Long id, PendingDelta pending) {
+        Boolean updated = writeTransaction.execute(status -> {
+            int delta = pending.delta();
+            boolean found = switch (target) {
+                case QUESTION -> questionRepository.incrementVotes(id, delta);
+                case ANSWER -> answerRepository.incrementVotes(id, delta);
+                case COMMENT -> commentRepository.incrementVotes(id, delta);
+            };
+            // Published inside the write transaction, so the detail cache is evicted after the new count commits
+            if (found && pending.questionId() != null) {
+                eventPublisher.publishEvent(new QuestionContentChangedEvent(pending.questionId()));
+            }
+            return found;
+        });
+        return Boolean.TRUE.equals(updated);
+    }
+
+    private record PendingDelta(Long questionId, int delta) {
+        PendingDelta plus(PendingDelta other) {
+            return new PendingDelta(questionId != null ? questionId : other.questionId, delta + other.delta);
+        }
+    }
+}
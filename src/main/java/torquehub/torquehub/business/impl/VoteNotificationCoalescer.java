@@ -0,0 +1,100 @@
+package torquehub.torquehub.business.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import torquehub.torquehub.domain.mapper.NotificationMapper;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Folds bursts of votes on the same question, answer or comment into one notification. The first vote in a
+ * window is stored and pushed as usual; further votes for the same recipient and target within the window
+ * only bump the actor count of that unread row, and its final state is pushed once when the window closes.
+ * A post on the front page thus costs its author one row and at most two pushes per window.
+ * Only the due time of a push is kept in memory; the pushed state is read from the row when it is sent.
+ */
+@Component
+public class VoteNotificationCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteNotificationCoalescer.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationMapper notificationMapper;
+    private final NotificationDelivery notificationDelivery;
+    private final TransactionTemplate pushTransaction;
+    private final long windowSeconds;
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingPushes = new ConcurrentHashMap<>();
+
+    public VoteNotificationCoalescer(NotificationRepository notificationRepository,
+                                     NotificationMapper notificationMapper,
+                                     NotificationDelivery notificationDelivery,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${notification.vote-coalescing.window-seconds:60}") long windowSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.notificationMapper = notificationMapper;
+        this.notificationDelivery = notificationDelivery;
+        this.pushTransaction = new TransactionTemplate(transactionManager);
+        this.windowSeconds = windowSeconds;
+    }
+
+    /**
+     * Adds the vote to the recipient's open notification about the target and returns it, or returns empty
+     * when there is none and the caller should create a new one. Must run in the caller's transaction.
+     */
+    public Optional<NotificationResponse> coalesce(Long recipientId, JpaNotification.Type type, Long targetId) {
+        if (windowSeconds <= 0) {
+            return Optional.empty();
+        }
+        Optional<JpaNotification> open = notificationRepository.lockOpenVoteNotification(
+                recipientId, type, targetId, LocalDateTime.now().minusSeconds(windowSeconds));
+        if (open.isEmpty()) {
+            return Optional.empty();
+        }
+        JpaNotification notification = open.get();
+        notification.setActorCount(notification.getActorCount() + 1);
+        notification.setMessage(NotificationRetention.digestMessage(type, notification.getActorCount()));
+        NotificationResponse response = notificationMapper.toResponse(notificationRepository.save(notification));
+
+        // Recorded while the row lock is held. The window is anchored on the first vote, so every vote on the row
+        // records the same due time and a steady stream of votes still surfaces once per window
+        pendingPushes.putIfAbsent(notification.getId(), notification.getCreatedAt().plusSeconds(windowSeconds));
+        return Optional.of(response);
+    }
+
+    public int getPendingPushCount() {
+        return pendingPushes.size();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.vote-coalescing.flush-interval-ms:1000}")
+    public void flushDuePushes() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, LocalDateTime> entry : pendingPushes.entrySet()) {
+            if (entry.getValue().isAfter(now) || !pendingPushes.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            try {
+                // The share lock waits for a vote still being folded in, so its committed count is what gets pushed
+                Optional<NotificationResponse> latest = pushTransaction.execute(status ->
+                        notificationRepository.lockForRead(entry.getKey())
+                                .filter(notification -> !notification.isRead())
+                                .map(notificationMapper::toResponse));
+                if (latest != null) {
+                    latest.ifPresent(notificationDelivery::deliver);
+                }
+            } catch (Exception e) {
+                logger.warn("Failed to push coalesced notification {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package torquehub.torquehub.business.impl;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.interfaces.NotificationService;
 import torquehub.torquehub.business.interfaces.ReputationService;
 import torquehub.torquehub.business.interfaces.VoteService;
@@ -13,6 +15,9 @@ import torquehub.torquehub.domain.request.vote_dtos.VoteAnswerNotificationReques
 import torquehub.torquehub.domain.request.vote_dtos.VoteCommentNotificationRequest;
 import torquehub.torquehub.domain.request.vote_dtos.VoteQuestionNotificationRequest;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.CommentRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
 import torquehub.torquehub.persistence.repository.VoteRepository;
 
 import java.time.LocalDateTime;
@@ -24,13 +29,28 @@ public class VoteServiceImpl implements VoteService {
     private final VoteRepository voteRepository;
     private final ReputationService reputationService;
     private final NotificationService notificationService;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+    private final VoteCountBuffer voteCountBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     public VoteServiceImpl(VoteRepository voteRepository,
                            ReputationService reputationService,
-                           NotificationService notificationService) {
+                           NotificationService notificationService,
+                           QuestionRepository questionRepository,
+                           AnswerRepository answerRepository,
+                           CommentRepository commentRepository,
+                           VoteCountBuffer voteCountBuffer,
+                           ApplicationEventPublisher eventPublisher) {
         this.voteRepository = voteRepository;
         this.reputationService = reputationService;
         this.notificationService = notificationService;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.commentRepository = commentRepository;
+        this.voteCountBuffer = voteCountBuffer;
+        this.eventPublisher = eventPublisher;
     }
 
     private static final String USER_PREFIX = "User ";
@@ -48,7 +68,6 @@ public class VoteServiceImpl implements VoteService {
         return handleVote(user, question, false);
     }
 
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#question.id")
     public ReputationResponse handleVote(JpaUser user, JpaQuestion question, boolean isUpvote) {
         Optional<JpaVote> existingVote = voteRepository.findByUserAndJpaQuestion(user, question);
 
@@ -73,12 +92,12 @@ public class VoteServiceImpl implements VoteService {
         voteRepository.save(vote);             // Save the updated vote
 
         // Adjust vote count on the question
-        question.setVotes(question.getVotes() + (isUpvote ? 2 : -2)); // +2 if switching to upvote, -2 if switching to downvote
+        adjustQuestionVotes(question, isUpvote ? 2 : -2); // +2 if switching to upvote, -2 if switching to downvote
 
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     question.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify only if the previous vote was not an upvote
@@ -95,7 +114,7 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     question.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
 
@@ -111,14 +130,14 @@ public class VoteServiceImpl implements VoteService {
                 .votedAt(LocalDateTime.now())
                 .build();
         voteRepository.save(newVote);
-        question.setVotes(question.getVotes() + (isUpvote ? 1 : -1));
+        adjustQuestionVotes(question, isUpvote ? 1 : -1);
 
         // Adjust reputation points
         ReputationResponse response;
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     question.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify user only through notificationService
@@ -133,7 +152,7 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     question.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
         return response;
@@ -152,7 +171,6 @@ public class VoteServiceImpl implements VoteService {
     }
 
     @Override
-    @CacheEvict(value = "questionDetailsByIdAndUser", key = "#answer.id")
     public ReputationResponse handleVoteForAnswer(JpaUser user, JpaAnswer answer, boolean isUpvote) {
         Optional<JpaVote> existingVote = voteRepository.findByUserAndJpaAnswer(user, answer);
 
@@ -161,7 +179,7 @@ public class VoteServiceImpl implements VoteService {
             if (vote.isUpvote() == isUpvote) {
                 // Neutralize vote by deleting it and adjusting the vote count
                 voteRepository.delete(vote);
-                answer.setVotes(answer.getVotes() + (isUpvote ? -1 : 1)); // Adjust vote count accordingly
+                adjustAnswerVotes(answer, isUpvote ? -1 : 1); // Adjust vote count accordingly
                 return reputationService.getCurrentReputation(user.getId()); // Return updated reputation
             } else {
                 // Update the vote type if it's opposite
@@ -183,12 +201,12 @@ public class VoteServiceImpl implements VoteService {
         voteRepository.save(vote);             // Save the updated vote
 
         // Adjust vote count on the answer
-        answer.setVotes(answer.getVotes() + (isUpvote ? 2 : -2)); // +2 if switching to upvote, -2 if switching to downvote
+        adjustAnswerVotes(answer, isUpvote ? 2 : -2); // +2 if switching to upvote, -2 if switching to downvote
 
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     answer.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify only if the previous vote was not an upvote
@@ -205,7 +223,7 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     answer.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
 
@@ -221,14 +239,14 @@ public class VoteServiceImpl implements VoteService {
                 .votedAt(LocalDateTime.now())
                 .build();
         voteRepository.save(newVote);
-        answer.setVotes(answer.getVotes() + (isUpvote ? 1 : -1));
+        adjustAnswerVotes(answer, isUpvote ? 1 : -1);
 
         // Adjust reputation points
         ReputationResponse response;
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     answer.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify user only through notificationService
@@ -242,26 +260,27 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     answer.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
         return response;
     }
 
     @Override
+    @CacheEvict(value = "commentsByAnswer", allEntries = true)
     @Transactional
     public ReputationResponse handleUpvoteForComment(JpaUser user, JpaComment comment) {
         return handleVoteForComment(user, comment, true);
     }
 
     @Override
+    @CacheEvict(value = "commentsByAnswer", allEntries = true)
     @Transactional
     public ReputationResponse handleDownvoteForComment(JpaUser user, JpaComment comment) {
         return handleVoteForComment(user, comment, false);
     }
 
     @Override
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "commentsByAnswer"}, key = "#comment.jpaAnswer.jpaQuestion.id")
     public ReputationResponse handleVoteForComment(JpaUser user, JpaComment comment, boolean isUpvote) {
         Optional<JpaVote> existingVote = voteRepository.findByUserAndJpaComment(user, comment);
 
@@ -269,7 +288,7 @@ public class VoteServiceImpl implements VoteService {
             JpaVote vote = existingVote.get();
             if (vote.isUpvote() == isUpvote) {
                 voteRepository.delete(vote);
-                comment.setVotes(comment.getVotes() + (isUpvote ? -1 : 1)); // Adjust vote count accordingly
+                adjustCommentVotes(comment, isUpvote ? -1 : 1); // Adjust vote count accordingly
                 return reputationService.getCurrentReputation(user.getId()); // Return updated reputation
             } else {
                 // Update the vote type if it's opposite
@@ -289,12 +308,12 @@ public class VoteServiceImpl implements VoteService {
         voteRepository.save(vote);
 
         // Adjust vote count on the comment
-        comment.setVotes(comment.getVotes() + (isUpvote ? 2 : -2)); // +2 if switching to upvote, -2 if switching to downvote
+        adjustCommentVotes(comment, isUpvote ? 2 : -2); // +2 if switching to upvote, -2 if switching to downvote
 
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     comment.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify only if the previous vote was not an upvote
@@ -310,7 +329,7 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     comment.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
 
@@ -325,14 +344,14 @@ public class VoteServiceImpl implements VoteService {
                 .votedAt(LocalDateTime.now())
                 .build();
         voteRepository.save(newVote);
-        comment.setVotes(comment.getVotes() + (isUpvote ? 1 : -1));
+        adjustCommentVotes(comment, isUpvote ? 1 : -1);
 
         // Adjust reputation points
         ReputationResponse response;
         if (isUpvote) {
             response = reputationService.updateReputationForUpvote(new ReputationUpdateRequest(
                     comment.getJpaUser().getId(), ReputationConstants.POINTS_UPVOTE_RECEIVED));
-            reputationService.updateReputationForUpvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_UPVOTE_GIVEN));
 
             // Notify user only through notificationService
@@ -347,10 +366,55 @@ public class VoteServiceImpl implements VoteService {
         } else {
             response = reputationService.updateReputationForDownvote(new ReputationUpdateRequest(
                     comment.getJpaUser().getId(), ReputationConstants.POINTS_DOWNVOTE_RECEIVED));
-            reputationService.updateReputationForDownvoteGiven(new ReputationUpdateRequest(
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(
                     user.getId(), ReputationConstants.POINTS_DOWNVOTE_GIVEN));
         }
         return response;
     }
 
-}
\ No newline at end of file
+    // Vote counters are changed with a single "votes = votes + delta" UPDATE instead of
+    // setVotes() on the loaded entity, so concurrent voters cannot overwrite each other's counts.
+    // With write-behind on, the buffer publishes the change once the flushed count is committed
+    private void adjustQuestionVotes(JpaQuestion question, int delta) {
+        if (voteCountBuffer.isEnabled()) {
+            voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, question.getId(), question.getId(), delta);
+            return;
+        }
+        if (!questionRepository.incrementVotes(question.getId(), delta)) {
+            throw new IllegalArgumentException("Question with ID " + question.getId() + " not found");
+        }
+        publishQuestionChanged(question);
+    }
+
+    private void adjustAnswerVotes(JpaAnswer answer, int delta) {
+        JpaQuestion question = answer.getJpaQuestion();
+        if (voteCountBuffer.isEnabled()) {
+            voteCountBuffer.add(VoteCountBuffer.Target.ANSWER, answer.getId(), question != null ? question.getId() : null, delta);
+            return;
+        }
+        if (!answerRepository.incrementVotes(answer.getId(), delta)) {
+            throw new IllegalArgumentException("Answer with ID " + answer.getId() + " not found");
+        }
+        publishQuestionChanged(question);
+    }
+
+    private void adjustCommentVotes(JpaComment comment, int delta) {
+        JpaQuestion question = comment.getJpaAnswer() != null ? comment.getJpaAnswer().getJpaQuestion() : null;
+        if (voteCountBuffer.isEnabled()) {
+            voteCountBuffer.add(VoteCountBuffer.Target.COMMENT, comment.getId(), question != null ? question.getId() : null, delta);
+            return;
+        }
+        if (!commentRepository.incrementVotes(comment.getId(), delta)) {
+            throw new IllegalArgumentException("Comment with ID " + comment.getId() + " not found");
+        }
+        publishQuestionChanged(question);
+    }
+
+    // Vote counts are part of the cached question detail page
+    private void publishQuestionChanged(JpaQuestion question) {
+        if (question != null) {
+            eventPublisher.publishEvent(new QuestionContentChangedEvent(question.getId()));
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package torquehub.torquehub.business.interfaces;
+
+import torquehub.torquehub.domain.response.CacheStatsResponse;
+
+import java.util.List;
+
+public interface CacheStatsService {
+    List<CacheStatsResponse> getCacheStats();
+}
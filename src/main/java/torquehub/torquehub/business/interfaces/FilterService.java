@@ -2,6 +2,7 @@ package torquehub.torquehub.business.interfaces;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.domain.response.question_dtos.QuestionFeedResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import java.util.Set;
 
@@ -12,5 +13,6 @@ public interface FilterService {
     Page<QuestionSummaryResponse> findAllByOrderByVotesDesc(Pageable pageable);
     Page<QuestionSummaryResponse> findAllByOrderByViewCountDesc(Pageable pageable);
     Page<QuestionSummaryResponse> findQuestionsWithNoAnswers(Pageable pageable);
-    Page<QuestionSummaryResponse> filterQuestions(Set<String> tags, Boolean noAnswers , Boolean noAcceptedAnswer, String  sortOption, Pageable pageable);
+    Page<QuestionSummaryResponse> filterQuestions(Set<String> tags, String tagMode, Boolean noAnswers , Boolean noAcceptedAnswer, String  sortOption, Pageable pageable);
+    QuestionFeedResponse getQuestionFeed(String sort, String cursor, int size);
 }
@@ -28,7 +28,7 @@
         Optional<NotificationResponse> notifyFollowersAboutNewAnswer(NewAnswerNotificationRequest request);
         Optional<NotificationResponse> notifyAnswerFollowersAboutNewComment(NewCommentOnAnswerNotificationRequest request);
         boolean markAsRead(Long notificationId);
-        boolean markAllAsRead(Long userId);
+        int markAllAsRead(Long userId);
         List<DetailNotificationResponse> findTop5UnreadWithCount(Long userId);
 
     }
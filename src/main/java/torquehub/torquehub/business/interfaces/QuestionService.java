@@ -28,7 +28,7 @@ public interface QuestionService {
     Optional<List<QuestionSummaryResponse>> getQuestionsByUser(Long userId);
     ReputationResponse upvoteQuestion(Long questionId, Long userId);
     ReputationResponse downvoteQuestion(Long questionId, Long userId);
-    boolean incrementQuestionView(Long questionId);
+    boolean incrementQuestionView(Long questionId, String viewerKey);
     Long getQuestionCountOfUser(Long userId);
 
 }
@@ -39,4 +39,6 @@ public interface ReputationService {
     ReputationResponse updateReputationForDownvoteComment(ReputationUpdateRequest reputationUpdateRequest);
 
     ReputationResponse getCurrentReputation(Long userId);
+
+    void deferReputationUpdate(ReputationUpdateRequest reputationUpdateRequest);
 }
@@ -0,0 +1,10 @@
+package torquehub.torquehub.business.interfaces;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+public interface SearchService {
+    Page<QuestionSummaryResponse> searchQuestions(String query, Pageable pageable);
+    boolean rebuildIndex();
+}
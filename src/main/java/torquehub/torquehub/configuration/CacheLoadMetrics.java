@@ -0,0 +1,32 @@
+package torquehub.torquehub.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-cache counts of loader calls and of callers that waited on another caller's load instead.
+ */
+public class CacheLoadMetrics {
+
+    private final Map<String, LongAdder> loads = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> coalesced = new ConcurrentHashMap<>();
+
+    public void recordLoad(String cacheName) {
+        loads.computeIfAbsent(cacheName, name -> new LongAdder()).increment();
+    }
+
+    public void recordCoalesced(String cacheName) {
+        coalesced.computeIfAbsent(cacheName, name -> new LongAdder()).increment();
+    }
+
+    public long getLoadCount(String cacheName) {
+        LongAdder count = loads.get(cacheName);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getCoalescedCount(String cacheName) {
+        LongAdder count = coalesced.get(cacheName);
+        return count == null ? 0 : count.sum();
+    }
+}
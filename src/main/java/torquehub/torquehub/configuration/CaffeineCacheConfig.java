@@ -1,28 +1,66 @@
 package torquehub.torquehub.configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import torquehub.torquehub.messaging.CacheInvalidationPublisher;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Arrays;
+import java.util.List;
 
 @Configuration
+@EnableConfigurationProperties(CaffeineCacheProperties.class)
 public class CaffeineCacheConfig {
 
+    private static final String RECORD_STATS = "recordStats";
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(CaffeineCacheProperties properties,
+                                     @Value("${cache.two-level.enabled:false}") boolean twoLevelEnabled,
+                                     @Qualifier("sharedCacheManager") ObjectProvider<CacheManager> sharedCacheManager,
+                                     ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+                                     CacheLoadMetrics cacheLoadMetrics) {
+        CacheManager localCacheManager = new SingleFlightCacheManager(localCacheManager(properties), cacheLoadMetrics);
+        if (!twoLevelEnabled) {
+            return localCacheManager;
+        }
+        // L2 is whatever shared cache manager the deployment registers as "sharedCacheManager"; without one
+        // each node keeps only its L1, and the invalidation broadcast alone keeps the nodes consistent
+        return new TwoLevelCacheManager(localCacheManager, sharedCacheManager.getIfAvailable(),
+                invalidationPublisher.getObject());
+    }
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheLoadMetrics cacheLoadMetrics() {
+        return new CacheLoadMetrics();
+    }
+
+    public CaffeineCacheManager localCacheManager(CaffeineCacheProperties properties) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+        cacheManager.setCaffeine(caffeineCacheBuilder("default", properties.getDefaultSpec()));
+        // Each configured cache gets its own bounds, so a burst in one cache cannot evict entries of another
+        properties.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, caffeineCacheBuilder(name, spec).build()));
         return cacheManager;
     }
 
-    Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder()
-                .initialCapacity(100)
-                .maximumSize(500)
-                .expireAfterAccess(10, TimeUnit.MINUTES)
-                .recordStats();
+    Caffeine<Object, Object> caffeineCacheBuilder(String cacheName, String spec) {
+        List<String> options = Arrays.stream(spec.split(",")).map(String::trim).toList();
+        // @Cacheable has no loader to refresh with, and its keys are built per call so they cannot be weak
+        for (String option : options) {
+            if (option.startsWith("refreshAfterWrite") || option.equals("weakKeys")) {
+                throw new IllegalStateException("Cache '" + cacheName + "' cannot use " + option);
+            }
+        }
+        Caffeine<Object, Object> builder = Caffeine.from(spec);
+        return options.contains(RECORD_STATS) ? builder : builder.recordStats();
     }
 }
@@ -0,0 +1,23 @@
+package torquehub.torquehub.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caffeine settings per cache name, written as Caffeine specs,
+ * e.g. {@code cache.caffeine.specs.allTags=maximumSize=50,expireAfterWrite=30m}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "cache.caffeine")
+public class CaffeineCacheProperties {
+
+    // Used for caches that have no entry in specs
+    private String defaultSpec = "maximumSize=500,expireAfterAccess=10m";
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+}
@@ -1,6 +1,7 @@
 package torquehub.torquehub.configuration;
 
 import org.springframework.amqp.core.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,6 +11,8 @@ public class RabbitMQConfig {
     public static final String EXCHANGE = "app.exchange";
     public static final String QUEUE_TICKETS = "tickets.queue";
     public static final String QUEUE_ACCOUNTS = "accounts.queue";
+    public static final String CACHE_INVALIDATION_EXCHANGE = "cache.invalidation";
+    public static final String NOTIFICATION_PUSH_EXCHANGE = "notification.push";
 
     @Bean
     public TopicExchange topicExchange() {
@@ -35,5 +38,41 @@ public class RabbitMQConfig {
     public Binding accountsBinding(Queue accountsQueue, TopicExchange exchange) {
         return BindingBuilder.bind(accountsQueue).to(exchange).with("accounts.#");
     }
-}
 
+    @Bean
+    @ConditionalOnProperty(name = "cache.two-level.enabled", havingValue = "true")
+    public FanoutExchange cacheInvalidationExchange() {
+        return new FanoutExchange(CACHE_INVALIDATION_EXCHANGE);
+    }
+
+    // Every node binds its own auto-deleted queue, so each eviction reaches all running nodes
+    @Bean
+    @ConditionalOnProperty(name = "cache.two-level.enabled", havingValue = "true")
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.two-level.enabled", havingValue = "true")
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue, FanoutExchange cacheInvalidationExchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(cacheInvalidationExchange);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.push.broadcast.enabled", havingValue = "true")
+    public FanoutExchange notificationPushExchange() {
+        return new FanoutExchange(NOTIFICATION_PUSH_EXCHANGE);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.push.broadcast.enabled", havingValue = "true")
+    public Queue notificationPushQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.push.broadcast.enabled", havingValue = "true")
+    public Binding notificationPushBinding(Queue notificationPushQueue, FanoutExchange notificationPushExchange) {
+        return BindingBuilder.bind(notificationPushQueue).to(notificationPushExchange);
+    }
+}
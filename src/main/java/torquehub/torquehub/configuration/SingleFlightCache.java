@@ -0,0 +1,151 @@
+package torquehub.torquehub.configuration;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lets concurrent misses for the same key wait on one computation instead of each calling the loader.
+ * Applies to {@code @Cacheable(sync = true)} methods and other callers of {@link #get(Object, Callable)};
+ * plain gets and puts go straight to the wrapped cache.
+ * An evict or clear issued while a load is running marks that load as stale, so its result is still returned
+ * to the callers already waiting for it but is not stored over the eviction, and later misses start a new load.
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheLoadMetrics metrics;
+    private final ConcurrentMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlightCache(Cache delegate, CacheLoadMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        Flight flight = new Flight();
+        Flight running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            metrics.recordCoalesced(getName());
+            return (T) await(running.result);
+        }
+        try {
+            // Another caller may have finished loading between the first lookup and taking the slot
+            ValueWrapper loadedMeanwhile = delegate.get(key);
+            T value = loadedMeanwhile != null ? (T) loadedMeanwhile.get() : load(key, valueLoader, flight);
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader, Flight flight) {
+        metrics.recordLoad(getName());
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        flight.putUnlessInvalidated(() -> delegate.put(key, value));
+        return value;
+    }
+
+    // Waiters see exactly what the loading caller saw, including its exception
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        Flight running = inFlight.get(key);
+        if (running != null) {
+            running.invalidate();
+            // Later misses must start a fresh load rather than join the stale one
+            inFlight.remove(key, running);
+        }
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.values().removeIf(running -> {
+            running.invalidate();
+            return true;
+        });
+        delegate.clear();
+    }
+
+    /**
+     * One running load. Invalidating and storing are mutually exclusive: a value stored before the invalidation
+     * is removed by the evict that follows it, and one computed after it is never stored.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private boolean invalidated;
+
+        synchronized void invalidate() {
+            invalidated = true;
+        }
+
+        synchronized void putUnlessInvalidated(Runnable put) {
+            if (!invalidated) {
+                put.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package torquehub.torquehub.configuration;
+
+import org.springframework.cache.Cache;
+import torquehub.torquehub.messaging.CacheInvalidationPublisher;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A node-local Caffeine cache (L1) in front of an optional shared cache (L2).
+ * Evictions are applied to both levels and broadcast, so the other nodes drop their L1 copy as well.
+ * Puts are not broadcast: every cache miss ends in a put, and evicting the peers on each one would make the nodes
+ * evict each other's fresh entries in turn. A write that replaces a cached value must therefore evict it instead.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final Cache shared;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoLevelCache(Cache local, Cache shared, CacheInvalidationPublisher invalidationPublisher) {
+        this.local = local;
+        this.shared = shared;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    // The Caffeine cache, so per-cache stats keep working
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null && shared != null) {
+            value = shared.get(key);
+            if (value != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value == null ? null : value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (shared == null) {
+            return local.get(key, valueLoader);
+        }
+        return local.get(key, () -> shared.get(key, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (shared != null) {
+            shared.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (shared != null) {
+            ValueWrapper existing = shared.putIfAbsent(key, value);
+            if (existing != null) {
+                local.put(key, existing.get());
+                return existing;
+            }
+        }
+        return local.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (shared != null) {
+            shared.evict(key);
+        }
+        invalidationPublisher.publishEvict(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (shared != null) {
+            shared.clear();
+        }
+        invalidationPublisher.publishClear(getName());
+    }
+
+    void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+}
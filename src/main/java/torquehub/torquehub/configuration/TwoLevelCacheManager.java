@@ -0,0 +1,56 @@
+package torquehub.torquehub.configuration;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import torquehub.torquehub.messaging.CacheInvalidationPublisher;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheManager sharedCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager localCacheManager,
+                                CacheManager sharedCacheManager,
+                                CacheInvalidationPublisher invalidationPublisher) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheManager = sharedCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache local = localCacheManager.getCache(cacheName);
+            Cache shared = sharedCacheManager == null ? null : sharedCacheManager.getCache(cacheName);
+            return local == null ? null : new TwoLevelCache(local, shared, invalidationPublisher);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    /**
+     * Applies an eviction broadcast by another node to this node's L1 only; the sender already updated L2.
+     */
+    public void evictLocal(String cacheName, Object key) {
+        TwoLevelCache cache = (TwoLevelCache) getCache(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String cacheName) {
+        TwoLevelCache cache = (TwoLevelCache) getCache(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package torquehub.torquehub.controllers;
 
 import jakarta.validation.Valid;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -43,7 +42,6 @@ public class AnswerController {
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser"}, key = "#answerCreateRequest.questionId")
     public ResponseEntity<AnswerResponse> createAnswer(
             @RequestBody @Validated AnswerCreateRequest answerCreateRequest,
             @RequestHeader("Authorization") String token) {
@@ -63,7 +61,6 @@ public class AnswerController {
 
     @PostMapping("/{answerId}/upvote")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = "questionDetailsByIdAndUser", allEntries = true)
     public ResponseEntity<ReputationResponse> upvoteAnswer(@PathVariable Long answerId,
                                                            @RequestHeader("Authorization") String token) {
         try {
@@ -77,7 +74,6 @@ public class AnswerController {
 
     @PostMapping("/{answerId}/downvote")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = "questionDetailsByIdAndUser", allEntries = true)
     public ResponseEntity<ReputationResponse> downvoteAnswer(@PathVariable Long answerId,
                                                              @RequestHeader("Authorization") String token) {
         try {
@@ -107,7 +103,6 @@ public class AnswerController {
 
     @PutMapping("/{answerId}")
     @PreAuthorize("@answerService.isAnswerOwner(#answerId, authentication.name) or hasAuthority('ADMIN')")
-    @CacheEvict(value = "questionDetailsByIdAndUser", allEntries = true)
     public ResponseEntity<AnswerResponse> editAnswer(@PathVariable Long answerId,
                                                      @Valid @RequestBody AnswerEditRequest answerEditRequest,
                                                      @RequestHeader("Authorization") String token) {
@@ -162,7 +157,6 @@ public class AnswerController {
 
     @DeleteMapping("/{answerId}")
     @PreAuthorize("hasAuthority('ADMIN') or hasAuthority('MODERATOR')")
-    @CacheEvict(value = "questionDetailsByIdAndUser", allEntries = true)
     public ResponseEntity<MessageResponse> deleteAnswer(@PathVariable Long answerId) {
         MessageResponse response = new MessageResponse();
         boolean deleted = answerService.deleteAnswer(answerId);
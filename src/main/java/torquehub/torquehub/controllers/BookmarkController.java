@@ -34,7 +34,7 @@ public class BookmarkController {
 
     @PostMapping("/question/{questionId}")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "userBookmarkedQuestions"}, key = "#questionId", allEntries = true)
+    @CacheEvict(value = "userBookmarkedQuestions", allEntries = true)
     public ResponseEntity<BookmarkResponse> toggleBookmarkQuestion(
             @PathVariable Long questionId,
             @RequestHeader("Authorization") String token) {
@@ -50,7 +50,7 @@ public class BookmarkController {
 
     @PostMapping("/answer/{answerId}")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "userBookmarkedAnswers"}, key = "#answerId", allEntries = true)
+    @CacheEvict(value = "userBookmarkedAnswers", allEntries = true)
     public ResponseEntity<BookmarkResponse> toggleBookmarkAnswer(
             @PathVariable Long answerId,
             @RequestHeader("Authorization") String token) {
@@ -66,7 +66,7 @@ public class BookmarkController {
 
     @PostMapping("/answer")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "userBookmarkedAnswers"}, allEntries = true)
+    @CacheEvict(value = "userBookmarkedAnswers", allEntries = true)
     public ResponseEntity<BookmarkResponse> bookmarkAnswer(@Valid @RequestBody BookmarkAnswerRequest bookmarkRequest,
                                                            @RequestHeader("Authorization") String token) {
         try {
@@ -1,6 +1,5 @@
 package torquehub.torquehub.controllers;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -68,7 +67,6 @@ public class CommentController {
 
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = "questionDetailsByIdAndUser", allEntries = true)
     public ResponseEntity<CommentResponse> addComment(@RequestBody @Validated CommentCreateRequest commentCreateRequest,
                                                       @RequestHeader("Authorization") String token) {
         try {
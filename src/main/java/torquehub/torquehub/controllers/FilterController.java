@@ -3,11 +3,13 @@ package torquehub.torquehub.controllers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import torquehub.torquehub.business.interfaces.FilterService;
+import torquehub.torquehub.domain.response.question_dtos.QuestionFeedResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 
 import java.util.Set;
@@ -15,6 +17,9 @@ import java.util.Set;
 @RestController
 public class FilterController {
 
+    // Each feed page is one keyset range scan, so its length is capped no matter what the client asks for
+    public static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final FilterService filterService;
 
 
@@ -83,14 +88,29 @@ public class FilterController {
         return ResponseEntity.ok(questions);
     }
 
+    // Cursor-based alternative to the page-numbered feeds above; pass back nextCursor to get the following page
+    @GetMapping("/questions/feed")
+    public ResponseEntity<QuestionFeedResponse> getQuestionFeed(
+            @RequestParam(defaultValue = "askedTime") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            return ResponseEntity.ok(filterService.getQuestionFeed(sort, cursor, Math.min(size, MAX_FEED_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
     @GetMapping("/question/filter")
     public Page<QuestionSummaryResponse> filterQuestions(
             @RequestParam(required = false) Set<String> tags,
+            @RequestParam(required = false, defaultValue = "any") String tagMode,
             @RequestParam(required = false) Boolean noAnswers,
             @RequestParam(required = false) Boolean noAcceptedAnswer,
             @RequestParam(required = false, defaultValue = "newest") String sortOption,
             Pageable pageable) {
-        return filterService.filterQuestions(tags, noAnswers, noAcceptedAnswer, sortOption, pageable);
+        return filterService.filterQuestions(tags, tagMode, noAnswers, noAcceptedAnswer, sortOption, pageable);
     }
 
 }
@@ -31,7 +31,7 @@ public class FollowController {
 
     @PostMapping("/questions/{questionId}")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "followedQuestions"}, allEntries = true)
+    @CacheEvict(value = "followedQuestions", allEntries = true)
     public ResponseEntity<FollowResponse> toggleFollowQuestion(
             @PathVariable Long questionId,
             @RequestHeader("Authorization") String token) {
@@ -47,7 +47,7 @@ public class FollowController {
 
     @PostMapping("/answers/{answerId}")
     @PreAuthorize("isAuthenticated()")
-    @CacheEvict(value = {"questionDetailsByIdAndUser", "followedAnswers"}, allEntries = true)
+    @CacheEvict(value = "followedAnswers", allEntries = true)
     public ResponseEntity<FollowResponse> followAnswer(
             @PathVariable Long answerId,
             @RequestHeader("Authorization") String token) {
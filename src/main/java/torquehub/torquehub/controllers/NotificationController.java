@@ -14,6 +14,7 @@ import torquehub.torquehub.domain.response.notification_dtos.DetailNotificationR
 import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/notifications")
@@ -70,11 +71,11 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
-    // Mark all notifications as read
+    // Mark all notifications as read; the body reports how many were updated
     @PutMapping("/{userId}/mark-all-as-read")
-    public ResponseEntity<Void> markAllNotificationsAsRead(@PathVariable Long userId) {
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Map<String, Integer>> markAllNotificationsAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(Map.of("updated", updated));
     }
 }
 
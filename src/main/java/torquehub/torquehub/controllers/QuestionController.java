@@ -1,10 +1,12 @@
 package torquehub.torquehub.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -53,7 +55,9 @@ public class QuestionController {
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestHeader(value = "Authorization", required = false) String token // Authorization is optional
+            @RequestParam(defaultValue = "votes") String sort,
+            @RequestHeader(value = "Authorization", required = false) String token, // Authorization is optional
+            HttpServletRequest request
     ) {
         Long userId = null; // Default to null for non-logged-in users
         if (token != null && !token.isEmpty()) {
@@ -64,9 +68,12 @@ public class QuestionController {
             }
         }
 
-        questionService.incrementQuestionView(id);
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size, answerSort(sort));
         Optional<QuestionDetailResponse> question = questionService.getQuestionbyId(id, pageable, userId); // Pass userId (can be null)
+        if (question.isPresent()) {
+            String viewerKey = userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+            questionService.incrementQuestionView(id, viewerKey);
+        }
         return question.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -142,5 +149,12 @@ public class QuestionController {
         }
     }
 
-
+    // Answers can be ordered by "votes" (default), "newest" or "oldest"; id keeps the order stable between pages
+    private static Sort answerSort(String sort) {
+        return switch (sort) {
+            case "newest" -> Sort.by(Sort.Order.desc("answeredTime"), Sort.Order.desc("id"));
+            case "oldest" -> Sort.by(Sort.Order.asc("answeredTime"), Sort.Order.asc("id"));
+            default -> Sort.by(Sort.Order.desc("votes"), Sort.Order.asc("id"));
+        };
+    }
 }
@@ -0,0 +1,50 @@
+package torquehub.torquehub.controllers;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import torquehub.torquehub.business.interfaces.SearchService;
+import torquehub.torquehub.domain.response.MessageResponse;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    // Every hit on a page is read back from MySQL by id, so the page length is capped no matter what the client asks for
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/questions")
+    public ResponseEntity<Page<QuestionSummaryResponse>> searchQuestions(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            return ResponseEntity.ok(searchService.searchQuestions(query, PageRequest.of(page, Math.min(size, MAX_SEARCH_PAGE_SIZE))));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<MessageResponse> rebuildIndex() {
+        MessageResponse response = new MessageResponse();
+        if (!searchService.rebuildIndex()) {
+            response.setMessage("Search index rebuild is already running.");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+        response.setMessage("Search index rebuild started; searches use the current index until it completes.");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -20,6 +20,8 @@ import java.util.Optional;
 @Mapper(componentModel = "spring", uses = {CommentMapper.class})
 public interface AnswerMapper {
 
+    int COMMENT_PREVIEW_LIMIT = 5;
+
     JpaAnswer toEntity(AnswerCreateRequest answerCreateRequest);
     JpaAnswer toEntity(AnswerEditRequest answerEditRequest);
 
@@ -34,6 +36,17 @@ public interface AnswerMapper {
     @Mapping(target = "userVote", expression = "java(getUserVote(jpaAnswer, userId, voteRepository))")
     AnswerResponse toResponse(JpaAnswer jpaAnswer, Long userId, JpaBookmarkRepository bookmarkRepository, JpaFollowRepository followRepository,JpaVoteRepository voteRepository, CommentMapper commentMapper);
 
+    @Mapping(target = "username", source = "jpaUser.username")
+    @Mapping(target = "userPoints", source = "jpaUser.points")
+    @Mapping(target = "isEdited", source = "edited")
+    @Mapping(target = "comments", expression = "java(limitComments(jpaAnswer.getJpaComments(), commentMapper, interactionState))")
+    @Mapping(target = "postedTime", expression = "java(java.util.Date.from(jpaAnswer.getAnsweredTime().atZone(java.time.ZoneId.systemDefault()).toInstant()))")
+    @Mapping(target = "isBookmarked", expression = "java(interactionState.isAnswerBookmarked(jpaAnswer.getId()))")
+    @Mapping(target = "isFollowing", expression = "java(interactionState.isAnswerFollowed(jpaAnswer.getId()))")
+    @Mapping(target = "userVote", expression = "java(interactionState.getAnswerVote(jpaAnswer.getId()))")
+    @Mapping(target = "reputationUpdate", ignore = true)
+    AnswerResponse toResponse(JpaAnswer jpaAnswer, @Context UserInteractionState interactionState, @Context CommentMapper commentMapper);
+
     default List<CommentResponse> limitComments(List<JpaComment> jpaComments, int startIndex, @Context CommentMapper commentMapper, Long userId, JpaVoteRepository voteRepository) {
         if (jpaComments == null || jpaComments.isEmpty()) {
             return List.of();
@@ -42,11 +55,21 @@ public interface AnswerMapper {
         // Limit to the top 5 comments, starting at startIndex
         return jpaComments.stream()
                 .skip(startIndex) // Skip comments if we want to paginate
-                .limit(5)         // Limit to 5 comments
+                .limit(COMMENT_PREVIEW_LIMIT) // Limit to 5 comments
                 .map(comment -> commentMapper.toResponse(comment, userId, voteRepository))  // Map Comment to CommentResponse
                 .toList();
     }
 
+    default List<CommentResponse> limitComments(List<JpaComment> jpaComments, CommentMapper commentMapper, UserInteractionState interactionState) {
+        if (jpaComments == null || jpaComments.isEmpty()) {
+            return List.of();
+        }
+        return jpaComments.stream()
+                .limit(COMMENT_PREVIEW_LIMIT)
+                .map(comment -> commentMapper.toResponse(comment, interactionState))
+                .toList();
+    }
+
     default boolean isBookmarked(Long answerId, Long userId, JpaBookmarkRepository bookmarkRepository) {
         return userId != null && bookmarkRepository.findByUserIdAndAnswerId(userId, answerId).isPresent();
     }
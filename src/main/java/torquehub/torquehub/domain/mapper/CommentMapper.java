@@ -1,5 +1,6 @@
 package torquehub.torquehub.domain.mapper;
 
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import torquehub.torquehub.domain.model.jpa_models.JpaComment;
@@ -23,6 +24,14 @@ public interface CommentMapper {
     @Mapping(target = "userVote", expression = "java(getUserVote(jpaComment, userId, voteRepository))")
     CommentResponse toResponse(JpaComment jpaComment, Long userId, JpaVoteRepository voteRepository);
 
+    @Mapping(target = "username", source = "jpaUser.username")
+    @Mapping(target = "postedTime", source = "commentedTime")
+    @Mapping(target = "userPoints", source = "jpaUser.points")
+    @Mapping(target = "userVote", expression = "java(interactionState.getCommentVote(jpaComment.getId()))")
+    @Mapping(target = "isEdited", source = "edited")
+    @Mapping(target = "reputationResponse", ignore = true)
+    CommentResponse toResponse(JpaComment jpaComment, @Context UserInteractionState interactionState);
+
     default String getUserVote(JpaComment jpaComment, Long userId, JpaVoteRepository voteRepository) {
         if (userId == null) return null;
         Optional<JpaVote> userVoteOptional = voteRepository.findByUserIdAndCommentId(userId, jpaComment.getId());
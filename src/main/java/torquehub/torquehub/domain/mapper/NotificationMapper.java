@@ -11,6 +11,10 @@ import torquehub.torquehub.domain.response.notification_dtos.NotificationRespons
 @Mapper(componentModel = "spring")
 public interface NotificationMapper {
 
+    // Only vote notifications carry a type and target; every notification built here speaks for one person
+    @Mapping(target = "type", ignore = true)
+    @Mapping(target = "targetId", ignore = true)
+    @Mapping(target = "actorCount", constant = "1")
     JpaNotification toEntity(CreateNotificationRequest createNotificationRequest);
 
     @Mapping(target = "userId", source = "jpaUser.id")
@@ -25,5 +29,8 @@ public interface NotificationMapper {
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())") // Set current time
     @Mapping(target = "isRead", constant = "false") // Default unread status
     @Mapping(target = "points", source = "points") // Explicitly set the points from the source
+    @Mapping(target = "type", ignore = true) // Not a vote notification
+    @Mapping(target = "targetId", ignore = true)
+    @Mapping(target = "actorCount", constant = "1") // Sent on behalf of the answer author alone
     JpaNotification toJpaNotification(NewAnswerNotificationRequest request, JpaUser questionOwner, JpaUser answerAuthor, Integer points);
 }
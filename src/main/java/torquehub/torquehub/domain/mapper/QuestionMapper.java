@@ -11,10 +11,13 @@ import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 import torquehub.torquehub.domain.request.question_dtos.QuestionCreateRequest;
 import torquehub.torquehub.domain.request.question_dtos.QuestionUpdateRequest;
 import torquehub.torquehub.domain.response.answer_dtos.AnswerResponse;
+import torquehub.torquehub.domain.response.comment_dtos.CommentResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionDetailResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -35,10 +38,12 @@ public interface QuestionMapper {
     @Mapping(target = "userName", source = "jpaQuestion.jpaUser.username")
     @Mapping(target = "userPoints", source = "jpaQuestion.jpaUser.points")
     @Mapping(target = "votes", source = "jpaQuestion.votes")
-    @Mapping(target = "totalAnswers", expression = "java(jpaQuestion.getJpaAnswers() != null ? jpaQuestion.getJpaAnswers().size() : 0)")
     QuestionSummaryResponse toSummaryResponse(JpaQuestion jpaQuestion);
 
-    @Mapping(target = "answers", expression = "java(mapAnswersToPagedAnswerResponses(jpaQuestion.getJpaAnswers(), context))")
+    @Mapping(target = "tags", expression = "java(splitTagNames(projection.getTagNames()))")
+    QuestionSummaryResponse toSummaryResponse(QuestionSummaryProjection projection);
+
+    @Mapping(target = "answers", expression = "java(mapAnswers(jpaQuestion, context))")
     @Mapping(target = "tags", expression = "java(mapTagsToTagNames(jpaQuestion.getJpaTags()))")
     @Mapping(target = "userName", source = "jpaQuestion.jpaUser.username")
     @Mapping(target = "userPoints", source = "jpaQuestion.jpaUser.points")
@@ -55,6 +60,14 @@ public interface QuestionMapper {
                 .collect(Collectors.toSet());
     }
 
+    default Set<String> splitTagNames(String tagNames) {
+        if (tagNames == null || tagNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(tagNames.split(QuestionSummaryProjection.TAG_SEPARATOR))
+                .collect(Collectors.toSet());
+    }
+
     default Set<JpaTag> mapTagNamesToTags(Set<String> tagNames) {
         return tagNames.stream()
                 .map(tagName -> {
@@ -65,22 +78,87 @@ public interface QuestionMapper {
                 .collect(Collectors.toSet());
     }
 
+    default Page<AnswerResponse> mapAnswers(JpaQuestion jpaQuestion, QuestionMapperContext context) {
+        if (context.getAnswerPage() != null) {
+            return mapAnswerPage(context.getAnswerPage(), context);
+        }
+        return mapAnswersToPagedAnswerResponses(jpaQuestion.getJpaAnswers(), context);
+    }
+
+    // Maps a page of answers that was already paged and sorted by the database
+    default Page<AnswerResponse> mapAnswerPage(Page<JpaAnswer> answerPage, QuestionMapperContext context) {
+        UserInteractionState interactionState = context.loadInteractionState(answerPage.getContent());
+        return answerPage.map(answer -> context.getAnswerMapper().toResponse(answer, interactionState, context.getCommentMapper()));
+    }
+
     // Helper method for mapping answers to Page<AnswerResponse>
     default Page<AnswerResponse> mapAnswersToPagedAnswerResponses(List<JpaAnswer> jpaAnswers, QuestionMapperContext context) {
         if (jpaAnswers == null || jpaAnswers.isEmpty()) {
             return Page.empty(context.getPageable()); // Handle empty pages correctly
         }
 
-        // Convert List<Answer> to List<AnswerResponse>
-        List<AnswerResponse> answerResponses = jpaAnswers.stream()
-                .map(answer -> context.getAnswerMapper().toResponse(answer, context.getUserId(),
-                        context.getBookmarkRepository(), context.getFollowRepository(),
-                        context.getVoteRepository(), context.getCommentMapper()))
+        // Only the answers on the requested page are mapped, and their interaction state is loaded in one go
+        int start = (int) Math.min(context.getPageable().getOffset(), jpaAnswers.size());
+        int end = Math.min((start + context.getPageable().getPageSize()), jpaAnswers.size());
+        List<JpaAnswer> pageAnswers = jpaAnswers.subList(start, end);
+        UserInteractionState interactionState = context.loadInteractionState(pageAnswers);
+
+        List<AnswerResponse> answerResponses = pageAnswers.stream()
+                .map(answer -> context.getAnswerMapper().toResponse(answer, interactionState, context.getCommentMapper()))
                 .toList();
 
-        // Convert List<AnswerResponse> to Page<AnswerResponse>
-        int start = (int) context.getPageable().getOffset();
-        int end = Math.min((start + context.getPageable().getPageSize()), answerResponses.size());
-        return new PageImpl<>(answerResponses.subList(start, end), context.getPageable(), answerResponses.size());
+        return new PageImpl<>(answerResponses, context.getPageable(), jpaAnswers.size());
+    }
+
+    // Copies a shared (anonymous) detail page and fills in one user's votes, follows and bookmarks,
+    // leaving the cached original untouched
+    default QuestionDetailResponse withUserInteractions(QuestionDetailResponse shared, UserInteractionState interactionState,
+                                                        String userVote, boolean isFollowing, boolean isBookmarked) {
+        return QuestionDetailResponse.builder()
+                .id(shared.getId())
+                .title(shared.getTitle())
+                .description(shared.getDescription())
+                .tags(shared.getTags())
+                .userName(shared.getUserName())
+                .userPoints(shared.getUserPoints())
+                .views(shared.getViews())
+                .votes(shared.getVotes())
+                .answers(shared.getAnswers() == null ? null
+                        : shared.getAnswers().map(answer -> withUserInteractions(answer, interactionState)))
+                .askedTime(shared.getAskedTime())
+                .userVote(userVote)
+                .isFollowing(isFollowing)
+                .isBookmarked(isBookmarked)
+                .build();
+    }
+
+    default AnswerResponse withUserInteractions(AnswerResponse answer, UserInteractionState interactionState) {
+        List<CommentResponse> comments = answer.getComments() == null ? null : answer.getComments().stream()
+                .map(comment -> CommentResponse.builder()
+                        .id(comment.getId())
+                        .text(comment.getText())
+                        .username(comment.getUsername())
+                        .userPoints(comment.getUserPoints())
+                        .votes(comment.getVotes())
+                        .isEdited(comment.isEdited())
+                        .reputationResponse(comment.getReputationResponse())
+                        .postedTime(comment.getPostedTime())
+                        .userVote(interactionState.getCommentVote(comment.getId()))
+                        .build())
+                .toList();
+        return AnswerResponse.builder()
+                .id(answer.getId())
+                .text(answer.getText())
+                .username(answer.getUsername())
+                .userPoints(answer.getUserPoints())
+                .votes(answer.getVotes())
+                .isEdited(answer.isEdited())
+                .comments(comments)
+                .reputationUpdate(answer.getReputationUpdate())
+                .postedTime(answer.getPostedTime())
+                .isBookmarked(interactionState.isAnswerBookmarked(answer.getId()))
+                .isFollowing(interactionState.isAnswerFollowed(answer.getId()))
+                .userVote(interactionState.getAnswerVote(answer.getId()))
+                .build();
     }
 }
@@ -1,10 +1,15 @@
 package torquehub.torquehub.domain.mapper;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.domain.model.jpa_models.JpaAnswer;
+import torquehub.torquehub.domain.model.jpa_models.JpaComment;
 import torquehub.torquehub.persistence.jpa.impl.JpaBookmarkRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaFollowRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaVoteRepository;
 
+import java.util.List;
+
 public class QuestionMapperContext {
     private final CommentMapper commentMapper;
     private final AnswerMapper answerMapper;
@@ -13,10 +18,18 @@ public class QuestionMapperContext {
     private final JpaVoteRepository voteRepository;
     private final Long userId;
     private final Pageable pageable;
+    private final Page<JpaAnswer> answerPage;
 
     public QuestionMapperContext(CommentMapper commentMapper, AnswerMapper answerMapper,
                                  JpaBookmarkRepository bookmarkRepository, JpaFollowRepository followRepository,
                                  JpaVoteRepository voteRepository, Long userId, Pageable pageable) {
+        this(commentMapper, answerMapper, bookmarkRepository, followRepository, voteRepository, userId, pageable, null);
+    }
+
+    public QuestionMapperContext(CommentMapper commentMapper, AnswerMapper answerMapper,
+                                 JpaBookmarkRepository bookmarkRepository, JpaFollowRepository followRepository,
+                                 JpaVoteRepository voteRepository, Long userId, Pageable pageable,
+                                 Page<JpaAnswer> answerPage) {
         this.commentMapper = commentMapper;
         this.answerMapper = answerMapper;
         this.bookmarkRepository = bookmarkRepository;
@@ -24,6 +37,7 @@ public class QuestionMapperContext {
         this.voteRepository = voteRepository;
         this.userId = userId;
         this.pageable = pageable;
+        this.answerPage = answerPage;
     }
 
     public CommentMapper getCommentMapper() { return commentMapper; }
@@ -33,4 +47,26 @@ public class QuestionMapperContext {
     public JpaVoteRepository getVoteRepository() { return voteRepository; }
     public Long getUserId() { return userId; }
     public Pageable getPageable() { return pageable; }
+    public Page<JpaAnswer> getAnswerPage() { return answerPage; }
+
+    // Three IN-queries for the whole page instead of bookmark/follow/vote lookups per answer and comment
+    public UserInteractionState loadInteractionState(List<JpaAnswer> answers) {
+        List<Long> answerIds = answers.stream().map(JpaAnswer::getId).toList();
+        List<Long> commentIds = answers.stream()
+                .filter(answer -> answer.getJpaComments() != null)
+                .flatMap(answer -> answer.getJpaComments().stream().limit(AnswerMapper.COMMENT_PREVIEW_LIMIT))
+                .map(JpaComment::getId)
+                .toList();
+        return loadInteractionState(answerIds, commentIds);
+    }
+
+    public UserInteractionState loadInteractionState(List<Long> answerIds, List<Long> commentIds) {
+        if (userId == null || answerIds.isEmpty()) {
+            return UserInteractionState.empty();
+        }
+        return UserInteractionState.of(
+                bookmarkRepository.findBookmarkedAnswerIds(userId, answerIds),
+                followRepository.findFollowedAnswerIds(userId, answerIds),
+                voteRepository.findVoteStates(userId, answerIds, commentIds));
+    }
 }
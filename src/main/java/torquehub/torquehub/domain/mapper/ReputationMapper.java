@@ -13,4 +13,9 @@ public interface ReputationMapper {
     @Mapping(target = "message", source = "message")
     ReputationResponse toResponse(JpaUser jpaUser, String message, int points);
 
+    @Mapping(target = "userId", source = "userId")
+    @Mapping(target = "updatedReputationPoints", source = "updatedReputationPoints")
+    @Mapping(target = "message", source = "message")
+    ReputationResponse toResponse(Long userId, int updatedReputationPoints, String message);
+
 }
@@ -0,0 +1,77 @@
+package torquehub.torquehub.domain.mapper;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The current user's bookmarks, follows and votes for the answers and comments on one page,
+ * loaded up front so the mappers can answer from memory instead of querying per item.
+ */
+public class UserInteractionState {
+
+    private static final UserInteractionState EMPTY = new UserInteractionState(
+            Collections.emptySet(), Collections.emptySet(), Collections.emptyMap(), Collections.emptyMap());
+
+    private final Set<Long> bookmarkedAnswerIds;
+    private final Set<Long> followedAnswerIds;
+    private final Map<Long, Boolean> answerVotes;
+    private final Map<Long, Boolean> commentVotes;
+
+    public UserInteractionState(Set<Long> bookmarkedAnswerIds, Set<Long> followedAnswerIds,
+                                Map<Long, Boolean> answerVotes, Map<Long, Boolean> commentVotes) {
+        this.bookmarkedAnswerIds = bookmarkedAnswerIds;
+        this.followedAnswerIds = followedAnswerIds;
+        this.answerVotes = answerVotes;
+        this.commentVotes = commentVotes;
+    }
+
+    public static UserInteractionState empty() {
+        return EMPTY;
+    }
+
+    public static UserInteractionState of(Iterable<Long> bookmarkedAnswerIds, Iterable<Long> followedAnswerIds,
+                                          Iterable<Object[]> voteStates) {
+        Set<Long> bookmarked = new HashSet<>();
+        bookmarkedAnswerIds.forEach(bookmarked::add);
+        Set<Long> followed = new HashSet<>();
+        followedAnswerIds.forEach(followed::add);
+
+        Map<Long, Boolean> answerVotes = new HashMap<>();
+        Map<Long, Boolean> commentVotes = new HashMap<>();
+        for (Object[] row : voteStates) {
+            Long answerId = (Long) row[0];
+            Long commentId = (Long) row[1];
+            Boolean upvote = (Boolean) row[2];
+            if (answerId != null) {
+                answerVotes.put(answerId, upvote);
+            } else if (commentId != null) {
+                commentVotes.put(commentId, upvote);
+            }
+        }
+        return new UserInteractionState(bookmarked, followed, answerVotes, commentVotes);
+    }
+
+    public boolean isAnswerBookmarked(Long answerId) {
+        return bookmarkedAnswerIds.contains(answerId);
+    }
+
+    public boolean isAnswerFollowed(Long answerId) {
+        return followedAnswerIds.contains(answerId);
+    }
+
+    public String getAnswerVote(Long answerId) {
+        return toVoteString(answerVotes.get(answerId));
+    }
+
+    public String getCommentVote(Long commentId) {
+        return toVoteString(commentVotes.get(commentId));
+    }
+
+    private static String toVoteString(Boolean upvote) {
+        if (upvote == null) return null;
+        return upvote ? "up" : "down";
+    }
+}
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import torquehub.torquehub.domain.model.plain_models.BaseAnswer;
 
 import java.time.LocalDateTime;
@@ -20,7 +21,11 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "answers")
+@DynamicUpdate // only write changed columns so entity saves never overwrite the atomic vote counter
+@Table(name = "answers", indexes = {
+        @Index(name = "idx_answers_question_votes", columnList = "question_id, votes DESC, id"),
+        @Index(name = "idx_answers_question_time", columnList = "question_id, answered_time, id")
+})
 public class JpaAnswer extends BaseAnswer {
 
     @Id
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import torquehub.torquehub.domain.model.plain_models.BaseComment;
 
 import java.time.LocalDateTime;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@DynamicUpdate // only write changed columns so entity saves never overwrite the atomic vote counter
 @Table(name = "comments")
 public class JpaComment extends BaseComment {
 
@@ -17,6 +17,9 @@ import java.time.LocalDateTime;
 @Table(name = "notifications")
 public class JpaNotification extends BaseNotification {
 
+    // Set on vote notifications, so repeated votes on the same target can be told apart from other messages
+    public enum Type { QUESTION_VOTE, ANSWER_VOTE, COMMENT_VOTE }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -40,4 +43,16 @@ public class JpaNotification extends BaseNotification {
 
     @Column(name = "is_read", nullable = false)
     private boolean isRead = false;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private Type type;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    // How many people this notification speaks for; above one on digest rows
+    @Builder.Default
+    @Column(name = "actor_count", nullable = false)
+    private int actorCount = 1;
 }
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import torquehub.torquehub.domain.model.plain_models.BaseQuestion;
 
 import java.time.LocalDateTime;
@@ -19,7 +20,14 @@ import java.util.Set;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "questions")
+@DynamicUpdate // only write changed columns so entity saves never overwrite the atomic vote counter
+@Table(name = "questions", indexes = {
+        @Index(name = "idx_questions_asked_time_id", columnList = "asked_time, id"),
+        @Index(name = "idx_questions_last_activity_id", columnList = "last_activity_time, id"),
+        @Index(name = "idx_questions_votes_id", columnList = "votes, id"),
+        @Index(name = "idx_questions_views_id", columnList = "views, id"),
+        @Index(name = "idx_questions_total_answers_asked_time", columnList = "total_answers, asked_time, id")
+})
 public class JpaQuestion extends BaseQuestion {
 
     @Id
@@ -14,7 +14,11 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "votes")
+@Table(name = "votes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_votes_user_question", columnNames = {"user_id", "question_id"}),
+        @UniqueConstraint(name = "uk_votes_user_answer", columnNames = {"user_id", "answer_id"}),
+        @UniqueConstraint(name = "uk_votes_user_comment", columnNames = {"user_id", "comment_id"})
+})
 public class JpaVote extends BaseVote {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,7 @@
 package torquehub.torquehub.domain.request.tag_dtos;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class TagCreateRequest {
 
+    // Tag lists travel comma-separated (?tags=a,b and the aggregated tag names of question summaries)
     @NotBlank
     @Size(min = 3, max = 50,message = "Tag name must be between 3 and 50 characters")
+    @Pattern(regexp = "[^,]*", message = "Tag name cannot contain commas")
     private String name;
 }
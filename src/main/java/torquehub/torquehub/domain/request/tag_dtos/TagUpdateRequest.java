@@ -2,6 +2,7 @@ package torquehub.torquehub.domain.request.tag_dtos;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,7 +18,9 @@ public class TagUpdateRequest {
         @NotNull
         private Long id;
 
+        // Tag lists travel comma-separated (?tags=a,b and the aggregated tag names of question summaries)
         @NotBlank
         @Size(min = 3, max = 50,message = "Tag name must be between 3 and 50 characters")
+        @Pattern(regexp = "[^,]*", message = "Tag name cannot contain commas")
         private String name;
 }
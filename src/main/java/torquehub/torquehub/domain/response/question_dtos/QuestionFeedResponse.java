@@ -0,0 +1,19 @@
+package torquehub.torquehub.domain.response.question_dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuestionFeedResponse {
+
+    private List<QuestionSummaryResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
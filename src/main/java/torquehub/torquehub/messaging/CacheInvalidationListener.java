@@ -0,0 +1,50 @@
+package torquehub.torquehub.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.configuration.TwoLevelCacheManager;
+
+@Component
+@ConditionalOnProperty(name = "cache.two-level.enabled", havingValue = "true")
+public class CacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationListener(CacheManager cacheManager,
+                                     CacheInvalidationPublisher invalidationPublisher,
+                                     ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onInvalidation(String payload) {
+        try {
+            handle(objectMapper.readValue(payload, CacheInvalidationMessage.class));
+        } catch (Exception e) {
+            logger.error("Ignoring malformed cache invalidation message: {}", e.getMessage());
+        }
+    }
+
+    public void handle(CacheInvalidationMessage message) {
+        if (invalidationPublisher.getNodeId().equals(message.getNodeId())
+                || !(cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager)) {
+            return;
+        }
+        if (message.isClear()) {
+            twoLevelCacheManager.clearLocal(message.getCacheName());
+        } else {
+            twoLevelCacheManager.evictLocal(message.getCacheName(), message.decodeKey());
+        }
+    }
+}
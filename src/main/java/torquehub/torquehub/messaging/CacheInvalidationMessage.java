@@ -0,0 +1,59 @@
+package torquehub.torquehub.messaging;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidationMessage {
+
+    static final String LONG_KEY = "long";
+    static final String INT_KEY = "int";
+    static final String STRING_KEY = "string";
+    static final String EMPTY_KEY = "empty";
+
+    private String nodeId;
+    private String cacheName;
+    // Null means the whole cache is cleared
+    private String keyType;
+    private String key;
+
+    public static CacheInvalidationMessage evict(String nodeId, String cacheName, Object key) {
+        // Keys are sent with their type so the receiver evicts an equal key; unknown key types clear the cache
+        String keyType = null;
+        if (key instanceof Long) {
+            keyType = LONG_KEY;
+        } else if (key instanceof Integer) {
+            keyType = INT_KEY;
+        } else if (key instanceof String) {
+            keyType = STRING_KEY;
+        } else if (SimpleKey.EMPTY.equals(key)) {
+            keyType = EMPTY_KEY;
+        }
+        return new CacheInvalidationMessage(nodeId, cacheName, keyType, keyType == null ? null : String.valueOf(key));
+    }
+
+    public static CacheInvalidationMessage clear(String nodeId, String cacheName) {
+        return new CacheInvalidationMessage(nodeId, cacheName, null, null);
+    }
+
+    @JsonIgnore
+    public boolean isClear() {
+        return keyType == null;
+    }
+
+    public Object decodeKey() {
+        return switch (keyType) {
+            case LONG_KEY -> Long.valueOf(key);
+            case INT_KEY -> Integer.valueOf(key);
+            case EMPTY_KEY -> SimpleKey.EMPTY;
+            default -> key;
+        };
+    }
+}
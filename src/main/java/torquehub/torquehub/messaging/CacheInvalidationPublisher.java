@@ -0,0 +1,48 @@
+package torquehub.torquehub.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import torquehub.torquehub.configuration.RabbitMQConfig;
+
+import java.util.UUID;
+
+@Service
+@ConditionalOnProperty(name = "cache.two-level.enabled", havingValue = "true")
+public class CacheInvalidationPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+    }
+
+    // A lost message only leaves the other nodes' copy until it expires, so failures are logged, not thrown
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.CACHE_INVALIDATION_EXCHANGE, "", objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            logger.error("Failed to publish cache invalidation for {}: {}", message.getCacheName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package torquehub.torquehub.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import torquehub.torquehub.controllers.websocketcontrollers.WebSocketNotificationController;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+
+@Component
+@ConditionalOnProperty(name = "notification.push.broadcast.enabled", havingValue = "true")
+public class NotificationPushListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushListener.class);
+
+    private final WebSocketNotificationController webSocketNotificationController;
+    private final ObjectMapper objectMapper;
+
+    public NotificationPushListener(WebSocketNotificationController webSocketNotificationController, ObjectMapper objectMapper) {
+        this.webSocketNotificationController = webSocketNotificationController;
+        this.objectMapper = objectMapper;
+    }
+
+    // Every node forwards the push to its own STOMP broker; only the node holding the session delivers it
+    @RabbitListener(queues = "#{notificationPushQueue.name}")
+    public void onPush(String payload) {
+        try {
+            NotificationResponse notification = objectMapper.readValue(payload, NotificationResponse.class);
+            webSocketNotificationController.notifyClients(notification.getUserId(), notification);
+        } catch (Exception e) {
+            logger.error("Ignoring malformed notification push: {}", e.getMessage());
+        }
+    }
+}
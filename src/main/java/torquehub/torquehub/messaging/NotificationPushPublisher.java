@@ -0,0 +1,34 @@
+package torquehub.torquehub.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import torquehub.torquehub.configuration.RabbitMQConfig;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+
+/**
+ * Broadcasts a notification push to every node, so it reaches the recipient whichever node holds their
+ * websocket session. Failures are thrown so the caller can retry the delivery.
+ */
+@Service
+@ConditionalOnProperty(name = "notification.push.broadcast.enabled", havingValue = "true")
+public class NotificationPushPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationPushPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(NotificationResponse notification) {
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.NOTIFICATION_PUSH_EXCHANGE, "", objectMapper.writeValueAsString(notification));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize notification " + notification.getId(), e);
+        }
+    }
+}
@@ -42,6 +42,18 @@ public class JpaAnswerRepository implements AnswerRepository {
         return answerRepository.countByJpaUserId(userId);
     }
 
+    @Override
+    @Transactional
+    public boolean incrementVotes(Long answerId, int delta) {
+        return answerRepository.incrementVotes(answerId, delta) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Object[]> findSearchDocuments(Long afterId, Pageable pageable) {
+        return answerRepository.findSearchDocuments(afterId, pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<JpaAnswer> findByUserId(Long userId) {
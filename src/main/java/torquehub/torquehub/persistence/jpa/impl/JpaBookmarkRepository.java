@@ -6,6 +6,7 @@ import torquehub.torquehub.domain.model.jpa_models.JpaBookmark;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaBookmarkRepository;
 import torquehub.torquehub.persistence.repository.BookmarkRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +44,11 @@ public class JpaBookmarkRepository implements BookmarkRepository {
         return bookmarkRepository.findByJpaUserIdAndJpaAnswerId(userId, answerId);
     }
 
+    @Override
+    public List<Long> findBookmarkedAnswerIds(Long userId, Collection<Long> answerIds) {
+        return bookmarkRepository.findBookmarkedAnswerIds(userId, answerIds);
+    }
+
     @Override
     public boolean delete(JpaBookmark jpaBookmark) {
         if (bookmarkRepository.existsById(jpaBookmark.getId())) {
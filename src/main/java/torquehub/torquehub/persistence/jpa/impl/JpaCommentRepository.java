@@ -3,6 +3,7 @@ package torquehub.torquehub.persistence.jpa.impl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import torquehub.torquehub.domain.model.jpa_models.JpaComment;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaCommentRepository;
 import torquehub.torquehub.persistence.repository.CommentRepository;
@@ -43,6 +44,12 @@ public class JpaCommentRepository implements CommentRepository {
         return commentRepository.findByJpaAnswer_Id(answerId, pageable);
     }
 
+    @Override
+    @Transactional
+    public boolean incrementVotes(Long commentId, int delta) {
+        return commentRepository.incrementVotes(commentId, delta) > 0;
+    }
+
     @Override
     public boolean deleteById(Long id) {
         if (commentRepository.existsById(id)) {
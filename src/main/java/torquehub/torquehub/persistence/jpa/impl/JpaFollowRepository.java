@@ -1,13 +1,16 @@
 package torquehub.torquehub.persistence.jpa.impl;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import torquehub.torquehub.domain.model.jpa_models.JpaFollow;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaFollowRepository;
+import torquehub.torquehub.persistence.jpa.projection.FollowerProjection;
 import torquehub.torquehub.persistence.repository.FollowRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +53,11 @@ public class JpaFollowRepository implements FollowRepository {
         return followRepository.findByJpaUserIdAndJpaAnswerId(userId, answerId);
     }
 
+    @Override
+    public List<Long> findFollowedAnswerIds(Long userId, Collection<Long> answerIds) {
+        return followRepository.findFollowedAnswerIds(userId, answerIds);
+    }
+
     @Override
     public List<JpaFollow> findByFollowedUserId(Long followedUserId) {
         return followRepository.findByJpaUserId(followedUserId);
@@ -112,6 +120,16 @@ public class JpaFollowRepository implements FollowRepository {
         return followRepository.findByJpaAnswer_IdAndIsMutedFalse(answerId);
     }
 
+    @Override
+    public List<FollowerProjection> findUnmutedQuestionFollowersAfter(Long questionId, Long afterFollowId, int limit) {
+        return followRepository.findUnmutedQuestionFollowersAfter(questionId, afterFollowId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<FollowerProjection> findUnmutedAnswerFollowersAfter(Long answerId, Long afterFollowId, int limit) {
+        return followRepository.findUnmutedAnswerFollowersAfter(answerId, afterFollowId, PageRequest.of(0, limit));
+    }
+
     @Override
     public List<JpaFollow> findAllById(List<Long> followIds){
         return followRepository.findAllById(followIds);
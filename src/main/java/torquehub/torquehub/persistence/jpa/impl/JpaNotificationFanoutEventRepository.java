@@ -0,0 +1,39 @@
+package torquehub.torquehub.persistence.jpa.impl;
+
+import org.springframework.stereotype.Repository;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent;
+import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaNotificationFanoutEventRepository;
+import torquehub.torquehub.persistence.repository.NotificationFanoutEventRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaNotificationFanoutEventRepository implements NotificationFanoutEventRepository {
+
+    private final SpringDataJpaNotificationFanoutEventRepository eventRepository;
+
+    public JpaNotificationFanoutEventRepository(SpringDataJpaNotificationFanoutEventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public JpaNotificationFanoutEvent save(JpaNotificationFanoutEvent event) {
+        return eventRepository.save(event);
+    }
+
+    @Override
+    public void delete(JpaNotificationFanoutEvent event) {
+        eventRepository.delete(event);
+    }
+
+    @Override
+    public List<Long> findPendingIds(int limit) {
+        return eventRepository.findPendingIds(limit);
+    }
+
+    @Override
+    public Optional<JpaNotificationFanoutEvent> lockPendingById(Long id) {
+        return eventRepository.lockPendingById(id);
+    }
+}
@@ -0,0 +1,34 @@
+package torquehub.torquehub.persistence.jpa.impl;
+
+import org.springframework.stereotype.Repository;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationOutboxMessage;
+import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaNotificationOutboxRepository;
+import torquehub.torquehub.persistence.repository.NotificationOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class JpaNotificationOutboxRepository implements NotificationOutboxRepository {
+
+    private final SpringDataJpaNotificationOutboxRepository outboxRepository;
+
+    public JpaNotificationOutboxRepository(SpringDataJpaNotificationOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public JpaNotificationOutboxMessage save(JpaNotificationOutboxMessage message) {
+        return outboxRepository.save(message);
+    }
+
+    @Override
+    public List<JpaNotificationOutboxMessage> lockDue(LocalDateTime now, int limit) {
+        return outboxRepository.lockDue(now, limit);
+    }
+
+    @Override
+    public void deleteAll(List<JpaNotificationOutboxMessage> messages) {
+        outboxRepository.deleteAllInBatch(messages);
+    }
+}
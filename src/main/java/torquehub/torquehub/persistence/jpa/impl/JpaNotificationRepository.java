@@ -2,26 +2,44 @@ package torquehub.torquehub.persistence.jpa.impl;
 
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import torquehub.torquehub.domain.mapper.NotificationMapper;
 import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
 import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaNotificationRepository;
+import torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection;
 import torquehub.torquehub.persistence.repository.NotificationRepository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public class JpaNotificationRepository implements NotificationRepository {
 
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notifications (user_id, voter_id, message, points, created_at, is_read) VALUES (?, ?, ?, ?, ?, false)";
+
     private final SpringDataJpaNotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     public JpaNotificationRepository(SpringDataJpaNotificationRepository notificationRepository,
-                                     NotificationMapper notificationMapper) {
+                                     NotificationMapper notificationMapper,
+                                     JdbcTemplate jdbcTemplate) {
         this.notificationRepository = notificationRepository;
         this.notificationMapper = notificationMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -70,9 +88,102 @@ public class JpaNotificationRepository implements NotificationRepository {
         return notificationRepository.countByJpaUserIdAndIsReadFalse(userId);
     }
 
+    @Override
+    public int markUnreadAsRead(Long userId, int limit) {
+        return notificationRepository.markUnreadAsRead(userId, limit);
+    }
+
+    @Override
+    public Optional<JpaNotification> lockOpenVoteNotification(Long userId, JpaNotification.Type type, Long targetId,
+                                                               LocalDateTime createdAfter) {
+        return notificationRepository.findFirstByJpaUserIdAndTypeAndTargetIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(
+                userId, type, targetId, createdAfter);
+    }
+
+    @Override
+    public Optional<JpaNotification> lockForRead(Long notificationId) {
+        return notificationRepository.findLockedById(notificationId);
+    }
+
     @Override
     public void saveAll(List<JpaNotification> notifications) {
         notificationRepository.saveAll(notifications);
     }
 
+    /**
+     * Inserts the same notification for many recipients as one JDBC batch. Hibernate cannot batch inserts of
+     * IDENTITY entities, so saveAll would issue one statement per row. Runs in the caller's transaction.
+     */
+    @Override
+    public List<NotificationResponse> insertAll(List<Long> recipientIds, Long voterId, String message,
+                                                Integer points, LocalDateTime createdAt) {
+        if (recipientIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_NOTIFICATION, Statement.RETURN_GENERATED_KEYS)) {
+                for (Long recipientId : recipientIds) {
+                    statement.setLong(1, recipientId);
+                    statement.setObject(2, voterId, Types.BIGINT);
+                    statement.setString(3, message);
+                    statement.setObject(4, points, Types.INTEGER);
+                    statement.setTimestamp(5, Timestamp.valueOf(createdAt));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> generatedIds = new ArrayList<>(recipientIds.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generatedIds.add(keys.getLong(1));
+                    }
+                }
+                return generatedIds;
+            }
+        });
+
+        List<NotificationResponse> responses = new ArrayList<>(recipientIds.size());
+        for (int i = 0; i < recipientIds.size(); i++) {
+            responses.add(NotificationResponse.builder()
+                    .id(ids != null && i < ids.size() ? ids.get(i) : null)
+                    .userId(recipientIds.get(i))
+                    .voterId(voterId)
+                    .message(message)
+                    .points(points)
+                    .createdAt(createdAt)
+                    .isRead(false)
+                    .build());
+        }
+        return responses;
+    }
+
+    @Override
+    public List<VoteNotificationGroupProjection> findReadVoteGroupsBefore(LocalDateTime cutoff, int limit) {
+        return notificationRepository.findReadVoteGroupsBefore(cutoff, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int deleteReadVoteGroupBefore(Long userId, JpaNotification.Type type, Long targetId, LocalDateTime cutoff) {
+        return notificationRepository.deleteReadVoteGroupBefore(userId, type, targetId, cutoff);
+    }
+
+    @Override
+    public void insertReadDigest(Long userId, JpaNotification.Type type, Long targetId, int actorCount,
+                                 String message, LocalDateTime createdAt) {
+        notificationRepository.insertReadDigest(userId, type.name(), targetId, actorCount, message, createdAt);
+    }
+
+    @Override
+    public List<Long> findReadIdsBefore(LocalDateTime cutoff, int limit) {
+        return notificationRepository.findReadIdsBefore(cutoff, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int archiveByIds(List<Long> ids, LocalDateTime archivedAt) {
+        return notificationRepository.archiveByIds(ids, archivedAt);
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        return notificationRepository.deleteByIds(ids);
+    }
 }
@@ -0,0 +1,56 @@
+package torquehub.torquehub.persistence.jpa.impl;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationUnreadCounter;
+import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaNotificationUnreadCounterRepository;
+import torquehub.torquehub.persistence.repository.NotificationUnreadCounterRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+@Repository
+public class JpaNotificationUnreadCounterRepository implements NotificationUnreadCounterRepository {
+
+    private static final String INCREMENT_COUNTER =
+            "INSERT INTO notification_unread_counters (user_id, unread_count) VALUES (?, 1) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1";
+
+    private final SpringDataJpaNotificationUnreadCounterRepository counterRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public JpaNotificationUnreadCounterRepository(SpringDataJpaNotificationUnreadCounterRepository counterRepository,
+                                                  JdbcTemplate jdbcTemplate) {
+        this.counterRepository = counterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long findUnreadCount(Long userId) {
+        return counterRepository.findById(userId)
+                .map(JpaNotificationUnreadCounter::getUnreadCount)
+                .orElse(0L);
+    }
+
+    @Override
+    public void adjust(Long userId, long delta) {
+        counterRepository.adjust(userId, delta);
+    }
+
+    /**
+     * Adds one unread notification for each of the users as a single JDBC batch, for the follower fan-out.
+     * Runs in the caller's transaction. Rows are written in ascending user id order, so concurrent batches
+     * that share recipients take their row locks in the same order instead of deadlocking.
+     */
+    @Override
+    public void incrementAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> orderedIds = new ArrayList<>(new TreeSet<>(userIds));
+        jdbcTemplate.batchUpdate(INCREMENT_COUNTER, orderedIds, orderedIds.size(),
+                (statement, userId) -> statement.setLong(1, userId));
+    }
+}
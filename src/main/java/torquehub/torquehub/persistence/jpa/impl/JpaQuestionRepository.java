@@ -1,13 +1,27 @@
 package torquehub.torquehub.persistence.jpa.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaQuestionRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 import torquehub.torquehub.persistence.repository.QuestionRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +29,11 @@ import java.util.Optional;
 public class JpaQuestionRepository implements QuestionRepository {
 
     private final SpringDataJpaQuestionRepository questionRepository;
+    private final EntityManager entityManager;
 
-    public JpaQuestionRepository(SpringDataJpaQuestionRepository questionRepository) {
+    public JpaQuestionRepository(SpringDataJpaQuestionRepository questionRepository, EntityManager entityManager) {
         this.questionRepository = questionRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -45,6 +61,31 @@ public class JpaQuestionRepository implements QuestionRepository {
         return questionRepository.findAll(pageable);
     }
 
+    @Override
+    public Page<JpaQuestion> findAll(Specification<JpaQuestion> specification, Pageable pageable) {
+        return questionRepository.findAll(specification, pageable);
+    }
+
+    // Selects only the ids of the matching page, so the caller can load its summaries without touching the entities
+    @Override
+    public Page<Long> findIds(Specification<JpaQuestion> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JpaQuestion> root = query.from(JpaQuestion.class);
+        query.select(root.get("id"));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Long> ids = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(ids, pageable, () -> questionRepository.count(specification));
+    }
+
     @Override
     public Page<JpaQuestion> findQuestionsByTags(List<JpaTag> jpaTagEntities, Pageable pageable) {
         return questionRepository.findQuestionsByTagNames(jpaTagEntities.stream().map(JpaTag::getName).toList(), pageable);
@@ -81,8 +122,82 @@ public class JpaQuestionRepository implements QuestionRepository {
         return questionRepository.findQuestionsWithNoAnswers(pageable);
     }
 
+    // A null id means the first page of the feed
+    @Override
+    public Slice<QuestionFeedKeyProjection> findAskedTimeFeed(LocalDateTime askedTime, Long id, Pageable pageable) {
+        return id == null
+                ? questionRepository.findAskedTimeFeedFirst(pageable)
+                : questionRepository.findAskedTimeFeedAfter(askedTime, id, pageable);
+    }
+
+    @Override
+    public Slice<QuestionFeedKeyProjection> findLastActivityFeed(LocalDateTime lastActivityTime, Long id, Pageable pageable) {
+        return id == null
+                ? questionRepository.findLastActivityFeedFirst(pageable)
+                : questionRepository.findLastActivityFeedAfter(lastActivityTime, id, pageable);
+    }
+
+    @Override
+    public Slice<QuestionFeedKeyProjection> findVotesFeed(Integer votes, Long id, Pageable pageable) {
+        return id == null
+                ? questionRepository.findVotesFeedFirst(pageable)
+                : questionRepository.findVotesFeedAfter(votes, id, pageable);
+    }
+
+    @Override
+    public Slice<QuestionFeedKeyProjection> findViewsFeed(Integer views, Long id, Pageable pageable) {
+        return id == null
+                ? questionRepository.findViewsFeedFirst(pageable)
+                : questionRepository.findViewsFeedAfter(views, id, pageable);
+    }
+
+    @Override
+    public Page<QuestionSummaryProjection> findSummaries(Pageable pageable) {
+        return questionRepository.findSummaries(pageable);
+    }
+
+    @Override
+    public Page<QuestionSummaryProjection> findUnansweredSummaries(Pageable pageable) {
+        return questionRepository.findUnansweredSummaries(pageable);
+    }
+
+    @Override
+    public Page<QuestionSummaryProjection> findSummariesByTagNames(List<String> tagNames, Pageable pageable) {
+        return questionRepository.findSummariesByTagNames(tagNames, pageable);
+    }
+
+    @Override
+    public List<QuestionSummaryProjection> findSummariesByUserId(Long userId) {
+        return questionRepository.findSummariesByUserId(userId);
+    }
+
+    @Override
+    public List<QuestionSummaryProjection> findSummariesByIds(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return List.of();
+        }
+        return questionRepository.findSummariesByIds(questionIds);
+    }
+
+    @Override
+    public List<Object[]> findSearchDocuments(Long afterId, Pageable pageable) {
+        return questionRepository.findSearchDocuments(afterId, pageable);
+    }
+
     @Override
     public Long countByJpaUserId(Long userId) {
         return questionRepository.countByJpaUserId(userId);
     }
+
+    @Override
+    @Transactional
+    public boolean incrementVotes(Long questionId, int delta) {
+        return questionRepository.incrementVotes(questionId, delta) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int incrementViews(Collection<Long> questionIds, int delta) {
+        return questionRepository.incrementViews(questionIds, delta);
+    }
 }
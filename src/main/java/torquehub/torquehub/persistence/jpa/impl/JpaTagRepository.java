@@ -1,10 +1,12 @@
 package torquehub.torquehub.persistence.jpa.impl;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaTagRepository;
 import torquehub.torquehub.persistence.repository.TagRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +34,21 @@ public class JpaTagRepository implements TagRepository {
         return tagRepository.findByName(tagName);
     }
 
+    @Override
+    public List<JpaTag> findByNameIn(Collection<String> tagNames) {
+        return tagRepository.findByNameIn(tagNames);
+    }
+
+    // One UPDATE for all tags of a question instead of a read-modify-save per tag
+    @Override
+    @Transactional
+    public boolean incrementUsageCount(Collection<Long> tagIds) {
+        if (tagIds.isEmpty()) {
+            return false;
+        }
+        return tagRepository.incrementUsageCount(tagIds) > 0;
+    }
+
     @Override
     public boolean delete(JpaTag jpaTag) {
         if (tagRepository.existsById(jpaTag.getId())) {
@@ -1,6 +1,7 @@
 package torquehub.torquehub.persistence.jpa.impl;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaUserRepository;
 import torquehub.torquehub.persistence.repository.UserRepository;
@@ -60,4 +61,19 @@ public class JpaUserRepository implements UserRepository {
     public Optional<JpaUser> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
+
+    @Override
+    @Transactional
+    public boolean incrementPoints(Long userId, int delta) {
+        return userRepository.incrementPoints(userId, delta) > 0;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Integer> addPoints(Long userId, int delta) {
+        if (userRepository.incrementPointsAndRemember(userId, delta) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(userRepository.findRememberedPoints().intValue());
+    }
 }
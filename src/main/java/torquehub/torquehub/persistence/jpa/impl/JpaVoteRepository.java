@@ -5,6 +5,8 @@ import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaVoteRepository;
 import torquehub.torquehub.persistence.repository.VoteRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -56,9 +58,19 @@ public class JpaVoteRepository implements VoteRepository {
         return voteRepository.findByJpaUserAndJpaQuestion(jpaUser, jpaQuestion);
     }
 
+    @Override
+    public Optional<JpaVote> findByUserIdAndQuestionId(Long userId, Long questionId) {
+        return voteRepository.findByJpaUserIdAndJpaQuestionId(userId, questionId);
+    }
+
     @Override
     public Optional<JpaVote> findByUserIdAndCommentId(Long userId, Long commentId) {
         return voteRepository.findByJpaUserIdAndJpaCommentId(userId, commentId);
     }
 
+    @Override
+    public List<Object[]> findVoteStates(Long userId, Collection<Long> answerIds, Collection<Long> commentIds) {
+        return voteRepository.findVoteStates(userId, answerIds, commentIds);
+    }
+
 }
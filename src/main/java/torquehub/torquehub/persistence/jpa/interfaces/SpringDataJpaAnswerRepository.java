@@ -3,6 +3,9 @@ package torquehub.torquehub.persistence.jpa.interfaces;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaAnswer;
 
 import java.util.List;
@@ -11,4 +14,12 @@ public interface SpringDataJpaAnswerRepository extends JpaRepository<JpaAnswer,
     List<JpaAnswer> findByJpaUser_Id(Long userId);
     Page<JpaAnswer> findByJpaQuestion_Id(Long questionId, Pageable pageable);
     Long countByJpaUserId(Long userId);
+
+    // Rows of [id, question id, text] in id order, read in batches when the search index is rebuilt
+    @Query("SELECT a.id, a.jpaQuestion.id, a.text FROM JpaAnswer a WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JpaAnswer a SET a.votes = a.votes + :delta WHERE a.id = :id")
+    int incrementVotes(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -3,8 +3,11 @@ package torquehub.torquehub.persistence.jpa.interfaces;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaBookmark;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,7 @@ public interface SpringDataJpaBookmarkRepository extends JpaRepository<JpaBookma
     Optional<JpaBookmark> findByJpaUserIdAndJpaAnswerId(Long userId, Long answerId);
     Page<JpaBookmark> findByJpaUserIdAndJpaQuestionIsNotNull(Long userId, Pageable pageable);
     Page<JpaBookmark> findByJpaUserIdAndJpaAnswerIsNotNull(Long userId, Pageable pageable);
+
+    @Query("SELECT b.jpaAnswer.id FROM JpaBookmark b WHERE b.jpaUser.id = :userId AND b.jpaAnswer.id IN :answerIds")
+    List<Long> findBookmarkedAnswerIds(@Param("userId") Long userId, @Param("answerIds") Collection<Long> answerIds);
 }
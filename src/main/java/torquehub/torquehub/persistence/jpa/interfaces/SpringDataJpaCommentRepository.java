@@ -3,6 +3,9 @@ package torquehub.torquehub.persistence.jpa.interfaces;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaComment;
 
 import java.util.List;
@@ -12,4 +15,8 @@ public interface SpringDataJpaCommentRepository extends JpaRepository<JpaComment
     List<JpaComment> findByJpaUser_Id(Long userId);
     Page<JpaComment> findByJpaAnswer_Id(Long answerId, Pageable pageable);
     List<JpaComment> findAllByJpaAnswer_Id(Long answerId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JpaComment c SET c.votes = c.votes + :delta WHERE c.id = :id")
+    int incrementVotes(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -3,10 +3,14 @@ package torquehub.torquehub.persistence.jpa.interfaces;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaFollow;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
+import torquehub.torquehub.persistence.jpa.projection.FollowerProjection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +27,20 @@ public interface SpringDataJpaFollowRepository extends JpaRepository<JpaFollow,
     List<JpaFollow> findByJpaQuestion_IdAndIsMutedFalse(Long questionId);
     List<JpaFollow> findByJpaAnswer_IdAndIsMutedFalse(Long answerId);
 
+    @Query("SELECT f.jpaAnswer.id FROM JpaFollow f WHERE f.jpaUser.id = :userId AND f.jpaAnswer.id IN :answerIds")
+    List<Long> findFollowedAnswerIds(@Param("userId") Long userId, @Param("answerIds") Collection<Long> answerIds);
+
+    @Query("SELECT new torquehub.torquehub.persistence.jpa.projection.FollowerProjection(f.id, f.jpaUser.id) " +
+            "FROM JpaFollow f WHERE f.jpaQuestion.id = :questionId AND f.isMuted = false AND f.id > :afterFollowId ORDER BY f.id")
+    List<FollowerProjection> findUnmutedQuestionFollowersAfter(@Param("questionId") Long questionId,
+                                                               @Param("afterFollowId") Long afterFollowId,
+                                                               Pageable pageable);
+
+    @Query("SELECT new torquehub.torquehub.persistence.jpa.projection.FollowerProjection(f.id, f.jpaUser.id) " +
+            "FROM JpaFollow f WHERE f.jpaAnswer.id = :answerId AND f.isMuted = false AND f.id > :afterFollowId ORDER BY f.id")
+    List<FollowerProjection> findUnmutedAnswerFollowersAfter(@Param("answerId") Long answerId,
+                                                             @Param("afterFollowId") Long afterFollowId,
+                                                             Pageable pageable);
+
 
 }
@@ -0,0 +1,21 @@
+package torquehub.torquehub.persistence.jpa.interfaces;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SpringDataJpaNotificationFanoutEventRepository extends JpaRepository<JpaNotificationFanoutEvent, Long> {
+
+    @Query(value = "SELECT id FROM notification_fanout_events ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPendingIds(@Param("limit") int limit);
+
+    // A row another node is expanding right now is skipped instead of waited for
+    @Query(value = "SELECT * FROM notification_fanout_events WHERE id = :id FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    Optional<JpaNotificationFanoutEvent> lockPendingById(@Param("id") Long id);
+}
@@ -0,0 +1,17 @@
+package torquehub.torquehub.persistence.jpa.interfaces;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SpringDataJpaNotificationOutboxRepository extends JpaRepository<JpaNotificationOutboxMessage, Long> {
+
+    // Rows locked by a relay on another node are skipped, so several nodes can drain the outbox side by side
+    @Query(value = "SELECT * FROM notification_outbox WHERE next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<JpaNotificationOutboxMessage> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -1,10 +1,18 @@
 package torquehub.torquehub.persistence.jpa.interfaces;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
+import torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +25,55 @@ public interface SpringDataJpaNotificationRepository extends JpaRepository<JpaNo
     Optional<JpaNotification> findJpaNotificationById (Long id);
     long countByJpaUserIdAndIsReadFalse(Long userId);
 
+    // Concurrent votes on the same target queue up on this row instead of each inserting their own
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<JpaNotification> findFirstByJpaUserIdAndTypeAndTargetIdAndIsReadFalseAndCreatedAtAfterOrderByIdDesc(
+            Long userId, JpaNotification.Type type, Long targetId, LocalDateTime createdAfter);
 
+    // Waits for a vote still being folded into the row to commit, so the committed state is read
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<JpaNotification> findLockedById(Long id);
+
+    // Flips at most :limit rows per statement so a user with a huge backlog does not hold their row locks for long
+    @Modifying
+    @Query(value = "UPDATE notifications SET is_read = true WHERE user_id = :userId AND is_read = false " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    int markUnreadAsRead(@Param("userId") Long userId, @Param("limit") int limit);
+
+    // A voter is counted once however many of their rows the group holds; rows without a voter are earlier digests,
+    // and a coalesced row names only its first voter, so their remaining actors are added on top
+    @Query("SELECT new torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection(" +
+            "n.jpaUser.id, n.type, n.targetId, COUNT(n), " +
+            "COUNT(DISTINCT v.id) + SUM(CASE WHEN v.id IS NULL THEN n.actorCount ELSE n.actorCount - 1 END), " +
+            "MAX(n.createdAt)) " +
+            "FROM JpaNotification n LEFT JOIN n.voter v WHERE n.isRead = true AND n.type IS NOT NULL AND n.createdAt < :cutoff " +
+            "GROUP BY n.jpaUser.id, n.type, n.targetId HAVING COUNT(n) > 1")
+    List<VoteNotificationGroupProjection> findReadVoteGroupsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM JpaNotification n WHERE n.jpaUser.id = :userId AND n.type = :type AND n.targetId = :targetId " +
+            "AND n.isRead = true AND n.createdAt < :cutoff")
+    int deleteReadVoteGroupBefore(@Param("userId") Long userId, @Param("type") JpaNotification.Type type,
+                                  @Param("targetId") Long targetId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "INSERT INTO notifications (user_id, message, created_at, is_read, type, target_id, actor_count) " +
+            "VALUES (:userId, :message, :createdAt, true, :type, :targetId, :actorCount)", nativeQuery = true)
+    int insertReadDigest(@Param("userId") Long userId, @Param("type") String type, @Param("targetId") Long targetId,
+                         @Param("actorCount") int actorCount, @Param("message") String message,
+                         @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT n.id FROM JpaNotification n WHERE n.isRead = true AND n.createdAt < :cutoff ORDER BY n.id")
+    List<Long> findReadIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO notifications_archive " +
+            "(id, user_id, voter_id, message, points, created_at, type, target_id, actor_count, archived_at) " +
+            "SELECT id, user_id, voter_id, message, points, created_at, type, target_id, actor_count, :archivedAt " +
+            "FROM notifications WHERE id IN (:ids)", nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM JpaNotification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,16 @@
+package torquehub.torquehub.persistence.jpa.interfaces;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationUnreadCounter;
+
+public interface SpringDataJpaNotificationUnreadCounterRepository extends JpaRepository<JpaNotificationUnreadCounter, Long> {
+
+    // Creates the row on the first notification; the count never drops below zero
+    @Modifying
+    @Query(value = "INSERT INTO notification_unread_counters (user_id, unread_count) VALUES (:userId, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + :delta, 0)", nativeQuery = true)
+    int adjust(@Param("userId") Long userId, @Param("delta") long delta);
+}
@@ -2,15 +2,29 @@ package torquehub.torquehub.persistence.jpa.interfaces;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface SpringDataJpaQuestionRepository extends JpaRepository<JpaQuestion, Long> {
+public interface SpringDataJpaQuestionRepository extends JpaRepository<JpaQuestion, Long>, JpaSpecificationExecutor<JpaQuestion> {
+
+    // List pages select only the summary columns, the author and the aggregated tag names in one statement
+    String SUMMARY_SELECT = "SELECT new torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection(" +
+            "q.id, q.title, u.username, u.points, q.views, q.votes, q.totalAnswers, q.askedTime, listagg(t.name, ',')) " +
+            "FROM JpaQuestion q JOIN q.jpaUser u LEFT JOIN q.jpaTags t ";
+    String SUMMARY_GROUP_BY = " GROUP BY q.id, u.id";
+
     Page<JpaQuestion> findAll(Pageable pageable);
     Optional<JpaQuestion> findById(Long aLong);
     Optional<JpaQuestion> findByTitle(String title);
@@ -31,8 +45,73 @@ public interface SpringDataJpaQuestionRepository extends JpaRepository<JpaQuesti
     Page<JpaQuestion> findAllByOrderByVotesDesc(Pageable pageable);
     Page<JpaQuestion> findAllByOrderByViewsDesc(Pageable pageable);
 
-    @Query("SELECT q FROM JpaQuestion q LEFT JOIN FETCH q.jpaAnswers WHERE SIZE(q.jpaAnswers) = 0")
+    // Keyset feeds: each page continues after the (sort key, id) of the previous page's last row, without a COUNT query.
+    // They select only the id and the sort key; the page's rows are then loaded through the summary projection
+    String FEED_KEY_SELECT = "SELECT new torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection(q.id, ";
+
+    @Query(FEED_KEY_SELECT + "q.askedTime) FROM JpaQuestion q ORDER BY q.askedTime DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findAskedTimeFeedFirst(Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.lastActivityTime) FROM JpaQuestion q ORDER BY q.lastActivityTime DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findLastActivityFeedFirst(Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.votes) FROM JpaQuestion q ORDER BY q.votes DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findVotesFeedFirst(Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.views) FROM JpaQuestion q ORDER BY q.views DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findViewsFeedFirst(Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.askedTime) FROM JpaQuestion q WHERE q.askedTime < :askedTime OR (q.askedTime = :askedTime AND q.id < :id) " +
+            "ORDER BY q.askedTime DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findAskedTimeFeedAfter(@Param("askedTime") LocalDateTime askedTime, @Param("id") Long id, Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.lastActivityTime) FROM JpaQuestion q WHERE q.lastActivityTime < :lastActivityTime OR (q.lastActivityTime = :lastActivityTime AND q.id < :id) " +
+            "ORDER BY q.lastActivityTime DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findLastActivityFeedAfter(@Param("lastActivityTime") LocalDateTime lastActivityTime, @Param("id") Long id, Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.votes) FROM JpaQuestion q WHERE q.votes < :votes OR (q.votes = :votes AND q.id < :id) " +
+            "ORDER BY q.votes DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findVotesFeedAfter(@Param("votes") int votes, @Param("id") Long id, Pageable pageable);
+
+    @Query(FEED_KEY_SELECT + "q.views) FROM JpaQuestion q WHERE q.views < :views OR (q.views = :views AND q.id < :id) " +
+            "ORDER BY q.views DESC, q.id DESC")
+    Slice<QuestionFeedKeyProjection> findViewsFeedAfter(@Param("views") int views, @Param("id") Long id, Pageable pageable);
+
+    // Reads the denormalised answer counter so both queries stay on idx_questions_total_answers_asked_time
+    @Query(value = "SELECT q FROM JpaQuestion q WHERE q.totalAnswers = 0 ORDER BY q.askedTime DESC, q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM JpaQuestion q WHERE q.totalAnswers = 0")
     Page<JpaQuestion> findQuestionsWithNoAnswers(Pageable pageable);
 
+    @Query(value = SUMMARY_SELECT + SUMMARY_GROUP_BY,
+            countQuery = "SELECT COUNT(q) FROM JpaQuestion q")
+    Page<QuestionSummaryProjection> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE q.totalAnswers = 0" + SUMMARY_GROUP_BY + " ORDER BY q.askedTime DESC, q.id DESC",
+            countQuery = "SELECT COUNT(q) FROM JpaQuestion q WHERE q.totalAnswers = 0")
+    Page<QuestionSummaryProjection> findUnansweredSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT +
+            "WHERE q.id IN (SELECT tq.id FROM JpaQuestion tq JOIN tq.jpaTags tt WHERE tt.name IN :tags)" + SUMMARY_GROUP_BY,
+            countQuery = "SELECT COUNT(DISTINCT q) FROM JpaQuestion q JOIN q.jpaTags t WHERE t.name IN :tags")
+    Page<QuestionSummaryProjection> findSummariesByTagNames(@Param("tags") List<String> tags, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId" + SUMMARY_GROUP_BY)
+    List<QuestionSummaryProjection> findSummariesByUserId(@Param("userId") Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE q.id IN :ids" + SUMMARY_GROUP_BY)
+    List<QuestionSummaryProjection> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // Rows of [id, title, description, votes, views] in id order, read in batches when the search index is rebuilt
+    @Query("SELECT q.id, q.title, q.description, q.votes, q.views FROM JpaQuestion q WHERE q.id > :afterId ORDER BY q.id")
+    List<Object[]> findSearchDocuments(@Param("afterId") Long afterId, Pageable pageable);
+
     Long countByJpaUserId(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JpaQuestion q SET q.votes = q.votes + :delta WHERE q.id = :id")
+    int incrementVotes(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE JpaQuestion q SET q.views = q.views + :delta WHERE q.id IN :ids")
+    int incrementViews(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 }
@@ -1,13 +1,22 @@
 package torquehub.torquehub.persistence.jpa.interfaces;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataJpaTagRepository extends JpaRepository<JpaTag, Long> {
     Optional<JpaTag> findByName(String name);
+    List<JpaTag> findByNameIn(Collection<String> names);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JpaTag t SET t.usageCount = t.usageCount + 1 WHERE t.id IN :ids")
+    int incrementUsageCount(@Param("ids") Collection<Long> ids);
 
     List<JpaTag> findTop5ByOrderByUsageCountDesc();
     List<JpaTag> findTop5ByNameContainingIgnoreCaseOrderByUsageCountDesc(String searchQuery);
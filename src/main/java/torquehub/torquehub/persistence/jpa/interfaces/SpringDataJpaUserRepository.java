@@ -1,6 +1,9 @@
 package torquehub.torquehub.persistence.jpa.interfaces;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
 
 import java.util.Optional;
@@ -10,4 +13,16 @@ public interface SpringDataJpaUserRepository extends JpaRepository<JpaUser, Long
     Optional<JpaUser> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE JpaUser u SET u.points = u.points + :delta WHERE u.id = :id")
+    int incrementPoints(@Param("id") Long id, @Param("delta") int delta);
+
+    // LAST_INSERT_ID(expr) remembers the new total on the connection, so it can be read back without touching the row again
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE users SET points = LAST_INSERT_ID(points + :delta) WHERE id = :id", nativeQuery = true)
+    int incrementPointsAndRemember(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query(value = "SELECT CAST(LAST_INSERT_ID() AS SIGNED)", nativeQuery = true)
+    Long findRememberedPoints();
 }
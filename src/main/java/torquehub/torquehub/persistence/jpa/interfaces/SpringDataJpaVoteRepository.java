@@ -1,16 +1,28 @@
 package torquehub.torquehub.persistence.jpa.interfaces;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import torquehub.torquehub.domain.model.jpa_models.*;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SpringDataJpaVoteRepository extends JpaRepository<JpaVote, Long> {
     Optional<JpaVote> findByJpaUserAndJpaAnswer(JpaUser jpaUser, JpaAnswer jpaAnswer);
     Optional<JpaVote> findByJpaUserIdAndJpaAnswerId(Long userId, Long answerId);
     Optional<JpaVote> findByJpaUserAndJpaQuestion(JpaUser jpaUser, JpaQuestion jpaQuestion);
+    Optional<JpaVote> findByJpaUserIdAndJpaQuestionId(Long userId, Long questionId);
     Optional<JpaVote> findByJpaUserAndJpaComment(JpaUser jpaUser, JpaComment jpaComment);
     Optional<JpaVote> findTopByJpaUserAndJpaQuestionOrderByVotedAtDesc(JpaUser jpaUser, JpaQuestion jpaQuestion);
     Optional<JpaVote> findByJpaUserIdAndJpaCommentId(Long userId, Long commentId);
 
+    // Each row is [answerId, commentId, upvote]; only one of the two ids is set
+    @Query("SELECT a.id, c.id, v.upvote FROM JpaVote v LEFT JOIN v.jpaAnswer a LEFT JOIN v.jpaComment c " +
+            "WHERE v.jpaUser.id = :userId AND (a.id IN :answerIds OR c.id IN :commentIds)")
+    List<Object[]> findVoteStates(@Param("userId") Long userId,
+                                  @Param("answerIds") Collection<Long> answerIds,
+                                  @Param("commentIds") Collection<Long> commentIds);
+
 }
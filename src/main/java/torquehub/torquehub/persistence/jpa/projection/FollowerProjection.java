@@ -0,0 +1,15 @@
+package torquehub.torquehub.persistence.jpa.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A follow row reduced to what a notification fan-out needs: its id to page on, and the follower.
+ */
+@Getter
+@AllArgsConstructor
+public class FollowerProjection {
+
+    private Long followId;
+    private Long userId;
+}
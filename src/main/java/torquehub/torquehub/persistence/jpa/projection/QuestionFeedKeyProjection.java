@@ -0,0 +1,29 @@
+package torquehub.torquehub.persistence.jpa.projection;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id and sort key of a question in a keyset feed; enough to order the page and build the next cursor.
+ * Only the key of the feed being read is set, so the feed index alone can answer the query.
+ */
+@Getter
+public class QuestionFeedKeyProjection {
+
+    private final Long id;
+    private final LocalDateTime timeKey;
+    private final Integer countKey;
+
+    public QuestionFeedKeyProjection(Long id, LocalDateTime timeKey) {
+        this.id = id;
+        this.timeKey = timeKey;
+        this.countKey = null;
+    }
+
+    public QuestionFeedKeyProjection(Long id, Integer countKey) {
+        this.id = id;
+        this.timeKey = null;
+        this.countKey = countKey;
+    }
+}
@@ -0,0 +1,27 @@
+package torquehub.torquehub.persistence.jpa.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of a question list page, selected column by column instead of loading the question entity.
+ * Tag names arrive aggregated into one comma separated string.
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionSummaryProjection {
+
+    public static final String TAG_SEPARATOR = ",";
+
+    private Long id;
+    private String title;
+    private String userName;
+    private int userPoints;
+    private int views;
+    private int votes;
+    private int totalAnswers;
+    private LocalDateTime askedTime;
+    private String tagNames;
+}
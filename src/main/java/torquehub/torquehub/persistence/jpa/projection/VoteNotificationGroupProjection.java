@@ -0,0 +1,23 @@
+package torquehub.torquehub.persistence.jpa.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read vote notifications of one user about one target, summed up for merging into a single digest row.
+ * The actor count counts each voter once.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteNotificationGroupProjection {
+
+    private Long userId;
+    private JpaNotification.Type type;
+    private Long targetId;
+    private Long notificationCount;
+    private Long actorCount;
+    private LocalDateTime latestCreatedAt;
+}
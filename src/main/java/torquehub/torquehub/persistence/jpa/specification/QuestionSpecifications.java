@@ -0,0 +1,50 @@
+package torquehub.torquehub.persistence.jpa.specification;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
+import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Building blocks for the combined question filter. Tag matching uses correlated subqueries instead of a join,
+ * so every question appears once and neither the page query nor its count query needs DISTINCT.
+ */
+public final class QuestionSpecifications {
+
+    private QuestionSpecifications() {
+    }
+
+    public static Specification<JpaQuestion> hasAnyTag(Collection<String> tagNames) {
+        return (root, query, cb) -> {
+            Subquery<Long> tagged = query.subquery(Long.class);
+            Root<JpaQuestion> question = tagged.correlate(root);
+            Join<JpaQuestion, JpaTag> tags = question.join("jpaTags");
+            tagged.select(tags.get("id")).where(tags.get("name").in(tagNames));
+            return cb.exists(tagged);
+        };
+    }
+
+    public static Specification<JpaQuestion> hasAllTags(Collection<String> tagNames) {
+        long required = new HashSet<>(tagNames).size();
+        return (root, query, cb) -> {
+            Subquery<Long> matched = query.subquery(Long.class);
+            Root<JpaQuestion> question = matched.correlate(root);
+            Join<JpaQuestion, JpaTag> tags = question.join("jpaTags");
+            matched.select(cb.countDistinct(tags.get("name"))).where(tags.get("name").in(tagNames));
+            return cb.equal(matched, required);
+        };
+    }
+
+    public static Specification<JpaQuestion> hasNoAnswers() {
+        return (root, query, cb) -> cb.equal(root.get("totalAnswers"), 0);
+    }
+
+    public static Specification<JpaQuestion> hasNoAcceptedAnswer() {
+        return (root, query, cb) -> cb.isNull(root.get("bestAnswerId"));
+    }
+}
@@ -20,4 +20,8 @@ public interface AnswerRepository {
 
     Long countByJpaUserId(Long userId);
 
+    boolean incrementVotes(Long answerId, int delta);
+
+    List<Object[]> findSearchDocuments(Long afterId, Pageable pageable);
+
 }
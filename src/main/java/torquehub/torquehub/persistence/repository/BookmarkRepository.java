@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import torquehub.torquehub.domain.model.jpa_models.JpaBookmark;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +19,5 @@ public interface BookmarkRepository {
     Page<JpaBookmark> findByUserIdAndJpaQuestionIsNotNull(Long userId, Pageable pageable);
     Page<JpaBookmark> findByUserIdAndJpaAnswerIsNotNull(Long userId, Pageable pageable);
     Optional<JpaBookmark> findByUserIdAndAnswerId(Long userId, Long answerId);
+    List<Long> findBookmarkedAnswerIds(Long userId, Collection<Long> answerIds);
 }
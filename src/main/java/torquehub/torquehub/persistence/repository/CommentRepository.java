@@ -14,5 +14,6 @@ public interface CommentRepository {
     List<JpaComment> findByAnswerId(Long answerId);
     List<JpaComment> findByUserId(Long userId);
     Page<JpaComment> findByAnswerId(Long answerId, Pageable pageable);
+    boolean incrementVotes(Long commentId, int delta);
 
 }
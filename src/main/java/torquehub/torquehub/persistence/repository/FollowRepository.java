@@ -3,7 +3,9 @@ package torquehub.torquehub.persistence.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import torquehub.torquehub.domain.model.jpa_models.JpaFollow;
+import torquehub.torquehub.persistence.jpa.projection.FollowerProjection;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,7 @@ public interface FollowRepository {
     List<JpaFollow> findByUserId(Long userId);
     Optional<JpaFollow> findByUserIdAndQuestionId(Long userId, Long questionId);
     Optional<JpaFollow> findByUserIdAndAnswerId(Long userId, Long answerId);
+    List<Long> findFollowedAnswerIds(Long userId, Collection<Long> answerIds);
     List<JpaFollow> findByFollowedUserId(Long followedUserId);
     boolean delete(JpaFollow jpaFollow);
     boolean deleteById(Long id);
@@ -23,4 +26,6 @@ public interface FollowRepository {
     Page<JpaFollow> findByUserIdAndJpaAnswerIsNotNull(Long userId, Pageable pageable);
     List<JpaFollow> findByQuestionIdAndMutedFalse(Long questionId);
     List<JpaFollow> findByAnswerIdAndMutedFalse(Long answerId);
+    List<FollowerProjection> findUnmutedQuestionFollowersAfter(Long questionId, Long afterFollowId, int limit);
+    List<FollowerProjection> findUnmutedAnswerFollowersAfter(Long answerId, Long afterFollowId, int limit);
 }
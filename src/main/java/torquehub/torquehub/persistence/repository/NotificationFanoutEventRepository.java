@@ -0,0 +1,13 @@
+package torquehub.torquehub.persistence.repository;
+
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationFanoutEventRepository {
+    JpaNotificationFanoutEvent save(JpaNotificationFanoutEvent event);
+    void delete(JpaNotificationFanoutEvent event);
+    List<Long> findPendingIds(int limit);
+    Optional<JpaNotificationFanoutEvent> lockPendingById(Long id);
+}
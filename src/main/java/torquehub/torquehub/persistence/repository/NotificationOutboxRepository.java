@@ -0,0 +1,12 @@
+package torquehub.torquehub.persistence.repository;
+
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository {
+    JpaNotificationOutboxMessage save(JpaNotificationOutboxMessage message);
+    List<JpaNotificationOutboxMessage> lockDue(LocalDateTime now, int limit);
+    void deleteAll(List<JpaNotificationOutboxMessage> messages);
+}
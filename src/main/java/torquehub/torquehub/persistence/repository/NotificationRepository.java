@@ -4,8 +4,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
 import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 
 public interface NotificationRepository {
@@ -17,6 +20,18 @@ public interface NotificationRepository {
      Page<JpaNotification> findByJpaUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId, Pageable pageable);
      List<NotificationResponse> findTop5ByUserIdUnread(Long userId);
      long countUnreadByUserId(Long userId);
+     int markUnreadAsRead(Long userId, int limit);
+     Optional<JpaNotification> lockOpenVoteNotification(Long userId, JpaNotification.Type type, Long targetId, LocalDateTime createdAfter);
+     Optional<JpaNotification> lockForRead(Long notificationId);
 
      void saveAll(List<JpaNotification> notifications);
+
+     List<NotificationResponse> insertAll(List<Long> recipientIds, Long voterId, String message, Integer points, LocalDateTime createdAt);
+
+     List<VoteNotificationGroupProjection> findReadVoteGroupsBefore(LocalDateTime cutoff, int limit);
+     int deleteReadVoteGroupBefore(Long userId, JpaNotification.Type type, Long targetId, LocalDateTime cutoff);
+     void insertReadDigest(Long userId, JpaNotification.Type type, Long targetId, int actorCount, String message, LocalDateTime createdAt);
+     List<Long> findReadIdsBefore(LocalDateTime cutoff, int limit);
+     int archiveByIds(List<Long> ids, LocalDateTime archivedAt);
+     int deleteByIds(List<Long> ids);
 }
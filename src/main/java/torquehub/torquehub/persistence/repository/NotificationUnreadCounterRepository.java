@@ -0,0 +1,9 @@
+package torquehub.torquehub.persistence.repository;
+
+import java.util.Collection;
+
+public interface NotificationUnreadCounterRepository {
+    long findUnreadCount(Long userId);
+    void adjust(Long userId, long delta);
+    void incrementAll(Collection<Long> userIds);
+}
@@ -2,10 +2,16 @@ package torquehub.torquehub.persistence.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +21,8 @@ public interface QuestionRepository  {
     Optional<JpaQuestion> findById(Long questionId);
     boolean deleteById(Long questionId);
     Page<JpaQuestion> findAll(Pageable pageable);
+    Page<JpaQuestion> findAll(Specification<JpaQuestion> specification, Pageable pageable);
+    Page<Long> findIds(Specification<JpaQuestion> specification, Pageable pageable);
     Page<JpaQuestion> findQuestionsByTags(List<JpaTag> jpaTagEntities, Pageable pageable);
     List<JpaQuestion> findByJpaUserId(Long userId);
     Page<JpaQuestion> findAllByOrderByAskedTimeDesc(Pageable pageable);
@@ -22,8 +30,19 @@ public interface QuestionRepository  {
     Page<JpaQuestion> findAllByOrderByVotesDesc(Pageable pageable);
     Page<JpaQuestion> findAllByOrderByViewCountDesc(Pageable pageable);
     Page<JpaQuestion> findQuestionsWithNoAnswers(Pageable pageable);
+    Slice<QuestionFeedKeyProjection> findAskedTimeFeed(LocalDateTime askedTime, Long id, Pageable pageable);
+    Slice<QuestionFeedKeyProjection> findLastActivityFeed(LocalDateTime lastActivityTime, Long id, Pageable pageable);
+    Slice<QuestionFeedKeyProjection> findVotesFeed(Integer votes, Long id, Pageable pageable);
+    Slice<QuestionFeedKeyProjection> findViewsFeed(Integer views, Long id, Pageable pageable);
+    Page<QuestionSummaryProjection> findSummaries(Pageable pageable);
+    Page<QuestionSummaryProjection> findUnansweredSummaries(Pageable pageable);
+    Page<QuestionSummaryProjection> findSummariesByTagNames(List<String> tagNames, Pageable pageable);
+    List<QuestionSummaryProjection> findSummariesByUserId(Long userId);
+    List<QuestionSummaryProjection> findSummariesByIds(Collection<Long> questionIds);
+    List<Object[]> findSearchDocuments(Long afterId, Pageable pageable);
     Long countByJpaUserId(Long userId);
-
+    boolean incrementVotes(Long questionId, int delta);
+    int incrementViews(Collection<Long> questionIds, int delta);
 
 
 
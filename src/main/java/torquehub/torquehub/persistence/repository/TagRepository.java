@@ -3,6 +3,7 @@ package torquehub.torquehub.persistence.repository;
 import org.springframework.stereotype.Repository;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,8 @@ public interface TagRepository {
     JpaTag save(JpaTag jpaTag);
     Optional<JpaTag> findById(Long tagId);
     Optional<JpaTag> findByName(String tagName);
+    List<JpaTag> findByNameIn(Collection<String> tagNames);
+    boolean incrementUsageCount(Collection<Long> tagIds);
     boolean delete(JpaTag jpaTag);
     boolean existsById(Long tagId);
     List<JpaTag> findAll();
@@ -16,4 +16,6 @@ public interface UserRepository{
      boolean existsByUsername(String username);
      Optional<JpaUser> findByUsername(String username);
      Optional<JpaUser> findByEmail(String email);
+     boolean incrementPoints(Long userId, int delta);
+     Optional<Integer> addPoints(Long userId, int delta);
 }
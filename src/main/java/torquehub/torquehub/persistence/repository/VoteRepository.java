@@ -3,6 +3,8 @@ package torquehub.torquehub.persistence.repository;
 import org.springframework.stereotype.Repository;
 import torquehub.torquehub.domain.model.jpa_models.*;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +17,8 @@ public interface VoteRepository {
     Optional<JpaVote> findTopByJpaUserAndJpaQuestionOrderByVotedAtDesc(JpaUser jpaUser, JpaQuestion jpaQuestion);
     Optional<JpaVote> findByUserAndJpaComment(JpaUser jpaUser, JpaComment jpaComment);
     Optional<JpaVote> findByUserAndJpaQuestion(JpaUser jpaUser, JpaQuestion jpaQuestion);
+    Optional<JpaVote> findByUserIdAndQuestionId(Long userId, Long questionId);
     Optional<JpaVote> findByUserIdAndCommentId(Long userId, Long commentId);
+    List<Object[]> findVoteStates(Long userId, Collection<Long> answerIds, Collection<Long> commentIds);
 
 }
@@ -0,0 +1,23 @@
+-- Vote notifications record what was voted on, so read ones for the same target can be merged into a digest row
+ALTER TABLE notifications
+    ADD COLUMN type VARCHAR(20) NULL,
+    ADD COLUMN target_id BIGINT NULL,
+    ADD COLUMN actor_count INT NOT NULL DEFAULT 1;
+
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at);
+
+-- Read notifications past the retention age, moved here when notification.retention.archive is on
+CREATE TABLE notifications_archive (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    voter_id BIGINT NULL,
+    message VARCHAR(255) NOT NULL,
+    points INT NULL,
+    created_at DATETIME(6) NOT NULL,
+    type VARCHAR(20) NULL,
+    target_id BIGINT NULL,
+    actor_count INT NOT NULL,
+    archived_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_notifications_archive_user ON notifications_archive (user_id, created_at);
@@ -0,0 +1,2 @@
+-- Lets the coalescer lock only the open notification about one target instead of the recipient's whole unread range
+CREATE INDEX idx_notifications_vote_target ON notifications (user_id, type, target_id, is_read, created_at);
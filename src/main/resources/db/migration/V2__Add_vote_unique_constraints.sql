@@ -0,0 +1,12 @@
+-- Remove duplicate votes left by concurrent requests, keeping the most recent row per target
+DELETE v1 FROM votes v1
+    JOIN votes v2 ON v1.user_id = v2.user_id AND v1.question_id = v2.question_id AND v1.id < v2.id;
+DELETE v1 FROM votes v1
+    JOIN votes v2 ON v1.user_id = v2.user_id AND v1.answer_id = v2.answer_id AND v1.id < v2.id;
+DELETE v1 FROM votes v1
+    JOIN votes v2 ON v1.user_id = v2.user_id AND v1.comment_id = v2.comment_id AND v1.id < v2.id;
+
+ALTER TABLE votes
+    ADD CONSTRAINT uk_votes_user_question UNIQUE (user_id, question_id),
+    ADD CONSTRAINT uk_votes_user_answer UNIQUE (user_id, answer_id),
+    ADD CONSTRAINT uk_votes_user_comment UNIQUE (user_id, comment_id);
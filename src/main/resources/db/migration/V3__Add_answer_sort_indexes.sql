@@ -0,0 +1,4 @@
+-- Question detail pages read one page of answers per question, ordered by votes or by time
+-- The votes ordering is votes DESC, id ASC; an all-ascending index cannot serve mixed directions
+CREATE INDEX idx_answers_question_votes ON answers (question_id, votes DESC, id ASC);
+CREATE INDEX idx_answers_question_time ON answers (question_id, answered_time, id);
@@ -0,0 +1,5 @@
+-- Keyset feeds seek on (sort key, id), so each ordering needs its own composite index
+CREATE INDEX idx_questions_asked_time_id ON questions (asked_time, id);
+CREATE INDEX idx_questions_last_activity_id ON questions (last_activity_time, id);
+CREATE INDEX idx_questions_votes_id ON questions (votes, id);
+CREATE INDEX idx_questions_views_id ON questions (views, id);
@@ -0,0 +1,2 @@
+-- The unanswered feed filters on the answer counter and orders by newest first
+CREATE INDEX idx_questions_total_answers_asked_time ON questions (total_answers, asked_time, id);
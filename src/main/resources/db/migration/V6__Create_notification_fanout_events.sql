@@ -0,0 +1,12 @@
+-- One row per new answer or comment whose followers still have to be notified.
+-- The fan-out worker expands it in chunks, records the last follow row it handled and deletes the row
+-- together with the last chunk, so every row in the table is still pending.
+CREATE TABLE notification_fanout_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    target_type VARCHAR(16) NOT NULL,
+    target_id BIGINT NOT NULL,
+    actor_id BIGINT NOT NULL,
+    message VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    last_follow_id BIGINT NOT NULL DEFAULT 0
+);
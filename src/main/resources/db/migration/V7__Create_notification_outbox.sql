@@ -0,0 +1,13 @@
+-- Websocket pushes waiting to be delivered, written in the same transaction as their notification.
+-- Rows are deleted once delivered; failed deliveries are retried from next_attempt_at.
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    recipient_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(255) NULL
+);
+
+CREATE INDEX idx_notification_outbox_next_attempt ON notification_outbox (next_attempt_at, id);
@@ -0,0 +1,9 @@
+-- Unread notification count per user, kept in step with notifications.is_read so the badge is a primary key lookup.
+-- Users without a row have no unread notifications.
+CREATE TABLE notification_unread_counters (
+    user_id BIGINT PRIMARY KEY,
+    unread_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO notification_unread_counters (user_id, unread_count)
+SELECT user_id, COUNT(*) FROM notifications WHERE is_read = false GROUP BY user_id;
@@ -0,0 +1,2 @@
+-- Lets mark-all-as-read walk a user's unread notifications in id order, one chunk per UPDATE
+CREATE INDEX idx_notifications_user_unread ON notifications (user_id, is_read, id);
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.exeption.ErrorMessages;
 import torquehub.torquehub.business.exeption.answer_exptions.*;
 import torquehub.torquehub.business.interfaces.NotificationService;
@@ -46,6 +48,8 @@ class AnswerServiceImplTest {
     @Mock private JpaFollowRepository followRepository;
     @Mock private JpaBookmarkRepository bookmarkRepository;
     @Mock private JpaVoteRepository voteRepository;
+    @Mock private QuestionSearchIndex searchIndex;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     private AnswerServiceImpl answerService;
 
@@ -65,7 +69,9 @@ class AnswerServiceImplTest {
                 notificationMapper,
                 followRepository,
                 bookmarkRepository,
-                voteRepository
+                voteRepository,
+                searchIndex,
+                eventPublisher
         );
 
     }
@@ -107,6 +113,8 @@ class AnswerServiceImplTest {
         assertEquals(1, question.getTotalAnswers());
         verify(answerRepository).save(any());
         verify(reputationService).updateReputationForNewAnswer(any());
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof QuestionContentChangedEvent changed && changed.getQuestionId().equals(questionId)));
     }
 
     @Test
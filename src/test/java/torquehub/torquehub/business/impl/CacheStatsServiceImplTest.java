@@ -0,0 +1,69 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import torquehub.torquehub.configuration.CacheLoadMetrics;
+import torquehub.torquehub.configuration.CaffeineCacheConfig;
+import torquehub.torquehub.configuration.CaffeineCacheProperties;
+import torquehub.torquehub.domain.response.CacheStatsResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsServiceImplTest {
+
+    private CaffeineCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CaffeineCacheProperties();
+        properties.setDefaultSpec("maximumSize=100,expireAfterAccess=10m");
+        properties.setSpecs(Map.of(
+                "allTags", "maximumSize=2,expireAfterWrite=30m",
+                "userNotifications", "maximumSize=1000,expireAfterWrite=30s"));
+    }
+
+    @Test
+    void shouldGiveEachConfiguredCacheItsOwnBound() {
+        CacheManager cacheManager = new CaffeineCacheConfig().localCacheManager(properties);
+        CaffeineCache allTags = (CaffeineCache) cacheManager.getCache("allTags");
+        CaffeineCache notifications = (CaffeineCache) cacheManager.getCache("userNotifications");
+
+        assertEquals(2, allTags.getNativeCache().policy().eviction().orElseThrow().getMaximum());
+        assertEquals(1000, notifications.getNativeCache().policy().eviction().orElseThrow().getMaximum());
+        assertEquals(100, ((CaffeineCache) cacheManager.getCache("unlisted")).getNativeCache()
+                .policy().eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    void shouldReportHitsAndMissesPerCache() {
+        CacheManager cacheManager = new CaffeineCacheConfig().localCacheManager(properties);
+        Cache allTags = cacheManager.getCache("allTags");
+        allTags.put("all", List.of("BMW"));
+        allTags.get("all");
+        allTags.get("missing");
+        cacheManager.getCache("userNotifications").get("1-0");
+
+        List<CacheStatsResponse> stats = new CacheStatsServiceImpl(cacheManager, new CacheLoadMetrics()).getCacheStats();
+
+        assertEquals(List.of("allTags", "userNotifications"), stats.stream().map(CacheStatsResponse::getName).toList());
+        assertEquals(1, stats.get(0).getHitCount());
+        assertEquals(1, stats.get(0).getMissCount());
+        assertEquals(1, stats.get(0).getEstimatedSize());
+        assertEquals(0.5, stats.get(0).getHitRate());
+        assertEquals(1, stats.get(1).getMissCount());
+    }
+
+    @Test
+    void shouldRejectOptionsThatCannotWorkWithAnnotationCaching() {
+        properties.setSpecs(Map.of("allTags", "maximumSize=20,refreshAfterWrite=1m"));
+        CaffeineCacheConfig config = new CaffeineCacheConfig();
+
+        assertThrows(IllegalStateException.class, () -> config.localCacheManager(properties));
+    }
+}
@@ -0,0 +1,91 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.business.interfaces.FilterService;
+import torquehub.torquehub.business.interfaces.QuestionService;
+import torquehub.torquehub.business.interfaces.TagService;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+import torquehub.torquehub.domain.response.tag_dtos.TagResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupTest {
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private FilterService filterService;
+
+    @Mock
+    private QuestionService questionService;
+
+    private CacheWarmup warmup(long timeBudgetMillis, int feedPages, int questionDetails) {
+        return new CacheWarmup(tagService, filterService, questionService, true, timeBudgetMillis, feedPages, questionDetails, 4);
+    }
+
+    private static PageImpl<QuestionSummaryResponse> questions(long firstId, int count) {
+        return new PageImpl<>(LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> QuestionSummaryResponse.builder().id(id).build())
+                .toList());
+    }
+
+    @Test
+    void shouldLoadTagsFeedsAndMostViewedQuestions() {
+        TagResponse topTag = new TagResponse();
+        topTag.setId(7L);
+        when(tagService.getTop5Tags(null)).thenReturn(List.of(topTag));
+        when(filterService.findAllByOrderByViewCountDesc(PageRequest.of(0, 10))).thenReturn(questions(1, 10));
+        when(filterService.findAllByOrderByViewCountDesc(PageRequest.of(1, 10))).thenReturn(questions(11, 10));
+
+        assertTrue(warmup(5000, 2, 12).warmUp());
+
+        verify(tagService).getAllTags();
+        verify(tagService).getTagById(7L);
+        verify(filterService, times(2)).findAllByOrderByAskedTimeDesc(any(Pageable.class));
+        verify(filterService, times(2)).findAllByOrderByLastActivityTimeDesc(any(Pageable.class));
+        verify(filterService, times(2)).findAllByOrderByVotesDesc(any(Pageable.class));
+        verify(filterService, times(2)).findQuestionsWithNoAnswers(any(Pageable.class));
+        verify(questionService, times(12)).getQuestionbyId(anyLong(), any(Pageable.class));
+        verify(questionService).getQuestionbyId(eq(12L), any(Pageable.class));
+        verify(questionService, never()).getQuestionbyId(eq(13L), any(Pageable.class));
+    }
+
+    @Test
+    void shouldContinueWhenAStepFails() {
+        when(tagService.getAllTags()).thenThrow(new RuntimeException("Database unavailable"));
+        when(filterService.findAllByOrderByViewCountDesc(PageRequest.of(0, 10))).thenReturn(questions(1, 1));
+        when(questionService.getQuestionbyId(eq(1L), any(Pageable.class))).thenReturn(Optional.empty());
+
+        assertTrue(warmup(5000, 1, 1).warmUp());
+
+        verify(filterService).findAllByOrderByAskedTimeDesc(PageRequest.of(0, 10));
+        verify(questionService).getQuestionbyId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void shouldStopWaitingWhenTimeBudgetRunsOut() {
+        when(tagService.getAllTags()).thenAnswer(invocation -> {
+            Thread.sleep(5000);
+            return List.of();
+        });
+
+        long start = System.currentTimeMillis();
+        assertFalse(warmup(100, 0, 0).warmUp());
+        assertTrue(System.currentTimeMillis() - start < 4000);
+    }
+}
@@ -0,0 +1,120 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedPageCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+
+    private Supplier<Page<QuestionSummaryResponse>> loader() {
+        return () -> {
+            int version = loads.incrementAndGet();
+            return new PageImpl<>(List.of(QuestionSummaryResponse.builder().id((long) version).build()));
+        };
+    }
+
+    @Test
+    void shouldCacheEachPageAndSize() {
+        FeedPageCache cache = new FeedPageCache(new ConcurrentMapCacheManager(), scheduledRefreshes::add, 3, Long.MAX_VALUE);
+
+        cache.get("recentQuestions", PageRequest.of(0, 10), loader());
+        cache.get("recentQuestions", PageRequest.of(0, 10), loader());
+        cache.get("recentQuestions", PageRequest.of(0, 20), loader());
+        cache.get("topVotedQuestions", PageRequest.of(0, 10), loader());
+
+        assertEquals(3, loads.get());
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void shouldServeCachedPageWhileRefreshingHotPagesInBackground() {
+        FeedPageCache cache = new FeedPageCache(new ConcurrentMapCacheManager(), scheduledRefreshes::add, 1, 0);
+        cache.get("recentQuestions", PageRequest.of(0, 10), loader());
+
+        Page<QuestionSummaryResponse> served = cache.get("recentQuestions", PageRequest.of(0, 10), loader());
+
+        assertEquals(1L, served.getContent().get(0).getId());
+        assertEquals(1, scheduledRefreshes.size(), "a page already being refreshed is not queued again");
+
+        scheduledRefreshes.get(0).run();
+        Page<QuestionSummaryResponse> refreshed = cache.get("recentQuestions", PageRequest.of(0, 10), loader());
+        assertEquals(2L, refreshed.getContent().get(0).getId());
+    }
+
+    @Test
+    void shouldNotRefreshPagesBeyondHotRange() {
+        FeedPageCache cache = new FeedPageCache(new ConcurrentMapCacheManager(), scheduledRefreshes::add, 1, 0);
+
+        cache.get("popularQuestions", PageRequest.of(5, 10), loader());
+        cache.get("popularQuestions", PageRequest.of(5, 10), loader());
+
+        assertEquals(1, loads.get());
+        assertTrue(scheduledRefreshes.isEmpty());
+    }
+
+    @Test
+    void shouldKeepCachedPageWhenRefreshFails() {
+        FeedPageCache cache = new FeedPageCache(new ConcurrentMapCacheManager(), Runnable::run, 1, 0);
+        Supplier<Page<QuestionSummaryResponse>> failingAfterFirstLoad = () -> {
+            if (loads.get() > 0) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            return loader().get();
+        };
+
+        cache.get("questionsWithoutAnswers", PageRequest.of(0, 10), failingAfterFirstLoad);
+        Page<QuestionSummaryResponse> served = cache.get("questionsWithoutAnswers", PageRequest.of(0, 10), failingAfterFirstLoad);
+
+        assertEquals(1L, served.getContent().get(0).getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldShareOneQueryBetweenConcurrentMisses() throws Exception {
+        FeedPageCache cache = new FeedPageCache(new ConcurrentMapCacheManager(), Runnable::run, 0, Long.MAX_VALUE);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Page<QuestionSummaryResponse>> slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new PageImpl<>(List.of());
+        };
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Page<QuestionSummaryResponse>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(callers.submit(() -> cache.get("recentQuestions", PageRequest.of(0, 10), slowLoader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Page<QuestionSummaryResponse>> result : results) {
+                assertNotNull(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -3,26 +3,37 @@ package torquehub.torquehub.business.impl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import torquehub.torquehub.domain.mapper.QuestionMapper;
 import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
 import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+import torquehub.torquehub.domain.response.question_dtos.QuestionFeedResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaTagRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionFeedKeyProjection;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.Mockito.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 
 class FilterServiceImplTest {
 
@@ -35,16 +46,19 @@ class FilterServiceImplTest {
     @Mock
     private QuestionMapper questionMapper;
 
+    @Spy
+    private FeedPageCache feedPageCache = new FeedPageCache(new ConcurrentMapCacheManager(), Runnable::run, 0, Long.MAX_VALUE);
+
     @InjectMocks
     private FilterServiceImpl filterService;
 
-    private JpaQuestion mockQuestion;
+    private QuestionSummaryProjection mockSummary;
     private QuestionSummaryResponse mockResponse;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockQuestion = new JpaQuestion();
+        mockSummary = new QuestionSummaryProjection(1L, "Title", "user", 0, 0, 0, 0, LocalDateTime.now(), "java");
         mockResponse = new QuestionSummaryResponse();
     }
 
@@ -52,9 +66,9 @@ class FilterServiceImplTest {
     void testGetQuestionsByTags_Success() {
         JpaTag mockTag = new JpaTag();
         mockTag.setName("java");
-        when(tagRepository.findByName("java")).thenReturn(Optional.of(mockTag));
-        when(questionRepository.findQuestionsByTags(List.of(mockTag), PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(tagRepository.findByNameIn(Set.of("java"))).thenReturn(List.of(mockTag));
+        when(questionRepository.findSummariesByTagNames(List.of("java"), PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.getQuestionsByTags(Set.of("java"), PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -63,7 +77,7 @@ class FilterServiceImplTest {
 
     @Test
     void testGetQuestionsByTags_TagNotFound() {
-        when(tagRepository.findByName("nonexistent")).thenReturn(Optional.empty());
+        when(tagRepository.findByNameIn(Set.of("nonexistent"))).thenReturn(List.of());
         try {
             filterService.getQuestionsByTags(Set.of("nonexistent"), PageRequest.of(0, 10));
         } catch (IllegalArgumentException e) {
@@ -73,8 +87,9 @@ class FilterServiceImplTest {
 
     @Test
     void testFindAllByOrderByAskedTimeDesc() {
-        when(questionRepository.findAllByOrderByAskedTimeDesc(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Order.desc("askedTime"), Sort.Order.desc("id")))))
+                .thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.findAllByOrderByAskedTimeDesc(PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -83,8 +98,9 @@ class FilterServiceImplTest {
 
     @Test
     void testFindAllByOrderByLastActivityTimeDesc() {
-        when(questionRepository.findAllByOrderByLastActivityTimeDesc(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Order.desc("lastActivityTime"), Sort.Order.desc("id")))))
+                .thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.findAllByOrderByLastActivityTimeDesc(PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -93,8 +109,9 @@ class FilterServiceImplTest {
 
     @Test
     void testFindAllByOrderByVotesDesc() {
-        when(questionRepository.findAllByOrderByVotesDesc(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Order.desc("votes"), Sort.Order.desc("id")))))
+                .thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.findAllByOrderByVotesDesc(PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -103,8 +120,9 @@ class FilterServiceImplTest {
 
     @Test
     void testFindAllByOrderByViewCountDesc() {
-        when(questionRepository.findAllByOrderByViewCountDesc(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Order.desc("views"), Sort.Order.desc("id")))))
+                .thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.findAllByOrderByViewCountDesc(PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -113,8 +131,8 @@ class FilterServiceImplTest {
 
     @Test
     void testFindQuestionsWithNoAnswers() {
-        when(questionRepository.findQuestionsWithNoAnswers(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findUnansweredSummaries(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(mockSummary)));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
         Page<QuestionSummaryResponse> result = filterService.findQuestionsWithNoAnswers(PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
@@ -125,7 +143,7 @@ class FilterServiceImplTest {
     void testGetQuestionsByTags_TagNotFoundException() {
         // Arrange
         String nonexistentTag = "nonexistent";
-        when(tagRepository.findByName(nonexistentTag)).thenReturn(Optional.empty());
+        when(tagRepository.findByNameIn(Set.of(nonexistentTag))).thenReturn(List.of());
 
         // Act & Assert
         IllegalArgumentException exception = Assertions.assertThrows(
@@ -144,51 +162,124 @@ class FilterServiceImplTest {
 
     @Test
     void testFilterQuestionsWithTags() {
-        JpaTag mockTag = new JpaTag();
-        mockTag.setName("java");
-
-        // Explicitly mock Pageable
         Pageable mockPageable = PageRequest.of(0, 10);
 
-        when(tagRepository.findByName("java")).thenReturn(Optional.of(mockTag));
-        when(questionRepository.findQuestionsByTags(List.of(mockTag), (mockPageable)))
-                .thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findIds(ArgumentMatchers.<Specification<JpaQuestion>>any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(1L)));
+        when(questionRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(mockSummary));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
-        Page<QuestionSummaryResponse> result = filterService.filterQuestions(Set.of("java"), null, null, "newest", mockPageable);
+        Page<QuestionSummaryResponse> result = filterService.filterQuestions(Set.of("java"), "any", null, null, "newest", mockPageable);
 
         assertEquals(1, result.getContent().size());
         assertEquals(mockResponse, result.getContent().get(0));
+        verify(questionRepository, times(1)).findIds(ArgumentMatchers.<Specification<JpaQuestion>>any(), any(Pageable.class));
+        verify(questionRepository, never()).findAll(ArgumentMatchers.<Specification<JpaQuestion>>any(), any(Pageable.class));
+        verifyNoInteractions(tagRepository);
     }
 
     @Test
     void testFilterQuestionsNewest() {
         Pageable mockPageable = PageRequest.of(0, 10);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
 
-        when(questionRepository.findAllByOrderByAskedTimeDesc(mockPageable))
-                .thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        when(questionRepository.findIds(ArgumentMatchers.<Specification<JpaQuestion>>any(), pageableCaptor.capture()))
+                .thenReturn(new PageImpl<>(List.of(1L)));
+        when(questionRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(mockSummary));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
-        Page<QuestionSummaryResponse> result = filterService.filterQuestions(null, null, null, "newest", mockPageable);
+        Page<QuestionSummaryResponse> result = filterService.filterQuestions(null, "any", null, null, "newest", mockPageable);
 
         assertEquals(1, result.getContent().size());
         assertEquals(mockResponse, result.getContent().get(0));
+        assertEquals(Sort.by(Sort.Order.desc("askedTime"), Sort.Order.desc("id")), pageableCaptor.getValue().getSort());
+        assertEquals(10, pageableCaptor.getValue().getPageSize());
     }
 
 
     @Test
     void testFilterQuestionsNoAnswers() {
-        when(questionRepository.findQuestionsWithNoAnswers(any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(mockQuestion)));
-        when(questionMapper.toSummaryResponse(mockQuestion)).thenReturn(mockResponse);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        when(questionRepository.findIds(ArgumentMatchers.<Specification<JpaQuestion>>any(), pageableCaptor.capture()))
+                .thenReturn(new PageImpl<>(List.of(1L)));
+        when(questionRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(mockSummary));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
-        Page<QuestionSummaryResponse> result = filterService.filterQuestions(null, true, null, "newest", PageRequest.of(0, 10));
+        Page<QuestionSummaryResponse> result = filterService.filterQuestions(Set.of("java", "spring"), "all", true, true, "mostLiked", PageRequest.of(0, 10));
         assertEquals(1, result.getContent().size());
         assertEquals(mockResponse, result.getContent().get(0));
+        assertEquals(Sort.by(Sort.Order.desc("votes"), Sort.Order.desc("id")), pageableCaptor.getValue().getSort());
+        verify(questionRepository, never()).findQuestionsWithNoAnswers(any(Pageable.class));
     }
 
+    @Test
+    void testFilterQuestions_KeepsIdOrderOfThePage() {
+        QuestionSummaryProjection second = new QuestionSummaryProjection(2L, "Other", "user", 0, 0, 0, 0, LocalDateTime.now(), null);
+        QuestionSummaryResponse secondResponse = new QuestionSummaryResponse();
+        when(questionRepository.findIds(ArgumentMatchers.<Specification<JpaQuestion>>any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), PageRequest.of(0, 2), 5));
+        when(questionRepository.findSummariesByIds(List.of(2L, 1L))).thenReturn(List.of(mockSummary, second));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
+        when(questionMapper.toSummaryResponse(second)).thenReturn(secondResponse);
+
+        Page<QuestionSummaryResponse> result = filterService.filterQuestions(null, "any", true, null, "mostViews", PageRequest.of(0, 2));
+
+        assertEquals(2, result.getContent().size());
+        assertSame(secondResponse, result.getContent().get(0));
+        assertSame(mockResponse, result.getContent().get(1));
+        assertEquals(5, result.getTotalElements());
+    }
 
+    @Test
+    void testGetQuestionFeed_FirstPageReturnsCursorForLastRow() {
+        QuestionFeedKeyProjection first = new QuestionFeedKeyProjection(9L, 12);
+        QuestionFeedKeyProjection last = new QuestionFeedKeyProjection(4L, 7);
+        QuestionSummaryProjection firstSummary = new QuestionSummaryProjection(9L, "First", "user", 0, 0, 12, 0, LocalDateTime.now(), null);
+        QuestionSummaryProjection lastSummary = new QuestionSummaryProjection(4L, "Last", "user", 0, 0, 7, 0, LocalDateTime.now(), null);
+        QuestionSummaryResponse firstResponse = new QuestionSummaryResponse();
+        QuestionSummaryResponse lastResponse = new QuestionSummaryResponse();
+        when(questionRepository.findVotesFeed(null, null, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(List.of(first, last), PageRequest.of(0, 2), true));
+        // Summaries come back in primary key order; the feed must keep the keyset order
+        when(questionRepository.findSummariesByIds(List.of(9L, 4L))).thenReturn(List.of(lastSummary, firstSummary));
+        when(questionMapper.toSummaryResponse(firstSummary)).thenReturn(firstResponse);
+        when(questionMapper.toSummaryResponse(lastSummary)).thenReturn(lastResponse);
+
+        QuestionFeedResponse result = filterService.getQuestionFeed("votes", null, 2);
+
+        assertEquals(2, result.getContent().size());
+        assertSame(firstResponse, result.getContent().get(0));
+        assertSame(lastResponse, result.getContent().get(1));
+        verify(questionMapper, never()).toSummaryResponse(any(JpaQuestion.class));
+        assertTrue(result.isHasNext());
+        QuestionFeedCursor cursor = QuestionFeedCursor.decode(QuestionFeedCursor.Feed.VOTES, result.getNextCursor());
+        assertEquals(7, cursor.getCountKey());
+        assertEquals(4L, cursor.getId());
+    }
 
+    @Test
+    void testGetQuestionFeed_ContinuesAfterCursor() {
+        LocalDateTime askedTime = LocalDateTime.of(2024, 5, 1, 10, 0);
+        QuestionFeedKeyProjection last = new QuestionFeedKeyProjection(3L, askedTime);
+        String cursor = QuestionFeedCursor.after(QuestionFeedCursor.Feed.ASKED_TIME, last).encode();
+        when(questionRepository.findAskedTimeFeed(askedTime, 3L, PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(new QuestionFeedKeyProjection(1L, askedTime.minusHours(1))), PageRequest.of(0, 10), false));
+        when(questionRepository.findSummariesByIds(List.of(1L))).thenReturn(List.of(mockSummary));
+        when(questionMapper.toSummaryResponse(mockSummary)).thenReturn(mockResponse);
 
-}
+        QuestionFeedResponse result = filterService.getQuestionFeed("askedTime", cursor, 10);
+
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
 
+    @Test
+    void testGetQuestionFeed_RejectsCursorFromAnotherFeed() {
+        QuestionFeedKeyProjection last = new QuestionFeedKeyProjection(3L, 1);
+        String cursor = QuestionFeedCursor.after(QuestionFeedCursor.Feed.VOTES, last).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> filterService.getQuestionFeed("viewCount", cursor, 10));
+        assertThrows(IllegalArgumentException.class, () -> filterService.getQuestionFeed("viewCount", "not-a-cursor", 10));
+    }
+}
@@ -0,0 +1,62 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationCacheEvictorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NotificationCacheEvictor cacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        cacheEvictor = new NotificationCacheEvictor(cacheManager, 3);
+    }
+
+    @Test
+    void shouldEvictOnlyTheGivenUsersEntries() {
+        Cache topUnread = cacheManager.getCache("topUnreadNotifications");
+        Cache withCount = cacheManager.getCache("top5UnreadNotificationsWithCount");
+        Cache pages = cacheManager.getCache("userNotifications");
+        topUnread.put(1L, List.of());
+        topUnread.put(2L, List.of());
+        withCount.put(1L, List.of());
+        withCount.put(2L, List.of());
+        pages.put("1-0", "page");
+        pages.put("1-2", "page");
+        pages.put("2-0", "page");
+        pages.put("11-0", "page");
+
+        cacheEvictor.evictUser(1L);
+
+        assertNull(topUnread.get(1L));
+        assertNull(withCount.get(1L));
+        assertNull(pages.get("1-0"));
+        assertNull(pages.get("1-2"));
+        assertNotNull(topUnread.get(2L));
+        assertNotNull(withCount.get(2L));
+        assertNotNull(pages.get("2-0"));
+        assertNotNull(pages.get("11-0"));
+    }
+
+    @Test
+    void shouldEvictEveryGivenRecipient() {
+        Cache withCount = cacheManager.getCache("top5UnreadNotificationsWithCount");
+        withCount.put(1L, List.of());
+        withCount.put(2L, List.of());
+        withCount.put(3L, List.of());
+
+        cacheEvictor.evictUsers(List.of(1L, 3L));
+
+        assertNull(withCount.get(1L));
+        assertNull(withCount.get(3L));
+        assertNotNull(withCount.get(2L));
+    }
+}
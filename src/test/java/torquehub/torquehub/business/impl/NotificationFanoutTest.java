@@ -0,0 +1,127 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationFanoutEvent.TargetType;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.jpa.projection.FollowerProjection;
+import torquehub.torquehub.persistence.repository.FollowRepository;
+import torquehub.torquehub.persistence.repository.NotificationFanoutEventRepository;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutTest {
+
+    private static final LocalDateTime ANSWERED_AT = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private NotificationFanoutEventRepository eventRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private NotificationCacheEvictor cacheEvictor;
+
+    private NotificationFanout notificationFanout;
+    private JpaNotificationFanoutEvent event;
+
+    @BeforeEach
+    void setUp() {
+        notificationFanout = new NotificationFanout(eventRepository, followRepository, notificationRepository, unreadCounter,
+                cacheEvictor, 2);
+        event = JpaNotificationFanoutEvent.builder()
+                .id(9L)
+                .targetType(TargetType.QUESTION)
+                .targetId(1L)
+                .actorId(2L)
+                .message("A new answer was posted")
+                .createdAt(ANSWERED_AT)
+                .build();
+    }
+
+    @Test
+    void shouldRecordOneEventForTheWholeFanOut() {
+        notificationFanout.enqueue(TargetType.QUESTION, 1L, 2L, "A new answer was posted");
+
+        ArgumentCaptor<JpaNotificationFanoutEvent> saved = ArgumentCaptor.forClass(JpaNotificationFanoutEvent.class);
+        verify(eventRepository).save(saved.capture());
+        assertEquals(TargetType.QUESTION, saved.getValue().getTargetType());
+        assertEquals(0L, saved.getValue().getLastFollowId());
+        verifyNoInteractions(followRepository, notificationRepository);
+    }
+
+    @Test
+    void shouldInsertFullChunkAndMoveCheckpoint() {
+        when(eventRepository.lockPendingById(9L)).thenReturn(Optional.of(event));
+        when(followRepository.findUnmutedQuestionFollowersAfter(1L, 0L, 2))
+                .thenReturn(List.of(new FollowerProjection(10L, 100L), new FollowerProjection(11L, 101L)));
+        List<NotificationResponse> inserted = List.of(new NotificationResponse(), new NotificationResponse());
+        when(notificationRepository.insertAll(List.of(100L, 101L), 2L, "A new answer was posted", 0, ANSWERED_AT))
+                .thenReturn(inserted);
+
+        Optional<List<NotificationResponse>> chunk = notificationFanout.expandNextChunk(9L);
+
+        assertEquals(Optional.of(inserted), chunk);
+        assertEquals(11L, event.getLastFollowId());
+        verify(eventRepository, never()).delete(any());
+        verify(unreadCounter).incrementAll(List.of(100L, 101L));
+        verify(cacheEvictor).evictUsers(List.of(100L, 101L));
+        verify(eventRepository).save(event);
+    }
+
+    @Test
+    void shouldDeleteEventOnShortChunk() {
+        event.setTargetType(TargetType.ANSWER);
+        event.setLastFollowId(11L);
+        when(eventRepository.lockPendingById(9L)).thenReturn(Optional.of(event));
+        when(followRepository.findUnmutedAnswerFollowersAfter(1L, 11L, 2)).thenReturn(List.of(new FollowerProjection(15L, 105L)));
+        when(notificationRepository.insertAll(any(), anyLong(), any(), anyInt(), any())).thenReturn(List.of(new NotificationResponse()));
+
+        notificationFanout.expandNextChunk(9L);
+
+        verify(eventRepository).delete(event);
+        verify(eventRepository, never()).save(any());
+        verify(followRepository, never()).findUnmutedQuestionFollowersAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldDeleteEventWhenLastFullChunkLeftNoFollowers() {
+        event.setLastFollowId(11L);
+        when(eventRepository.lockPendingById(9L)).thenReturn(Optional.of(event));
+        when(followRepository.findUnmutedQuestionFollowersAfter(1L, 11L, 2)).thenReturn(List.of());
+        when(notificationRepository.insertAll(List.of(), 2L, "A new answer was posted", 0, ANSWERED_AT)).thenReturn(List.of());
+
+        assertEquals(Optional.of(List.of()), notificationFanout.expandNextChunk(9L));
+        verify(eventRepository).delete(event);
+    }
+
+    @Test
+    void shouldSkipEventThatIsDoneOrLockedElsewhere() {
+        when(eventRepository.lockPendingById(9L)).thenReturn(Optional.empty());
+
+        assertTrue(notificationFanout.expandNextChunk(9L).isEmpty());
+        verifyNoInteractions(followRepository, notificationRepository);
+    }
+}
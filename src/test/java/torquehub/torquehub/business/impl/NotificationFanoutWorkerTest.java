@@ -0,0 +1,99 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationFanoutEventRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationFanoutWorkerTest {
+
+    @Mock
+    private NotificationFanout notificationFanout;
+
+    @Mock
+    private NotificationFanoutEventRepository eventRepository;
+
+    @Mock
+    private NotificationDelivery notificationDelivery;
+
+    private final List<Runnable> queuedWork = new ArrayList<>();
+    private NotificationFanoutWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new NotificationFanoutWorker(notificationFanout, eventRepository, notificationDelivery,
+                queuedWork::add, 20, 1_000_000);
+    }
+
+    private static NotificationResponse notificationFor(Long userId) {
+        return NotificationResponse.builder().userId(userId).build();
+    }
+
+    @Test
+    void shouldExpandEventChunkByChunkAndPushEachNotification() {
+        when(notificationFanout.expandNextChunk(9L))
+                .thenReturn(Optional.of(List.of(notificationFor(100L), notificationFor(101L))))
+                .thenReturn(Optional.of(List.of(notificationFor(102L))))
+                .thenReturn(Optional.empty());
+
+        worker.expand(9L);
+
+        verify(notificationFanout, times(3)).expandNextChunk(9L);
+        verify(notificationDelivery).deliver(argThat(n -> n.getUserId() == 100L));
+        verify(notificationDelivery).deliver(argThat(n -> n.getUserId() == 101L));
+        verify(notificationDelivery).deliver(argThat(n -> n.getUserId() == 102L));
+    }
+
+    @Test
+    void shouldNotScheduleEventThatIsStillRunning() {
+        when(eventRepository.findPendingIds(20)).thenReturn(List.of(9L, 10L));
+
+        worker.poll();
+        worker.poll();
+
+        assertEquals(2, queuedWork.size());
+
+        when(notificationFanout.expandNextChunk(anyLong())).thenReturn(Optional.empty());
+        queuedWork.forEach(Runnable::run);
+        worker.poll();
+        assertEquals(4, queuedWork.size());
+    }
+
+    @Test
+    void shouldKeepDeliveringWhenOnePushFails() {
+        when(notificationFanout.expandNextChunk(9L))
+                .thenReturn(Optional.of(List.of(notificationFor(100L), notificationFor(101L))))
+                .thenReturn(Optional.empty());
+        doThrow(new RuntimeException("Broker unavailable")).doNothing()
+                .when(notificationDelivery).deliver(any());
+
+        worker.expand(9L);
+
+        verify(notificationDelivery).deliver(argThat(n -> n.getUserId() == 101L));
+    }
+
+    @Test
+    void shouldReleaseEventWhenExpansionFails() {
+        when(eventRepository.findPendingIds(20)).thenReturn(List.of(9L));
+        when(notificationFanout.expandNextChunk(9L)).thenThrow(new RuntimeException("Deadlock"));
+
+        worker.poll();
+        queuedWork.get(0).run();
+        worker.poll();
+
+        assertEquals(2, queuedWork.size(), "the next poll retries from the event's checkpoint");
+    }
+}
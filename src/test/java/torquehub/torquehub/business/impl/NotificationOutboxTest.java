@@ -0,0 +1,112 @@
+package torquehub.torquehub.business.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotificationOutboxMessage;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationDelivery notificationDelivery;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private NotificationOutbox notificationOutbox;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutbox = new NotificationOutbox(outboxRepository, notificationDelivery, objectMapper, 10, 3, 1000, 60000);
+    }
+
+    private JpaNotificationOutboxMessage message(Long id, Long recipientId, int attempts) throws Exception {
+        NotificationResponse notification = NotificationResponse.builder()
+                .id(id)
+                .userId(recipientId)
+                .message("Your answer was upvoted")
+                .createdAt(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .build();
+        return JpaNotificationOutboxMessage.builder()
+                .id(id)
+                .recipientId(recipientId)
+                .payload(objectMapper.writeValueAsString(notification))
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void shouldStorePushAsJsonForImmediateDelivery() throws Exception {
+        NotificationResponse notification = NotificationResponse.builder().id(5L).userId(3L).message("Hi").build();
+
+        notificationOutbox.enqueue(notification);
+
+        ArgumentCaptor<JpaNotificationOutboxMessage> saved = ArgumentCaptor.forClass(JpaNotificationOutboxMessage.class);
+        verify(outboxRepository).save(saved.capture());
+        assertEquals(3L, saved.getValue().getRecipientId());
+        assertEquals(notification, objectMapper.readValue(saved.getValue().getPayload(), NotificationResponse.class));
+        assertFalse(saved.getValue().getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verifyNoInteractions(notificationDelivery);
+    }
+
+    @Test
+    void shouldDeleteDeliveredPushes() throws Exception {
+        JpaNotificationOutboxMessage first = message(1L, 3L, 0);
+        JpaNotificationOutboxMessage second = message(2L, 4L, 0);
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(first, second));
+
+        assertEquals(2, notificationOutbox.relayBatch());
+
+        verify(notificationDelivery).deliver(argThat(n -> n.getId() == 1L && n.getUserId() == 3L));
+        verify(notificationDelivery).deliver(argThat(n -> n.getId() == 2L && n.getUserId() == 4L));
+        verify(outboxRepository).deleteAll(List.of(first, second));
+    }
+
+    @Test
+    void shouldRetryFailedPushWithGrowingBackoff() throws Exception {
+        JpaNotificationOutboxMessage failing = message(1L, 3L, 1);
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(failing));
+        doThrow(new RuntimeException("Broker unavailable")).when(notificationDelivery).deliver(any());
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationOutbox.relayBatch();
+
+        assertEquals(2, failing.getAttempts());
+        assertFalse(failing.getNextAttemptAt().isBefore(before.plusSeconds(2)), "second retry waits twice the initial backoff");
+        assertEquals("Broker unavailable", failing.getLastError());
+        verify(outboxRepository).save(failing);
+        verify(outboxRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void shouldDropPushAfterLastAttempt() throws Exception {
+        JpaNotificationOutboxMessage exhausted = message(1L, 3L, 2);
+        when(outboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(exhausted));
+        doThrow(new RuntimeException("Broker unavailable")).when(notificationDelivery).deliver(any());
+
+        notificationOutbox.relayBatch();
+
+        verify(outboxRepository).deleteAll(List.of(exhausted));
+        verify(outboxRepository, never()).save(any());
+    }
+}
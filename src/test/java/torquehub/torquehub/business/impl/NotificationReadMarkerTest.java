@@ -0,0 +1,46 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationReadMarkerTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    private NotificationReadMarker readMarker;
+
+    @BeforeEach
+    void setUp() {
+        readMarker = new NotificationReadMarker(notificationRepository, unreadCounter, 100);
+    }
+
+    @Test
+    void shouldMarkOneChunkAndLowerCounterByRowsChanged() {
+        when(notificationRepository.markUnreadAsRead(1L, 100)).thenReturn(42);
+
+        assertEquals(42, readMarker.markNextChunkAsRead(1L));
+
+        verify(unreadCounter).decrement(1L, 42);
+    }
+
+    @Test
+    void shouldReportNothingLeftWhenNoRowsChange() {
+        when(notificationRepository.markUnreadAsRead(1L, 100)).thenReturn(0);
+
+        assertEquals(0, readMarker.markNextChunkAsRead(1L));
+
+        verify(unreadCounter).decrement(1L, 0);
+    }
+}
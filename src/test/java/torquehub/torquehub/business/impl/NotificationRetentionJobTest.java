@@ -0,0 +1,54 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationRetention retention;
+
+    @Test
+    void shouldRunBatchesUntilEachPhaseRunsDryAndReportRowsRemoved() {
+        NotificationRetentionJob job = new NotificationRetentionJob(retention, true, 24, 90, 10);
+        when(retention.getBatchSize()).thenReturn(100);
+        when(retention.compactBatch(any())).thenReturn(40, 5, 0);
+        when(retention.purgeBatch(any())).thenReturn(100, 100, 30);
+
+        NotificationRetentionJob.Report report = job.run();
+
+        assertEquals(45, report.compactedRows());
+        assertEquals(230, report.purgedRows());
+        verify(retention, times(3)).compactBatch(any());
+        verify(retention, times(3)).purgeBatch(any());
+    }
+
+    @Test
+    void shouldStopAfterMaxBatchesPerRun() {
+        NotificationRetentionJob job = new NotificationRetentionJob(retention, true, 24, 90, 2);
+        when(retention.getBatchSize()).thenReturn(100);
+        when(retention.compactBatch(any())).thenReturn(50);
+        when(retention.purgeBatch(any())).thenReturn(100);
+
+        NotificationRetentionJob.Report report = job.run();
+
+        assertEquals(100, report.compactedRows());
+        assertEquals(200, report.purgedRows());
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        NotificationRetentionJob job = new NotificationRetentionJob(retention, false, 24, 90, 10);
+
+        job.runOnSchedule();
+
+        verifyNoInteractions(retention);
+    }
+}
@@ -0,0 +1,84 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification.Type;
+import torquehub.torquehub.persistence.jpa.projection.VoteNotificationGroupProjection;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 5, 1, 0, 0);
+    private static final LocalDateTime LATEST_VOTE = LocalDateTime.of(2024, 4, 30, 18, 0);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Test
+    void shouldReplaceVoteGroupWithDigestRow() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 100, false);
+        when(notificationRepository.findReadVoteGroupsBefore(CUTOFF, 100)).thenReturn(List.of(
+                new VoteNotificationGroupProjection(1L, Type.ANSWER_VOTE, 7L, 3L, 12L, LATEST_VOTE)));
+        when(notificationRepository.deleteReadVoteGroupBefore(1L, Type.ANSWER_VOTE, 7L, CUTOFF)).thenReturn(3);
+
+        int removed = retention.compactBatch(CUTOFF);
+
+        assertEquals(2, removed);
+        verify(notificationRepository).insertReadDigest(1L, Type.ANSWER_VOTE, 7L, 12,
+                "12 people upvoted your answer", LATEST_VOTE);
+    }
+
+    @Test
+    void shouldSkipGroupAlreadyCompactedElsewhere() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 100, false);
+        when(notificationRepository.findReadVoteGroupsBefore(CUTOFF, 100)).thenReturn(List.of(
+                new VoteNotificationGroupProjection(1L, Type.QUESTION_VOTE, 7L, 2L, 2L, LATEST_VOTE)));
+        when(notificationRepository.deleteReadVoteGroupBefore(1L, Type.QUESTION_VOTE, 7L, CUTOFF)).thenReturn(0);
+
+        assertEquals(0, retention.compactBatch(CUTOFF));
+        verify(notificationRepository, never()).insertReadDigest(any(), any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldDeleteOldReadNotificationsWithoutArchiving() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 100, false);
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 100)).thenReturn(List.of(1L, 2L));
+        when(notificationRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, retention.purgeBatch(CUTOFF));
+        verify(notificationRepository, never()).archiveByIds(anyList(), any());
+    }
+
+    @Test
+    void shouldArchiveBeforeDeletingWhenEnabled() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 100, true);
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 100)).thenReturn(List.of(1L, 2L));
+        when(notificationRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, retention.purgeBatch(CUTOFF));
+
+        var order = inOrder(notificationRepository);
+        order.verify(notificationRepository).archiveByIds(eq(List.of(1L, 2L)), any());
+        order.verify(notificationRepository).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldNotTouchTableWhenNothingIsOldEnough() {
+        NotificationRetention retention = new NotificationRetention(notificationRepository, 100, true);
+        when(notificationRepository.findReadIdsBefore(CUTOFF, 100)).thenReturn(List.of());
+
+        assertEquals(0, retention.purgeBatch(CUTOFF));
+        verify(notificationRepository, never()).deleteByIds(anyList());
+    }
+}
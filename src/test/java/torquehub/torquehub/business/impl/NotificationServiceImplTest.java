@@ -12,7 +12,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
-import torquehub.torquehub.controllers.websocketcontrollers.WebSocketNotificationController;
 import torquehub.torquehub.domain.mapper.NotificationMapper;
 import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.domain.request.notification_dtos.*;
@@ -22,7 +21,6 @@ import torquehub.torquehub.domain.request.vote_dtos.VoteQuestionNotificationRequ
 import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaAnswerRepository;
-import torquehub.torquehub.persistence.jpa.impl.JpaFollowRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaNotificationRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
 import torquehub.torquehub.persistence.repository.UserRepository;
@@ -47,13 +45,25 @@ class NotificationServiceImplTest {
     private JpaAnswerRepository answerRepository;
 
     @Mock
-    private WebSocketNotificationController webSocketNotificationController;
+    private NotificationOutbox notificationOutbox;
 
     @Mock
     private JpaQuestionRepository questionRepository;
 
     @Mock
-    private JpaFollowRepository followRepository;
+    private NotificationFanout notificationFanout;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private NotificationReadMarker readMarker;
+
+    @Mock
+    private NotificationCacheEvictor cacheEvictor;
+
+    @Mock
+    private VoteNotificationCoalescer voteCoalescer;
 
     @InjectMocks
     private NotificationServiceImpl notificationService;
@@ -85,6 +95,8 @@ class NotificationServiceImplTest {
 
         assertTrue(response.isPresent());
         assertEquals(expectedResponse, response.get());
+        verify(unreadCounter).increment(1L);
+        verify(cacheEvictor).evictUser(1L);
     }
 
     @Test
@@ -153,8 +165,11 @@ class NotificationServiceImplTest {
 
     @Test
     void testMarkAsRead_Success() {
+        JpaUser user = new JpaUser();
+        user.setId(3L);
         JpaNotification notification = new JpaNotification();
         notification.setId(1L);
+        notification.setJpaUser(user);
         when(notificationRepository.findById(1L)).thenReturn(notification);
 
         boolean result = notificationService.markAsRead(1L);
@@ -162,6 +177,22 @@ class NotificationServiceImplTest {
         assertTrue(result);
         assertTrue(notification.isRead());
         verify(notificationRepository, times(1)).save(notification);
+        verify(unreadCounter).decrement(3L, 1);
+        verify(cacheEvictor).evictUser(3L);
+    }
+
+    @Test
+    void testMarkAsRead_AlreadyRead() {
+        JpaNotification notification = new JpaNotification();
+        notification.setId(1L);
+        notification.setRead(true);
+        when(notificationRepository.findById(1L)).thenReturn(notification);
+
+        boolean result = notificationService.markAsRead(1L);
+
+        assertTrue(result);
+        verify(notificationRepository, times(0)).save(any(JpaNotification.class));
+        verifyNoInteractions(unreadCounter);
     }
 
     @Test
@@ -176,29 +207,27 @@ class NotificationServiceImplTest {
 
     @Test
     void testMarkAllAsRead_Success() {
-        JpaNotification notification1 = new JpaNotification();
-        notification1.setRead(false);
-        JpaNotification notification2 = new JpaNotification();
-        notification2.setRead(false);
+        when(readMarker.getChunkSize()).thenReturn(2);
+        when(readMarker.markNextChunkAsRead(1L)).thenReturn(2, 2, 1);
 
-        List<JpaNotification> notifications = List.of(notification1, notification2);
+        int result = notificationService.markAllAsRead(1L);
 
-        when(notificationRepository.findByJpaUserIdAndIsReadFalse(1L)).thenReturn(notifications);
-
-        boolean result = notificationService.markAllAsRead(1L);
-
-        assertTrue(result);
-        verify(notificationRepository, times(1)).saveAll(notifications);
+        assertEquals(5, result);
+        verify(readMarker, times(3)).markNextChunkAsRead(1L);
+        verify(cacheEvictor).evictUser(1L);
+        verify(notificationRepository, never()).findByJpaUserIdAndIsReadFalse(anyLong());
     }
 
     @Test
     void testMarkAllAsRead_NoUnreadNotifications() {
-        when(notificationRepository.findByJpaUserIdAndIsReadFalse(1L)).thenReturn(new ArrayList<>());
+        when(readMarker.getChunkSize()).thenReturn(2);
+        when(readMarker.markNextChunkAsRead(1L)).thenReturn(0);
 
-        boolean result = notificationService.markAllAsRead(1L);
+        int result = notificationService.markAllAsRead(1L);
 
-        assertFalse(result);
-        verify(notificationRepository, times(0)).saveAll(anyList());
+        assertEquals(0, result);
+        verify(readMarker, times(1)).markNextChunkAsRead(1L);
+        verifyNoInteractions(cacheEvictor);
     }
 
     @Test
@@ -273,6 +302,9 @@ class NotificationServiceImplTest {
             assertTrue(response.isPresent());
             assertEquals(notificationResponse, response.get());
             verify(notificationRepository, times(1)).save(any(JpaNotification.class));
+            verify(notificationOutbox).enqueue(notificationResponse);
+            verify(notificationRepository).save(argThat(n ->
+                    n.getType() == JpaNotification.Type.ANSWER_VOTE && request.getAnswerId().equals(n.getTargetId())));
         }
     }
 
@@ -343,6 +375,27 @@ class NotificationServiceImplTest {
         }
     }
 
+    @Test
+    void testNotifyUserAboutCommentVote_CoalescedIntoOpenNotification() {
+        JpaUser commentOwner = new JpaUser();
+        commentOwner.setId(1L);
+        JpaUser voter = new JpaUser();
+        voter.setId(2L);
+        VoteCommentNotificationRequest request = new VoteCommentNotificationRequest(1L, "User 2 upvoted your comment", 2L, 5L);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(commentOwner));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(voter));
+        NotificationResponse merged = new NotificationResponse();
+        when(voteCoalescer.coalesce(1L, JpaNotification.Type.COMMENT_VOTE, 5L)).thenReturn(Optional.of(merged));
+
+        Optional<NotificationResponse> response = notificationService.notifyUserAboutCommentVote(request);
+
+        assertEquals(Optional.of(merged), response);
+        verify(notificationRepository, never()).save(any(JpaNotification.class));
+        verifyNoInteractions(notificationOutbox, unreadCounter);
+        verify(cacheEvictor).evictUser(1L);
+    }
+
 
     @Test
     void testFindTop5ByUserIdUnread() {
@@ -395,82 +448,48 @@ class NotificationServiceImplTest {
 
     @Test
     void testNotifyFollowersAboutNewAnswer() {
-        // Arrange: Create necessary objects and set up the request
         NewAnswerNotificationRequest request = new NewAnswerNotificationRequest(1L, 1L, 2L, "New answer notification message");
 
         JpaUser userWhoAnswered = new JpaUser();
         userWhoAnswered.setId(2L);
 
-        JpaUser followerUser = new JpaUser();
-        followerUser.setId(3L);
-
-        JpaFollow follower = new JpaFollow();
-        follower.setJpaUser(followerUser);
-
         JpaQuestion question = new JpaQuestion();
         question.setId(1L);
 
-        List<JpaFollow> followers = List.of(follower);
-
-        // Set up mocks to return expected values
         when(questionRepository.findById(1L)).thenReturn(Optional.of(question));
         when(userRepository.findById(2L)).thenReturn(Optional.of(userWhoAnswered));
-        when(followRepository.findByQuestionIdAndMutedFalse(1L)).thenReturn(followers);
-        doNothing().when(notificationRepository).saveAll(anyList());
 
-        // Mock static method in TransactionSynchronizationManager
-        try (MockedStatic<TransactionSynchronizationManager> transactionSynchronizationManagerMock = Mockito.mockStatic(TransactionSynchronizationManager.class)) {
-            transactionSynchronizationManagerMock.when(TransactionSynchronizationManager::isActualTransactionActive).thenReturn(true);
+        Optional<NotificationResponse> result = notificationService.notifyFollowersAboutNewAnswer(request);
 
-            // Act: Call the method under test
-            Optional<NotificationResponse> result = notificationService.notifyFollowersAboutNewAnswer(request);
-
-            // Assert: Verify the outcome
-            assertTrue(result.isEmpty(), "Expected Optional.empty() as the result");
-            verify(notificationRepository, times(1)).saveAll(anyList());
+        // The followers are expanded later by the fan-out worker, not inside the answer transaction
+        assertTrue(result.isEmpty(), "Expected Optional.empty() as the result");
+        verify(notificationFanout).enqueue(JpaNotificationFanoutEvent.TargetType.QUESTION, 1L, 2L, "New answer notification message");
+        verify(notificationRepository, never()).saveAll(anyList());
+        verifyNoInteractions(notificationOutbox);
+    }
 
+    @Test
+    void testNotifyFollowersAboutNewAnswer_QuestionNotFound() {
+        NewAnswerNotificationRequest request = new NewAnswerNotificationRequest(1L, 1L, 2L, "New answer notification message");
+        when(questionRepository.findById(1L)).thenReturn(Optional.empty());
 
-        }
+        assertThrows(IllegalArgumentException.class, () -> notificationService.notifyFollowersAboutNewAnswer(request));
+        verifyNoInteractions(notificationFanout);
     }
 
-
     @Test
     void testNotifyAnswerFollowersAboutNewComment() {
-        NewCommentOnAnswerNotificationRequest request = new NewCommentOnAnswerNotificationRequest(1L, 1L, 2L, "New comment on answer message");
+        NewCommentOnAnswerNotificationRequest request = new NewCommentOnAnswerNotificationRequest(1L, 5L, 2L, "New comment on answer message");
 
-        // Arrange: Setup test data
         JpaUser userWhoCommented = new JpaUser();
         userWhoCommented.setId(2L);
+        when(userRepository.findById(2L)).thenReturn(Optional.of(userWhoCommented));
 
-        JpaUser followerUser = new JpaUser();
-        followerUser.setId(4L);
+        Optional<NotificationResponse> result = notificationService.notifyAnswerFollowersAboutNewComment(request);
 
-        JpaFollow follower = new JpaFollow();
-        follower.setJpaUser(followerUser);
-
-        List<JpaFollow> answerFollowers = List.of(follower);
-
-        try (MockedStatic<TransactionSynchronizationManager> transactionSynchronizationManagerMock = Mockito.mockStatic(TransactionSynchronizationManager.class)) {
-            transactionSynchronizationManagerMock.when(TransactionSynchronizationManager::isActualTransactionActive).thenReturn(true);
-
-            // Setting up mocks to return expected values
-            when(userRepository.findById(2L)).thenReturn(Optional.of(userWhoCommented));
-            when(followRepository.findByAnswerIdAndMutedFalse(1L)).thenReturn(answerFollowers);
-
-            JpaNotification jpaNotification = new JpaNotification();
-            when(notificationRepository.save(any(JpaNotification.class))).thenReturn(jpaNotification);
-
-            // Optional: Add mapping of JpaNotification to NotificationResponse if necessary
-            NotificationResponse notificationResponse = new NotificationResponse();
-            when(notificationMapper.toResponse(jpaNotification)).thenReturn(notificationResponse);
-
-            // Act: Call the method under test
-            Optional<NotificationResponse> result = notificationService.notifyAnswerFollowersAboutNewComment(request);
-
-            // Assert: Verify the outcome
-            assertTrue(result.isEmpty(), "Expected Optional.empty() as the result");
-            verify(notificationRepository, times(1)).saveAll(anyList());
-        }
+        assertTrue(result.isEmpty(), "Expected Optional.empty() as the result");
+        verify(notificationFanout).enqueue(JpaNotificationFanoutEvent.TargetType.ANSWER, 5L, 2L, "New comment on answer message");
+        verify(notificationRepository, never()).saveAll(anyList());
     }
 
 
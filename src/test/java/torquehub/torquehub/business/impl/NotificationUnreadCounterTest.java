@@ -0,0 +1,63 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import torquehub.torquehub.persistence.repository.NotificationUnreadCounterRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private NotificationUnreadCounterRepository counterRepository;
+
+    private NotificationUnreadCounter unreadCounter;
+
+    @BeforeEach
+    void setUp() {
+        unreadCounter = new NotificationUnreadCounter(counterRepository, new ConcurrentMapCacheManager());
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        when(counterRepository.findUnreadCount(1L)).thenReturn(7L);
+
+        assertEquals(7L, unreadCounter.get(1L));
+        assertEquals(7L, unreadCounter.get(1L));
+
+        verify(counterRepository, times(1)).findUnreadCount(1L);
+    }
+
+    @Test
+    void shouldReloadCountAfterItChanges() {
+        when(counterRepository.findUnreadCount(1L)).thenReturn(7L, 8L, 5L);
+        assertEquals(7L, unreadCounter.get(1L));
+
+        unreadCounter.increment(1L);
+        assertEquals(8L, unreadCounter.get(1L));
+
+        unreadCounter.decrement(1L, 3);
+        assertEquals(5L, unreadCounter.get(1L));
+
+        verify(counterRepository).adjust(1L, 1);
+        verify(counterRepository).adjust(1L, -3);
+    }
+
+    @Test
+    void shouldIncrementFollowersInOneCallAndSkipEmptyChanges() {
+        unreadCounter.incrementAll(List.of(1L, 2L));
+        unreadCounter.incrementAll(List.of());
+        unreadCounter.decrement(1L, 0);
+
+        verify(counterRepository).incrementAll(List.of(1L, 2L));
+        verifyNoMoreInteractions(counterRepository);
+    }
+}
@@ -0,0 +1,75 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
+import torquehub.torquehub.domain.response.question_dtos.QuestionDetailResponse;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionDetailCacheTest {
+
+    private QuestionDetailCache questionDetailCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        questionDetailCache = new QuestionDetailCache(new ConcurrentMapCacheManager());
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Optional<QuestionDetailResponse>> loader(Long questionId) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(QuestionDetailResponse.builder().id(questionId).build());
+        };
+    }
+
+    @Test
+    void shouldLoadEachAnswerPageOnce() {
+        Pageable firstPage = PageRequest.of(0, 10);
+        Pageable secondPage = PageRequest.of(1, 10);
+
+        questionDetailCache.get(1L, firstPage, loader(1L));
+        questionDetailCache.get(1L, firstPage, loader(1L));
+        questionDetailCache.get(1L, secondPage, loader(1L));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReloadAllPagesOfChangedQuestionOnly() {
+        Pageable firstPage = PageRequest.of(0, 10);
+        Pageable secondPage = PageRequest.of(1, 10);
+        questionDetailCache.get(1L, firstPage, loader(1L));
+        questionDetailCache.get(1L, secondPage, loader(1L));
+        questionDetailCache.get(2L, firstPage, loader(2L));
+
+        questionDetailCache.onQuestionContentChanged(new QuestionContentChangedEvent(1L));
+        questionDetailCache.get(1L, firstPage, loader(1L));
+        questionDetailCache.get(1L, secondPage, loader(1L));
+        questionDetailCache.get(2L, firstPage, loader(2L));
+
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void shouldNotCacheMissingQuestion() {
+        Supplier<Optional<QuestionDetailResponse>> missing = () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertTrue(questionDetailCache.get(9L, PageRequest.of(0, 10), missing).isEmpty());
+        assertTrue(questionDetailCache.get(9L, PageRequest.of(0, 10), missing).isEmpty());
+
+        assertEquals(2, loads.get());
+    }
+}
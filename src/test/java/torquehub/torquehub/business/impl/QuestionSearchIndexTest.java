@@ -0,0 +1,144 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.domain.model.jpa_models.JpaAnswer;
+import torquehub.torquehub.domain.model.jpa_models.JpaQuestion;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionSearchIndexTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    private final List<Runnable> queuedRebuilds = new ArrayList<>();
+
+    private QuestionSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new QuestionSearchIndex(questionRepository, answerRepository, 0.1, 0.02, queuedRebuilds::add);
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        searchIndex.indexQuestion(question(1L, "Oil leak after service", "Engine drips near the filter", 0));
+        searchIndex.indexQuestion(question(2L, "Strange noise", "Could the turbo be leaking oil?", 0));
+
+        Page<Long> result = searchIndex.search("oil", PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 2L), result.getContent());
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void shouldBoostMoreVotedQuestionsWhenTextMatchesEqually() {
+        searchIndex.indexQuestion(question(1L, "Brake squeal", "Front brakes squeal", 0));
+        searchIndex.indexQuestion(question(2L, "Brake squeal", "Front brakes squeal", 50));
+
+        assertEquals(List.of(2L, 1L), searchIndex.search("brake squeal", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void shouldFindQuestionsThroughAnswersAndForgetRemovedAnswers() {
+        JpaQuestion question = question(1L, "Car will not start", "Clicking sound", 0);
+        searchIndex.indexQuestion(question);
+        searchIndex.indexAnswer(JpaAnswer.builder().id(10L).jpaQuestion(question).text("Replace the starter relay").build());
+
+        assertEquals(List.of(1L), searchIndex.search("relay", PageRequest.of(0, 10)).getContent());
+
+        searchIndex.removeAnswer(10L);
+        assertTrue(searchIndex.search("relay", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(List.of(1L), searchIndex.search("clicking", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void shouldPageResultsAndDropRemovedQuestions() {
+        for (long id = 1; id <= 3; id++) {
+            searchIndex.indexQuestion(question(id, "Gearbox question " + id, "gearbox", 0));
+        }
+        searchIndex.removeQuestion(2L);
+
+        Page<Long> secondPage = searchIndex.search("gearbox", PageRequest.of(1, 1));
+
+        assertEquals(2, secondPage.getTotalElements());
+        assertEquals(1, secondPage.getContent().size());
+        assertFalse(secondPage.getContent().contains(2L));
+    }
+
+    @Test
+    void shouldRebuildFromRepositoriesInBatches() {
+        when(questionRepository.findSearchDocuments(anyLong(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, "Clutch slipping", "Slips in third gear", 3, 40}));
+        when(answerRepository.findSearchDocuments(anyLong(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{7L, 5L, "Adjust the clutch cable"}));
+
+        assertFalse(searchIndex.isReady());
+        assertEquals(1, searchIndex.rebuild());
+
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(5L), searchIndex.search("cable", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void shouldServePreviousIndexUntilBackgroundRebuildCompletes() {
+        searchIndex.indexQuestion(question(1L, "Oil leak after service", "Engine drips", 0));
+        when(questionRepository.findSearchDocuments(anyLong(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[]{5L, "Clutch slipping", "Slips in third gear", 3, 40}));
+
+        assertTrue(searchIndex.requestRebuild());
+        assertFalse(searchIndex.requestRebuild());
+        assertTrue(searchIndex.isRebuilding());
+        assertEquals(1, queuedRebuilds.size());
+        assertEquals(List.of(1L), searchIndex.search("oil", PageRequest.of(0, 10)).getContent());
+        verifyNoInteractions(questionRepository);
+
+        queuedRebuilds.get(0).run();
+
+        assertFalse(searchIndex.isRebuilding());
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of(5L), searchIndex.search("clutch", PageRequest.of(0, 10)).getContent());
+        assertTrue(searchIndex.search("oil", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void shouldKeepPreviousIndexAndAllowRetry_WhenBackgroundRebuildFails() {
+        searchIndex.indexQuestion(question(1L, "Oil leak after service", "Engine drips", 0));
+        when(questionRepository.findSearchDocuments(anyLong(), any(Pageable.class))).thenThrow(new RuntimeException("db down"));
+
+        assertTrue(searchIndex.requestRebuild());
+        queuedRebuilds.get(0).run();
+
+        assertFalse(searchIndex.isRebuilding());
+        assertEquals(List.of(1L), searchIndex.search("oil", PageRequest.of(0, 10)).getContent());
+        assertTrue(searchIndex.requestRebuild());
+    }
+
+    @Test
+    void shouldIgnoreStopWordsAndPunctuation() {
+        assertEquals(List.of("turbo", "v6"), QuestionSearchIndex.tokenize("What is the Turbo, on a V6?"));
+    }
+
+    private JpaQuestion question(Long id, String title, String description, int votes) {
+        return JpaQuestion.builder().id(id).title(title).description(description).votes(votes).build();
+    }
+}
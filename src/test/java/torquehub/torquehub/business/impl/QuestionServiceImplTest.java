@@ -5,11 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.exeption.question_exeptions.QuestionCreationException;
 import torquehub.torquehub.business.interfaces.ReputationService;
 import torquehub.torquehub.business.interfaces.VoteService;
@@ -17,6 +21,7 @@ import torquehub.torquehub.domain.mapper.AnswerMapper;
 import torquehub.torquehub.domain.mapper.CommentMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapperContext;
+import torquehub.torquehub.domain.mapper.UserInteractionState;
 import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.domain.request.question_dtos.QuestionCreateRequest;
 import torquehub.torquehub.domain.request.question_dtos.QuestionUpdateRequest;
@@ -25,7 +30,9 @@ import torquehub.torquehub.domain.response.question_dtos.QuestionResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.*;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,6 +67,16 @@ class QuestionServiceImplTest {
     private CommentMapper commentMapper;
     @Mock
     private AnswerMapper answerMapper;
+    @Mock
+    private JpaAnswerRepository answerRepository;
+    @Mock
+    private QuestionSearchIndex searchIndex;
+    @Mock
+    private QuestionViewCounter viewCounter;
+    @Spy
+    private QuestionDetailCache questionDetailCache = new QuestionDetailCache(new ConcurrentMapCacheManager());
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private JpaQuestion testQuestion;
     private JpaUser testUser;
@@ -88,7 +105,7 @@ class QuestionServiceImplTest {
         request.setTags(Set.of("tag1", "tag2"));
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(new JpaTag()));
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of(tag(1L, "tag1"), tag(2L, "tag2")));
         when(questionRepository.save(any(JpaQuestion.class))).thenReturn(testQuestion);
         when(questionMapper.toResponse(any(JpaQuestion.class))).thenReturn(new QuestionResponse());
 
@@ -96,6 +113,8 @@ class QuestionServiceImplTest {
 
         assertNotNull(response);
         verify(questionRepository).save(any(JpaQuestion.class));
+        verify(tagRepository).incrementUsageCount(argThat(ids -> ids.containsAll(List.of(1L, 2L))));
+        verify(tagRepository, never()).save(any(JpaTag.class));
     }
 
     @Test
@@ -105,7 +124,7 @@ class QuestionServiceImplTest {
         request.setTags(Set.of("tag1", "tag2"));
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.empty());  // Simulate missing tag
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of(tag(1L, "tag1")));  // Simulate missing tag
 
         assertThrows(QuestionCreationException.class, () -> questionService.askQuestion(request));
     }
@@ -117,6 +136,7 @@ class QuestionServiceImplTest {
 
         assertTrue(questionService.deleteQuestion(1L));
         verify(questionRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(QuestionContentChangedEvent.class));
     }
 
     @Test
@@ -134,10 +154,11 @@ class QuestionServiceImplTest {
         updateRequest.setTags(Set.of("tag1", "tag2"));
 
         when(questionRepository.findById(anyLong())).thenReturn(Optional.of(testQuestion));
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.of(new JpaTag()));
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of(tag(1L, "tag1"), tag(2L, "tag2")));
 
         assertTrue(questionService.updateQuestion(1L, updateRequest));
         verify(questionRepository).save(any(JpaQuestion.class));
+        verify(eventPublisher).publishEvent(any(QuestionContentChangedEvent.class));
     }
 
     @Test
@@ -151,11 +172,26 @@ class QuestionServiceImplTest {
         assertTrue(response.isPresent());
     }
 
+    @Test
+    void shouldServeQuestionDetailFromCacheUntilQuestionChanges() {
+        when(questionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
+        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class)))
+                .thenReturn(new QuestionDetailResponse());
+
+        questionService.getQuestionbyId(1L, pageable);
+        questionService.getQuestionbyId(1L, pageable);
+        verify(questionRepository, times(1)).findById(1L);
+
+        questionDetailCache.onQuestionContentChanged(new QuestionContentChangedEvent(1L));
+        questionService.getQuestionbyId(1L, pageable);
+        verify(questionRepository, times(2)).findById(1L);
+    }
+
     @Test
     void shouldGetAllQuestionsSuccessfully() {
-        Page<JpaQuestion> questionPage = new PageImpl<>(Collections.singletonList(testQuestion));
-        when(questionRepository.findAll(any(Pageable.class))).thenReturn(questionPage);
-        when(questionMapper.toSummaryResponse(any(JpaQuestion.class))).thenReturn(new QuestionSummaryResponse());
+        Page<QuestionSummaryProjection> questionPage = new PageImpl<>(Collections.singletonList(summaryProjection()));
+        when(questionRepository.findSummaries(any(Pageable.class))).thenReturn(questionPage);
+        when(questionMapper.toSummaryResponse(any(QuestionSummaryProjection.class))).thenReturn(new QuestionSummaryResponse());
 
         Page<QuestionSummaryResponse> response = questionService.getAllQuestions(PageRequest.of(0, 10));
 
@@ -166,31 +202,33 @@ class QuestionServiceImplTest {
     void shouldGetQuestionByIdWithUserSuccessfully() {
         JpaVote vote = new JpaVote();
         vote.setUpvote(true);
+        QuestionDetailResponse shared = QuestionDetailResponse.builder().id(1L).build();
+        QuestionDetailResponse personal = QuestionDetailResponse.builder().id(1L).userVote("up").build();
 
         when(questionRepository.findById(anyLong())).thenReturn(Optional.of(testQuestion));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
-        when(voteRepository.findByUserAndJpaQuestion(any(), any())).thenReturn(Optional.of(vote));
+        when(voteRepository.findByUserIdAndQuestionId(1L, 1L)).thenReturn(Optional.of(vote));
         when(followRepository.findByUserIdAndQuestionId(anyLong(), anyLong())).thenReturn(Optional.of(new JpaFollow()));
         when(bookmarkRepository.findByUserIdAndJpaQuestionId(anyLong(), anyLong())).thenReturn(Optional.of(new JpaBookmark()));
-
-        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class)))
-                .thenReturn(new QuestionDetailResponse());
+        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class))).thenReturn(shared);
+        when(questionMapper.withUserInteractions(eq(shared), any(UserInteractionState.class), eq("up"), eq(true), eq(true)))
+                .thenReturn(personal);
 
         Optional<QuestionDetailResponse> response = questionService.getQuestionbyId(1L, pageable, 1L);
 
-        assertTrue(response.isPresent());
+        assertEquals(Optional.of(personal), response);
         verify(questionMapper).toDetailResponse(eq(testQuestion), any(QuestionMapperContext.class));
-        verify(voteRepository).findByUserAndJpaQuestion(any(), any());
+        verify(answerRepository).findByQuestionId(1L, pageable);
+        verify(voteRepository).findByUserIdAndQuestionId(1L, 1L);
         verify(followRepository).findByUserIdAndQuestionId(anyLong(), anyLong());
         verify(bookmarkRepository).findByUserIdAndJpaQuestionId(anyLong(), anyLong());
     }
 
     @Test
     void shouldGetQuestionByIdWithUserWhenNoVoteExists() {
+        QuestionDetailResponse shared = QuestionDetailResponse.builder().id(1L).build();
         when(questionRepository.findById(anyLong())).thenReturn(Optional.of(testQuestion));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
-
-        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class)))
+        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class))).thenReturn(shared);
+        when(questionMapper.withUserInteractions(eq(shared), any(UserInteractionState.class), isNull(), eq(false), eq(false)))
                 .thenReturn(new QuestionDetailResponse());
 
         Optional<QuestionDetailResponse> response = questionService.getQuestionbyId(1L, pageable, 1L);
@@ -198,11 +236,27 @@ class QuestionServiceImplTest {
         assertTrue(response.isPresent());
     }
 
+    @Test
+    void shouldShareCachedDetailBetweenUsersAndOnlyLoadTheirInteractions() {
+        QuestionDetailResponse shared = QuestionDetailResponse.builder().id(1L).build();
+        when(questionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
+        when(questionMapper.toDetailResponse(any(JpaQuestion.class), any(QuestionMapperContext.class))).thenReturn(shared);
+        when(questionMapper.withUserInteractions(eq(shared), any(UserInteractionState.class), any(), anyBoolean(), anyBoolean()))
+                .thenReturn(new QuestionDetailResponse());
+
+        questionService.getQuestionbyId(1L, pageable, 1L);
+        questionService.getQuestionbyId(1L, pageable, 2L);
+
+        verify(questionRepository, times(1)).findById(1L);
+        verify(followRepository).findByUserIdAndQuestionId(1L, 1L);
+        verify(followRepository).findByUserIdAndQuestionId(2L, 1L);
+    }
+
     @Test
     void shouldGetQuestionsByUserSuccessfully() {
-        List<JpaQuestion> questions = Arrays.asList(testQuestion);
-        when(questionRepository.findByJpaUserId(anyLong())).thenReturn(questions);
-        when(questionMapper.toSummaryResponse(any(JpaQuestion.class))).thenReturn(new QuestionSummaryResponse());
+        List<QuestionSummaryProjection> questions = Arrays.asList(summaryProjection());
+        when(questionRepository.findSummariesByUserId(anyLong())).thenReturn(questions);
+        when(questionMapper.toSummaryResponse(any(QuestionSummaryProjection.class))).thenReturn(new QuestionSummaryResponse());
 
         Optional<List<QuestionSummaryResponse>> response = questionService.getQuestionsByUser(1L);
 
@@ -212,7 +266,7 @@ class QuestionServiceImplTest {
 
     @Test
     void shouldReturnEmptyWhenNoQuestionsFoundForUser() {
-        when(questionRepository.findByJpaUserId(anyLong())).thenReturn(Collections.emptyList());
+        when(questionRepository.findSummariesByUserId(anyLong())).thenReturn(Collections.emptyList());
 
         Optional<List<QuestionSummaryResponse>> response = questionService.getQuestionsByUser(1L);
 
@@ -244,22 +298,21 @@ class QuestionServiceImplTest {
     }
 
     @Test
-    void shouldIncrementQuestionViewSuccessfully() {
-        when(questionRepository.findById(anyLong())).thenReturn(Optional.of(testQuestion));
-        when(questionRepository.save(any(JpaQuestion.class))).thenReturn(testQuestion);
+    void shouldIncrementQuestionViewThroughViewCounter() {
+        when(viewCounter.record(1L, "user:1")).thenReturn(true);
 
-        boolean result = questionService.incrementQuestionView(1L);
+        boolean result = questionService.incrementQuestionView(1L, "user:1");
 
         assertTrue(result);
-        assertEquals(1, testQuestion.getViews());
-        verify(questionRepository).save(testQuestion);
+        verify(viewCounter).record(1L, "user:1");
+        verify(questionRepository, never()).save(any(JpaQuestion.class));
     }
 
     @Test
-    void shouldThrowExceptionWhenIncrementViewForNonExistentQuestion() {
-        when(questionRepository.findById(anyLong())).thenReturn(Optional.empty());
+    void shouldNotCountRepeatedViewFromSameViewer() {
+        when(viewCounter.record(1L, "ip:10.0.0.1")).thenReturn(false);
 
-        assertThrows(QuestionCreationException.class, () -> questionService.incrementQuestionView(1L));
+        assertFalse(questionService.incrementQuestionView(1L, "ip:10.0.0.1"));
     }
 
     @Test
@@ -276,7 +329,7 @@ class QuestionServiceImplTest {
         updateRequest.setTags(Set.of("nonexistent-tag"));
 
         when(questionRepository.findById(anyLong())).thenReturn(Optional.of(testQuestion));
-        when(tagRepository.findByName(anyString())).thenReturn(Optional.empty());
+        when(tagRepository.findByNameIn(anyCollection())).thenReturn(List.of());
 
         assertThrows(IllegalArgumentException.class, () -> questionService.updateQuestion(1L, updateRequest));
     }
@@ -325,4 +378,11 @@ class QuestionServiceImplTest {
         verify(questionRepository).countByJpaUserId(userId);
     }
 
+    private QuestionSummaryProjection summaryProjection() {
+        return new QuestionSummaryProjection(1L, "Test Question", "testUser", 10, 0, 0, 0, LocalDateTime.now(), "BMW");
+    }
+
+    private JpaTag tag(Long id, String name) {
+        return JpaTag.builder().id(id).name(name).build();
+    }
 }
@@ -0,0 +1,81 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionViewCounterTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    private QuestionViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new QuestionViewCounter(questionRepository, 1800, 1000);
+    }
+
+    @Test
+    void shouldIgnoreRepeatedViewsFromSameViewer() {
+        assertTrue(viewCounter.record(1L, "user:1"));
+        assertFalse(viewCounter.record(1L, "user:1"));
+        assertTrue(viewCounter.record(1L, "user:2"));
+        assertTrue(viewCounter.record(2L, "user:1"));
+
+        viewCounter.flush();
+
+        verify(questionRepository).incrementViews(List.of(1L), 2);
+        verify(questionRepository).incrementViews(List.of(2L), 1);
+        verifyNoMoreInteractions(questionRepository);
+    }
+
+    @Test
+    void shouldGroupQuestionsWithSameDeltaIntoOneUpdate() {
+        viewCounter.record(1L, "ip:10.0.0.1");
+        viewCounter.record(2L, "ip:10.0.0.1");
+        viewCounter.record(3L, "ip:10.0.0.1");
+
+        viewCounter.flush();
+
+        verify(questionRepository).incrementViews(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L, 3L))), eq(1));
+        verifyNoMoreInteractions(questionRepository);
+        assertEquals(0, viewCounter.getPendingQuestionCount());
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWhenNothingIsPending() {
+        viewCounter.flush();
+
+        verifyNoInteractions(questionRepository);
+    }
+
+    @Test
+    void shouldKeepViewsForNextFlushWhenUpdateFails() {
+        viewCounter.record(1L, "user:1");
+        when(questionRepository.incrementViews(anyCollection(), anyInt()))
+                .thenThrow(new RuntimeException("Database unavailable"))
+                .thenReturn(1);
+
+        viewCounter.flush();
+        assertEquals(1, viewCounter.getPendingQuestionCount());
+
+        viewCounter.record(1L, "user:2");
+        viewCounter.flush();
+
+        verify(questionRepository).incrementViews(List.of(1L), 2);
+        assertEquals(0, viewCounter.getPendingQuestionCount());
+    }
+}
@@ -11,6 +11,8 @@ import torquehub.torquehub.domain.model.jpa_models.JpaUser;
 import torquehub.torquehub.domain.request.reputation_dtos.ReputationUpdateRequest;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaUserRepository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -18,6 +20,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 class ReputationServiceImplTest {
@@ -48,6 +52,8 @@ class ReputationServiceImplTest {
     private void mockUserRepositoryAndMapper(int points, String action) {
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
         when(reputationMapper.toResponse(user, action, points)).thenReturn(new ReputationResponse());
+        when(userRepository.addPoints(1L, points)).thenReturn(Optional.of(points));
+        when(reputationMapper.toResponse(1L, points, action)).thenReturn(new ReputationResponse());
     }
 
     @Test
@@ -175,7 +181,7 @@ class ReputationServiceImplTest {
 
     @Test
     void testUpdateReputation_userNotFound() {
-        when(userRepository.findById(any())).thenReturn(Optional.empty());
+        when(userRepository.addPoints(any(), anyInt())).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class, () -> reputationService.updateReputationForNewQuestion(request));
     }
 
@@ -195,10 +201,64 @@ class ReputationServiceImplTest {
 
     @Test
     void testUpdateReputation_exceptionHandling() {
-        when(userRepository.findById(any())).thenThrow(new RuntimeException("Database error"));
+        when(userRepository.addPoints(any(), anyInt())).thenThrow(new RuntimeException("Database error"));
         assertThrows(IllegalArgumentException.class, () -> reputationService.updateReputationForNewQuestion(request));
     }
 
+    @Test
+    void testDeferReputationUpdate_appliesImmediatelyWithoutTransaction() {
+        request.setPoints(ReputationConstants.POINTS_UPVOTE_GIVEN);
+        when(userRepository.addPoints(1L, ReputationConstants.POINTS_UPVOTE_GIVEN)).thenReturn(Optional.of(1));
+
+        reputationService.deferReputationUpdate(request);
+
+        verify(userRepository).addPoints(1L, ReputationConstants.POINTS_UPVOTE_GIVEN);
+    }
+
+    @Test
+    void testDeferReputationUpdate_coalescesDeltasUntilCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            request.setPoints(2);
+            reputationService.deferReputationUpdate(request);
+            reputationService.deferReputationUpdate(request);
+            reputationService.deferReputationUpdate(new ReputationUpdateRequest(2L, -1));
+
+            verifyNoInteractions(userRepository);
+
+            when(userRepository.incrementPoints(anyLong(), anyInt())).thenReturn(true);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+            verify(userRepository).incrementPoints(1L, 4);
+            verify(userRepository).incrementPoints(2L, -1);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testUpdateReputation_includesPendingDeltaForSameUser() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            request.setPoints(-1);
+            reputationService.deferReputationUpdate(request);
+
+            int expected = ReputationConstants.POINTS_NEW_QUESTION - 1;
+            when(userRepository.addPoints(1L, expected)).thenReturn(Optional.of(expected));
+            reputationService.updateReputationForNewQuestion(request);
+
+            verify(userRepository).addPoints(1L, expected);
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+            verify(userRepository, never()).incrementPoints(anyLong(), anyInt());
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     private void instantiateConstructor(Constructor<ReputationConstants> constructor) {
         try {
             constructor.newInstance();
@@ -0,0 +1,80 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import torquehub.torquehub.domain.mapper.QuestionMapper;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+
+    @Mock
+    private QuestionSearchIndex searchIndex;
+
+    @Mock
+    private JpaQuestionRepository questionRepository;
+
+    @Mock
+    private QuestionMapper questionMapper;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    @Test
+    void shouldKeepIndexRankingWhenLoadingSummaries() {
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(searchIndex.search("turbo", pageable)).thenReturn(new PageImpl<>(List.of(8L, 3L), pageable, 5));
+        QuestionSummaryProjection first = summary(3L);
+        QuestionSummaryProjection second = summary(8L);
+        when(questionRepository.findSummariesByIds(List.of(8L, 3L))).thenReturn(List.of(first, second));
+        when(questionMapper.toSummaryResponse(any(QuestionSummaryProjection.class)))
+                .thenAnswer(invocation -> QuestionSummaryResponse.builder()
+                        .id(invocation.<QuestionSummaryProjection>getArgument(0).getId())
+                        .build());
+
+        Page<QuestionSummaryResponse> result = searchService.searchQuestions("turbo", pageable);
+
+        assertEquals(List.of(8L, 3L), result.getContent().stream().map(QuestionSummaryResponse::getId).toList());
+        assertEquals(5, result.getTotalElements());
+    }
+
+    @Test
+    void shouldNotQueryDatabaseWhenNothingMatches() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(searchIndex.search("nothing", pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        assertTrue(searchService.searchQuestions("nothing", pageable).isEmpty());
+        verifyNoInteractions(questionRepository);
+    }
+
+    @Test
+    void shouldRejectBlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.searchQuestions(" ", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void shouldRequestBackgroundRebuild() {
+        when(searchIndex.requestRebuild()).thenReturn(true);
+
+        assertTrue(searchService.rebuildIndex());
+    }
+
+    private QuestionSummaryProjection summary(Long id) {
+        return new QuestionSummaryProjection(id, "Title", "user", 0, 0, 0, 0, LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,110 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import torquehub.torquehub.domain.model.jpa_models.JpaTag;
+import torquehub.torquehub.persistence.repository.TagRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagSearchIndexTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    private TagSearchIndex tagSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagSearchIndex = new TagSearchIndex(tagRepository);
+        when(tagRepository.findAll()).thenReturn(List.of(
+                JpaTag.builder().id(1L).name("BMW").usageCount(40).build(),
+                JpaTag.builder().id(2L).name("Turbo").usageCount(90).build(),
+                JpaTag.builder().id(3L).name("Turbocharger").usageCount(10).build(),
+                JpaTag.builder().id(4L).name("Brakes").usageCount(25).build()
+        ));
+        tagSearchIndex.rebuild();
+    }
+
+    @Test
+    void shouldMatchSubstringIgnoringCaseRankedByUsage() {
+        List<JpaTag> result = tagSearchIndex.search("URB", 5);
+
+        assertEquals(List.of("Turbo", "Turbocharger"), result.stream().map(JpaTag::getName).toList());
+        assertEquals(90, result.get(0).getUsageCount());
+    }
+
+    @Test
+    void shouldReturnMostUsedTagsForBlankQuery() {
+        List<JpaTag> result = tagSearchIndex.search(null, 2);
+
+        assertTrue(tagSearchIndex.isReady());
+        assertEquals(List.of("Turbo", "BMW"), result.stream().map(JpaTag::getName).toList());
+    }
+
+    @Test
+    void shouldReturnNothingWhenNoNameContainsQuery() {
+        assertTrue(tagSearchIndex.search("diesel", 5).isEmpty());
+    }
+
+    @Test
+    void shouldApplyCreateUpdateAndDeleteWithoutReloading() {
+        tagSearchIndex.put(JpaTag.builder().id(5L).name("Brake pads").usageCount(0).build());
+        tagSearchIndex.put(JpaTag.builder().id(1L).name("Audi").usageCount(40).build());
+        tagSearchIndex.remove(4L);
+
+        assertEquals(List.of("Brake pads"), tagSearchIndex.search("brake", 5).stream().map(JpaTag::getName).toList());
+        assertTrue(tagSearchIndex.search("bmw", 5).isEmpty());
+        assertEquals(1, tagSearchIndex.search("aud", 5).size());
+        verify(tagRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldKeepChangesCommittedWhileRebuildIsLoading() {
+        when(tagRepository.findAll()).thenAnswer(invocation -> {
+            tagSearchIndex.put(JpaTag.builder().id(5L).name("Intercooler").usageCount(3).build());
+            tagSearchIndex.remove(1L);
+            return List.of(
+                    JpaTag.builder().id(1L).name("BMW").usageCount(40).build(),
+                    JpaTag.builder().id(2L).name("Turbo").usageCount(90).build()
+            );
+        });
+
+        tagSearchIndex.rebuild();
+
+        assertEquals(List.of("Intercooler"), tagSearchIndex.search("cool", 5).stream().map(JpaTag::getName).toList());
+        assertTrue(tagSearchIndex.search("bmw", 5).isEmpty());
+        assertEquals(List.of("Turbo", "Intercooler"), tagSearchIndex.search(null, 5).stream().map(JpaTag::getName).toList());
+    }
+
+    @Test
+    void shouldMatchFullRebuildAfterIncrementalChanges() {
+        tagSearchIndex.put(JpaTag.builder().id(5L).name("Turbine").usageCount(7).build());
+        tagSearchIndex.put(JpaTag.builder().id(2L).name("Supercharger").usageCount(90).build());
+        tagSearchIndex.remove(3L);
+        tagSearchIndex.put(JpaTag.builder().id(6L).name("bmw e46").usageCount(12).build());
+        tagSearchIndex.remove(99L);
+
+        TagSearchIndex rebuilt = new TagSearchIndex(tagRepository);
+        when(tagRepository.findAll()).thenReturn(List.of(
+                JpaTag.builder().id(1L).name("BMW").usageCount(40).build(),
+                JpaTag.builder().id(2L).name("Supercharger").usageCount(90).build(),
+                JpaTag.builder().id(4L).name("Brakes").usageCount(25).build(),
+                JpaTag.builder().id(5L).name("Turbine").usageCount(7).build(),
+                JpaTag.builder().id(6L).name("bmw e46").usageCount(12).build()
+        ));
+        rebuilt.rebuild();
+
+        for (String query : List.of("", "b", "bmw", "charger", "r", "tur", "e", " e4", "turbo", "z")) {
+            assertEquals(rebuilt.search(query, 10).stream().map(JpaTag::getId).toList(),
+                    tagSearchIndex.search(query, 10).stream().map(JpaTag::getId).toList(), query);
+        }
+    }
+}
@@ -35,6 +35,9 @@ class TagServiceImplTest {
     @Mock
     private TagMapper tagMapper;
 
+    @Mock
+    private TagSearchIndex tagSearchIndex;
+
     private JpaTag testJpaTag;
     private TagCreateRequest tagCreateRequest;
     private TagUpdateRequest tagUpdateRequest;
@@ -264,6 +267,19 @@ class TagServiceImplTest {
         verify(tagMapper, times(2)).toResponse(any(JpaTag.class));
     }
 
+    @Test
+    void shouldAnswerTop5TagsFromSearchIndexWhenReady() {
+        JpaTag indexedTag = JpaTag.builder().id(1L).name("Technology").usageCount(100).build();
+        when(tagSearchIndex.isReady()).thenReturn(true);
+        when(tagSearchIndex.search("tech", 5)).thenReturn(List.of(indexedTag));
+        when(tagMapper.toResponse(indexedTag)).thenReturn(tagResponse);
+
+        List<TagResponse> response = tagService.getTop5Tags("tech");
+
+        assertEquals(List.of(tagResponse), response);
+        verifyNoInteractions(tagRepository);
+    }
+
     @Test
     void shouldThrowExceptionWhenDeleteTagFails() {
         when(tagRepository.findById(tagId)).thenReturn(Optional.of(testJpaTag));
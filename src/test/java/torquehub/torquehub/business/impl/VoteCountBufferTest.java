@@ -0,0 +1,229 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.CommentRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteCountBufferTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private VoteCountBuffer voteCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        voteCountBuffer = new VoteCountBuffer(questionRepository, answerRepository, commentRepository,
+                eventPublisher, transactionManager, true, 3);
+    }
+
+    @Test
+    void shouldCoalesceDeltasPerTargetUntilFlush() {
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.ANSWER, 1L, 9L, -1);
+
+        assertEquals(2, voteCountBuffer.getPendingTargetCount());
+        assertEquals(3, voteCountBuffer.getPendingDeltaCount());
+        verifyNoInteractions(questionRepository, answerRepository);
+
+        when(questionRepository.incrementVotes(1L, 2)).thenReturn(true);
+        when(answerRepository.incrementVotes(1L, -1)).thenReturn(true);
+        voteCountBuffer.flush();
+
+        verify(questionRepository).incrementVotes(1L, 2);
+        verify(answerRepository).incrementVotes(1L, -1);
+        assertEquals(0, voteCountBuffer.getPendingTargetCount());
+    }
+
+    @Test
+    void shouldPublishQuestionChangeInsideWriteTransaction_WhenCountIsWritten() {
+        List<Boolean> transactionOpenAtPublish = new ArrayList<>();
+        doAnswer(invocation -> {
+            RecordingTransactionManager.Tx tx = transactionManager.current();
+            transactionOpenAtPublish.add(tx != null && !tx.committed);
+            return null;
+        }).when(eventPublisher).publishEvent(any(QuestionContentChangedEvent.class));
+        when(answerRepository.incrementVotes(1L, 1)).thenReturn(true);
+        when(answerRepository.incrementVotes(2L, 1)).thenReturn(false);
+        voteCountBuffer.add(VoteCountBuffer.Target.ANSWER, 1L, 9L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.ANSWER, 2L, 8L, 1);
+
+        verifyNoInteractions(eventPublisher);
+        voteCountBuffer.flush();
+
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof QuestionContentChangedEvent changed && changed.getQuestionId().equals(9L)));
+        verifyNoMoreInteractions(eventPublisher);
+        assertEquals(List.of(true), transactionOpenAtPublish);
+    }
+
+    @Test
+    void shouldSkipDeltasThatCancelOut() {
+        voteCountBuffer.add(VoteCountBuffer.Target.COMMENT, 5L, 9L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.COMMENT, 5L, 9L, -1);
+
+        voteCountBuffer.flush();
+
+        verify(commentRepository, never()).incrementVotes(anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldFlushInCallerThread_WhenBufferIsFull() {
+        when(questionRepository.incrementVotes(anyLong(), anyInt())).thenReturn(true);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 2L, 2L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 3L, 3L, 1);
+
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 4L, 4L, 1);
+
+        verify(questionRepository, times(3)).incrementVotes(anyLong(), eq(1));
+        assertEquals(1, voteCountBuffer.getPendingTargetCount());
+    }
+
+    @Test
+    void shouldKeepDelta_WhenFlushFails() {
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+        when(questionRepository.incrementVotes(1L, 1)).thenThrow(new RuntimeException("Database error"));
+
+        voteCountBuffer.flush();
+
+        assertEquals(1, voteCountBuffer.getPendingTargetCount());
+    }
+
+    @Test
+    void shouldBufferOnlyAfterCommit_WhenTransactionIsActive() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+            assertEquals(0, voteCountBuffer.getPendingTargetCount());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, voteCountBuffer.getPendingTargetCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldWriteOverflowInItsOwnTransaction_WhenFlushedAfterVoteCommits() {
+        List<Boolean> transactionOpenAtWrite = new ArrayList<>();
+        List<RecordingTransactionManager.Tx> writeTransactions = new ArrayList<>();
+        when(questionRepository.incrementVotes(anyLong(), anyInt())).thenAnswer(invocation -> {
+            RecordingTransactionManager.Tx tx = transactionManager.current();
+            transactionOpenAtWrite.add(tx != null && !tx.committed);
+            writeTransactions.add(tx);
+            return true;
+        });
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 1L, 1L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 2L, 2L, 1);
+        voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 3L, 3L, 1);
+
+        // The fourth vote commits with a full buffer, so its afterCommit callback flushes the others
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                voteCountBuffer.add(VoteCountBuffer.Target.QUESTION, 4L, 4L, 1));
+
+        assertEquals(List.of(true, true, true), transactionOpenAtWrite);
+        assertTrue(writeTransactions.stream().allMatch(tx -> tx.committed), "every overflow write must commit");
+        assertEquals(1, voteCountBuffer.getPendingTargetCount());
+    }
+
+    /**
+     * Behaves like a resource-bound transaction manager such as JpaTransactionManager: the transaction stays
+     * bound to the thread until after the afterCommit callbacks ran, so anything joining it there writes
+     * into a transaction that has already committed.
+     */
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        static class Tx {
+            boolean committed;
+        }
+
+        private static class TxObject {
+            Tx tx;
+        }
+
+        private final Object resourceKey = new Object();
+
+        Tx current() {
+            return (Tx) TransactionSynchronizationManager.getResource(resourceKey);
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            TxObject txObject = new TxObject();
+            txObject.tx = current();
+            return txObject;
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((TxObject) transaction).tx != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            Tx tx = new Tx();
+            ((TxObject) transaction).tx = tx;
+            TransactionSynchronizationManager.bindResource(resourceKey, tx);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((TxObject) transaction).tx = null;
+            return TransactionSynchronizationManager.unbindResource(resourceKey);
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            TransactionSynchronizationManager.bindResource(resourceKey, suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            ((TxObject) status.getTransaction()).tx.committed = true;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package torquehub.torquehub.business.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import torquehub.torquehub.domain.mapper.NotificationMapper;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification;
+import torquehub.torquehub.domain.model.jpa_models.JpaNotification.Type;
+import torquehub.torquehub.domain.response.notification_dtos.NotificationResponse;
+import torquehub.torquehub.persistence.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VoteNotificationCoalescerTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private NotificationDelivery notificationDelivery;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private VoteNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new VoteNotificationCoalescer(notificationRepository, notificationMapper, notificationDelivery, transactionManager, 60);
+    }
+
+    private JpaNotification openNotification(Long id, int actorCount, LocalDateTime createdAt) {
+        JpaNotification notification = JpaNotification.builder()
+                .id(id)
+                .message("User alice has upvoted your answer")
+                .createdAt(createdAt)
+                .actorCount(actorCount)
+                .build();
+        when(notificationRepository.save(notification)).thenReturn(notification);
+        when(notificationMapper.toResponse(notification)).thenAnswer(invocation ->
+                NotificationResponse.builder().id(id).userId(1L).message(notification.getMessage()).build());
+        return notification;
+    }
+
+    @Test
+    void shouldFoldVoteIntoOpenNotificationWithoutPushingRightAway() {
+        JpaNotification open = openNotification(9L, 2, LocalDateTime.now());
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.ANSWER_VOTE), eq(7L), any()))
+                .thenReturn(Optional.of(open));
+
+        Optional<NotificationResponse> merged = coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+
+        assertTrue(merged.isPresent());
+        assertEquals(3, open.getActorCount());
+        assertEquals("3 people upvoted your answer", merged.get().getMessage());
+        assertEquals(1, coalescer.getPendingPushCount());
+        verifyNoInteractions(notificationDelivery);
+    }
+
+    @Test
+    void shouldLeaveVoteToCallerWhenNoNotificationIsOpen() {
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.QUESTION_VOTE), eq(7L), any()))
+                .thenReturn(Optional.empty());
+
+        assertTrue(coalescer.coalesce(1L, Type.QUESTION_VOTE, 7L).isEmpty());
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldNotCoalesceWhenWindowIsZero() {
+        VoteNotificationCoalescer disabled = new VoteNotificationCoalescer(notificationRepository, notificationMapper, notificationDelivery,
+                transactionManager, 0);
+
+        assertTrue(disabled.coalesce(1L, Type.QUESTION_VOTE, 7L).isEmpty());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void shouldPushLatestStateOnceWhenWindowCloses() {
+        JpaNotification closed = openNotification(9L, 1, LocalDateTime.now().minusSeconds(61));
+        JpaNotification stillOpen = openNotification(10L, 1, LocalDateTime.now());
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.ANSWER_VOTE), eq(7L), any()))
+                .thenReturn(Optional.of(closed));
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.ANSWER_VOTE), eq(8L), any()))
+                .thenReturn(Optional.of(stillOpen));
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 8L);
+        when(notificationRepository.lockForRead(9L)).thenReturn(Optional.of(closed));
+
+        coalescer.flushDuePushes();
+        coalescer.flushDuePushes();
+
+        verify(notificationDelivery, times(1)).deliver(any());
+        verify(notificationDelivery).deliver(argThat(n -> n.getId() == 9L && n.getMessage().equals("3 people upvoted your answer")));
+        assertEquals(1, coalescer.getPendingPushCount());
+    }
+
+    @Test
+    void shouldPushCommittedRowState_WhenAnOlderVoteCommitsLast() {
+        JpaNotification closed = openNotification(9L, 1, LocalDateTime.now().minusSeconds(61));
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.ANSWER_VOTE), eq(7L), any()))
+                .thenReturn(Optional.of(closed));
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+        // Whatever order the votes commit in, the row holds the latest count when the push is sent
+        JpaNotification committed = JpaNotification.builder().id(9L).actorCount(3)
+                .message("3 people upvoted your answer").build();
+        when(notificationRepository.lockForRead(9L)).thenReturn(Optional.of(committed));
+        when(notificationMapper.toResponse(committed)).thenReturn(
+                NotificationResponse.builder().id(9L).userId(1L).message(committed.getMessage()).build());
+
+        coalescer.flushDuePushes();
+
+        verify(notificationDelivery).deliver(argThat(n -> n.getMessage().equals("3 people upvoted your answer")));
+        assertEquals(0, coalescer.getPendingPushCount());
+    }
+
+    @Test
+    void shouldSkipPush_WhenNotificationWasReadBeforeWindowCloses() {
+        JpaNotification closed = openNotification(9L, 1, LocalDateTime.now().minusSeconds(61));
+        when(notificationRepository.lockOpenVoteNotification(eq(1L), eq(Type.ANSWER_VOTE), eq(7L), any()))
+                .thenReturn(Optional.of(closed));
+        coalescer.coalesce(1L, Type.ANSWER_VOTE, 7L);
+        closed.setRead(true);
+        when(notificationRepository.lockForRead(9L)).thenReturn(Optional.of(closed));
+
+        coalescer.flushDuePushes();
+
+        verifyNoInteractions(notificationDelivery);
+        assertEquals(0, coalescer.getPendingPushCount());
+    }
+}
@@ -6,17 +6,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import torquehub.torquehub.business.event.QuestionContentChangedEvent;
 import torquehub.torquehub.business.interfaces.NotificationService;
 import torquehub.torquehub.business.interfaces.ReputationService;
 import torquehub.torquehub.domain.ReputationConstants;
 import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
+import torquehub.torquehub.persistence.repository.AnswerRepository;
+import torquehub.torquehub.persistence.repository.CommentRepository;
+import torquehub.torquehub.persistence.repository.QuestionRepository;
 import torquehub.torquehub.persistence.repository.VoteRepository;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +41,21 @@ class VoteServiceImplTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Mock
+    private AnswerRepository answerRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private VoteCountBuffer voteCountBuffer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private JpaUser testUser;
     private JpaUser contentOwner;
     private JpaQuestion testQuestion;
@@ -84,6 +106,10 @@ class VoteServiceImplTest {
                 .userId(contentOwner.getId())
                 .updatedReputationPoints(10)
                 .build();
+
+        lenient().when(questionRepository.incrementVotes(anyLong(), anyInt())).thenReturn(true);
+        lenient().when(answerRepository.incrementVotes(anyLong(), anyInt())).thenReturn(true);
+        lenient().when(commentRepository.incrementVotes(anyLong(), anyInt())).thenReturn(true);
     }
 
     @Test
@@ -93,20 +119,19 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvote(testUser, testQuestion);
 
         assertNotNull(response);
         assertEquals(testReputationResponse.getUserId(), response.getUserId());
         assertEquals(testReputationResponse.getUpdatedReputationPoints(), response.getUpdatedReputationPoints());
-        assertEquals(1, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), 1);
 
         verify(voteRepository).save(any(JpaVote.class));
         verify(reputationService).updateReputationForUpvote(any());
-        verify(reputationService).updateReputationForUpvoteGiven(any());
+        verify(reputationService).deferReputationUpdate(any());
         verify(notificationService).notifyUserAboutQuestionVote(any());
+        verify(eventPublisher).publishEvent(any(QuestionContentChangedEvent.class));
     }
 
     @Test
@@ -116,19 +141,17 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForDownvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForDownvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleDownvote(testUser, testQuestion);
 
         assertNotNull(response);
         assertEquals(testReputationResponse.getUserId(), response.getUserId());
         assertEquals(testReputationResponse.getUpdatedReputationPoints(), response.getUpdatedReputationPoints());
-        assertEquals(-1, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), -1);
 
         verify(voteRepository).save(any(JpaVote.class));
         verify(reputationService).updateReputationForDownvote(any());
-        verify(reputationService).updateReputationForDownvoteGiven(any());
+        verify(reputationService).deferReputationUpdate(any());
         verify(notificationService, never()).notifyUserAboutQuestionVote(any());
     }
 
@@ -146,8 +169,9 @@ class VoteServiceImplTest {
 
         verify(voteRepository, never()).save(any(JpaVote.class));
         verify(reputationService, never()).updateReputationForUpvote(any());
-        verify(reputationService, never()).updateReputationForUpvoteGiven(any());
+        verify(reputationService, never()).deferReputationUpdate(any());
         verify(notificationService, never()).notifyUserAboutQuestionVote(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -159,18 +183,16 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvote(testUser, testQuestion);
 
         assertNotNull(response);
         assertTrue(testVote.isUpvote());
-        assertEquals(2, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), 2);
 
         verify(voteRepository).save(testVote);
         verify(reputationService).updateReputationForUpvote(any());
-        verify(reputationService).updateReputationForUpvoteGiven(any());
+        verify(reputationService).deferReputationUpdate(any());
         verify(notificationService).notifyUserAboutQuestionVote(any());
     }
 
@@ -181,17 +203,15 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvoteForAnswer(testUser, testAnswer);
 
         assertNotNull(response);
-        assertEquals(1, testAnswer.getVotes());
+        verify(answerRepository).incrementVotes(testAnswer.getId(), 1);
 
         verify(voteRepository).save(any(JpaVote.class));
         verify(reputationService).updateReputationForUpvote(any());
-        verify(reputationService).updateReputationForUpvoteGiven(any());
+        verify(reputationService).deferReputationUpdate(any());
         verify(notificationService).notifyUserAboutAnswerVote(any());
     }
 
@@ -202,17 +222,15 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvoteForComment(testUser, testComment);
 
         assertNotNull(response);
-        assertEquals(1, testComment.getVotes());
+        verify(commentRepository).incrementVotes(testComment.getId(), 1);
 
         verify(voteRepository).save(any(JpaVote.class));
         verify(reputationService).updateReputationForUpvote(any());
-        verify(reputationService).updateReputationForUpvoteGiven(any());
+        verify(reputationService).deferReputationUpdate(any());
         verify(notificationService).notifyUserAboutCommentVote(any());
     }
 
@@ -229,7 +247,7 @@ class VoteServiceImplTest {
                         request.getPoints() == ReputationConstants.POINTS_UPVOTE_RECEIVED
                 )
         );
-        verify(reputationService).updateReputationForUpvoteGiven(
+        verify(reputationService).deferReputationUpdate(
                 argThat(request ->
                         request.getPoints() == ReputationConstants.POINTS_UPVOTE_GIVEN
                 )
@@ -242,13 +260,11 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvote(testUser, testQuestion);
 
         assertNotNull(response);
-        assertEquals(1, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), 1);
         verify(notificationService).notifyUserAboutQuestionVote(any());
     }
 
@@ -259,13 +275,11 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForDownvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForDownvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleDownvote(testUser, testQuestion);
 
         assertNotNull(response);
-        assertEquals(-1, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), -1);
         verify(notificationService, never()).notifyUserAboutQuestionVote(any());
     }
 
@@ -277,14 +291,12 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForDownvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForDownvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleDownvote(testUser, testQuestion);
 
         assertNotNull(response);
         assertFalse(testVote.isUpvote());
-        assertEquals(-2, testQuestion.getVotes());
+        verify(questionRepository).incrementVotes(testQuestion.getId(), -2);
     }
 
 
@@ -295,13 +307,11 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForDownvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForDownvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleDownvoteForAnswer(testUser, testAnswer);
 
         assertNotNull(response);
-        assertEquals(-1, testAnswer.getVotes());
+        verify(answerRepository).incrementVotes(testAnswer.getId(), -1);
         verify(notificationService, never()).notifyUserAboutAnswerVote(any());
     }
 
@@ -338,14 +348,12 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(answerVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvoteForAnswer(testUser, testAnswer);
 
         assertNotNull(response);
         assertTrue(answerVote.isUpvote());
-        assertEquals(2, testAnswer.getVotes());
+        verify(answerRepository).incrementVotes(testAnswer.getId(), 2);
         verify(notificationService).notifyUserAboutAnswerVote(any());
     }
 
@@ -357,13 +365,11 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
         when(reputationService.updateReputationForDownvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForDownvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleDownvoteForComment(testUser, testComment);
 
         assertNotNull(response);
-        assertEquals(-1, testComment.getVotes());
+        verify(commentRepository).incrementVotes(testComment.getId(), -1);
         verify(notificationService, never()).notifyUserAboutCommentVote(any());
     }
 
@@ -400,14 +406,27 @@ class VoteServiceImplTest {
         when(voteRepository.save(any(JpaVote.class))).thenReturn(commentVote);
         when(reputationService.updateReputationForUpvote(any()))
                 .thenReturn(testReputationResponse);
-        when(reputationService.updateReputationForUpvoteGiven(any()))
-                .thenReturn(testReputationResponse);
 
         ReputationResponse response = voteService.handleUpvoteForComment(testUser, testComment);
 
         assertNotNull(response);
         assertTrue(commentVote.isUpvote());
-        assertEquals(2, testComment.getVotes());
+        verify(commentRepository).incrementVotes(testComment.getId(), 2);
         verify(notificationService).notifyUserAboutCommentVote(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldBufferVoteDelta_WhenWriteBehindIsEnabled() {
+        when(voteCountBuffer.isEnabled()).thenReturn(true);
+        when(voteRepository.findByUserAndJpaQuestion(testUser, testQuestion))
+                .thenReturn(Optional.empty());
+        when(voteRepository.save(any(JpaVote.class))).thenReturn(testVote);
+
+        voteService.handleUpvote(testUser, testQuestion);
+
+        verify(voteRepository).save(any(JpaVote.class));
+        verify(voteCountBuffer).add(VoteCountBuffer.Target.QUESTION, testQuestion.getId(), testQuestion.getId(), 1);
+        verify(questionRepository, never()).incrementVotes(anyLong(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any(QuestionContentChangedEvent.class));
+    }
+}
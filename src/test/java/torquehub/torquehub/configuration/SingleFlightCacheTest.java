@@ -0,0 +1,166 @@
+package torquehub.torquehub.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheTest {
+
+    private static final int CALLERS = 8;
+
+    private CacheLoadMetrics metrics;
+    private SingleFlightCache cache;
+    private AtomicInteger loads;
+    private CountDownLatch loaderStarted;
+    private CountDownLatch releaseLoader;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new CacheLoadMetrics();
+        cache = new SingleFlightCache(new ConcurrentMapCache("userById"), metrics);
+        loads = new AtomicInteger();
+        loaderStarted = new CountDownLatch(1);
+        releaseLoader = new CountDownLatch(1);
+    }
+
+    private String slowLoad(String result) throws InterruptedException {
+        loads.incrementAndGet();
+        loaderStarted.countDown();
+        assertTrue(releaseLoader.await(5, TimeUnit.SECONDS));
+        if (result == null) {
+            throw new IllegalStateException("Database unavailable");
+        }
+        return result;
+    }
+
+    private List<Future<String>> callConcurrently(String result) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<String>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> cache.get(1L, () -> slowLoad(result))));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> cache.get(1L, () -> slowLoad(result))));
+        }
+        // Give the waiting callers time to reach the in-flight load before it completes
+        while (metrics.getCoalescedCount("userById") < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        releaseLoader.countDown();
+        executor.shutdown();
+        return futures;
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        List<Future<String>> futures = callConcurrently("alice");
+
+        for (Future<String> future : futures) {
+            assertEquals("alice", future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, metrics.getLoadCount("userById"));
+        assertEquals(CALLERS - 1, metrics.getCoalescedCount("userById"));
+        assertEquals("alice", cache.get(1L, String.class));
+    }
+
+    @Test
+    void shouldPassLoaderFailureToEveryWaiterWithoutCaching() throws Exception {
+        List<Future<String>> futures = callConcurrently(null);
+
+        for (Future<String> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(Cache.ValueRetrievalException.class, e.getCause());
+            assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+        }
+        assertEquals(1, loads.get());
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void shouldNotStoreLoadedValue_WhenKeyIsEvictedDuringLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> loading = executor.submit(() -> cache.get(1L, () -> slowLoad("stale")));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        cache.evict(1L);
+        releaseLoader.countDown();
+        executor.shutdown();
+
+        assertEquals("stale", loading.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get(1L));
+        assertEquals("fresh", cache.get(1L, () -> "fresh"));
+    }
+
+    @Test
+    void shouldLoadAgain_WhenKeyIsRequestedAfterEvictDuringLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> loading = executor.submit(() -> cache.get(1L, () -> slowLoad("stale")));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        cache.evict(1L);
+        String afterEvict = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return "fresh";
+        });
+        releaseLoader.countDown();
+        executor.shutdown();
+
+        assertEquals("fresh", afterEvict);
+        assertEquals("stale", loading.get(5, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        assertEquals(0, metrics.getCoalescedCount("userById"));
+        assertEquals("fresh", cache.get(1L, String.class));
+    }
+
+    @Test
+    void shouldLoadAgain_WhenKeyIsRequestedAfterClearDuringLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> loading = executor.submit(() -> cache.get(1L, () -> slowLoad("stale")));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        cache.clear();
+        String afterClear = cache.get(1L, () -> "fresh");
+        releaseLoader.countDown();
+        executor.shutdown();
+
+        assertEquals("fresh", afterClear);
+        assertEquals("stale", loading.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", cache.get(1L, String.class));
+    }
+
+    @Test
+    void shouldNotStoreLoadedValue_WhenCacheIsClearedDuringLoad() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> loading = executor.submit(() -> cache.get(1L, () -> slowLoad("stale")));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        cache.clear();
+        releaseLoader.countDown();
+        executor.shutdown();
+
+        assertEquals("stale", loading.get(5, TimeUnit.SECONDS));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void shouldNotCountHitsAsLoads() {
+        cache.put(1L, "alice");
+
+        assertEquals("alice", cache.get(1L, () -> "bob"));
+        assertEquals(0, metrics.getLoadCount("userById"));
+        assertEquals(0, metrics.getCoalescedCount("userById"));
+    }
+}
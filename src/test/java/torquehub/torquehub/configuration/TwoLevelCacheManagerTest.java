@@ -0,0 +1,122 @@
+package torquehub.torquehub.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import torquehub.torquehub.messaging.CacheInvalidationListener;
+import torquehub.torquehub.messaging.CacheInvalidationPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class TwoLevelCacheManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Stands in for the fanout exchange: every published message is delivered to every node's listener
+    private final List<CacheInvalidationListener> broker = new ArrayList<>();
+    private final ConcurrentMapCacheManager sharedCacheManager = new ConcurrentMapCacheManager();
+
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode(null);
+        nodeB = startNode(null);
+    }
+
+    private TwoLevelCacheManager startNode(ConcurrentMapCacheManager shared) {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doAnswer(invocation -> {
+            String payload = invocation.getArgument(2);
+            broker.forEach(listener -> listener.onInvalidation(payload));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.CACHE_INVALIDATION_EXCHANGE), anyString(), any(Object.class));
+
+        CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(rabbitTemplate, objectMapper);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(new ConcurrentMapCacheManager(), shared, publisher);
+        broker.add(new CacheInvalidationListener(cacheManager, publisher, objectMapper));
+        return cacheManager;
+    }
+
+    @Test
+    void shouldEvictEntryOnEveryNode() {
+        nodeA.getCache("questions").put(1L, "on A");
+        nodeB.getCache("questions").put(1L, "on B");
+        nodeB.getCache("questions").put(2L, "other");
+
+        nodeA.getCache("questions").evict(1L);
+
+        assertNull(nodeA.getCache("questions").get(1L));
+        assertNull(nodeB.getCache("questions").get(1L));
+        assertEquals("other", nodeB.getCache("questions").get(2L, String.class));
+    }
+
+    @Test
+    void shouldMatchKeysOfDifferentTypes() {
+        nodeB.getCache("tags").put("version:7", "token");
+        nodeB.getCache("tags").put(SimpleKey.EMPTY, List.of("java"));
+        nodeB.getCache("tags").put(3, "int key");
+
+        nodeA.getCache("tags").evict("version:7");
+        nodeA.getCache("tags").evict(SimpleKey.EMPTY);
+        nodeA.getCache("tags").evict(3);
+
+        assertNull(nodeB.getCache("tags").get("version:7"));
+        assertNull(nodeB.getCache("tags").get(SimpleKey.EMPTY));
+        assertNull(nodeB.getCache("tags").get(3));
+    }
+
+    @Test
+    void shouldClearWholeCacheWhenKeyCannotBeSent() {
+        SimpleKey compositeKey = new SimpleKey(1L, "newest");
+        nodeB.getCache("feeds").put(compositeKey, "page");
+        nodeB.getCache("feeds").put(5L, "other page");
+
+        nodeA.getCache("feeds").evict(compositeKey);
+
+        assertNull(nodeB.getCache("feeds").get(compositeKey));
+        assertNull(nodeB.getCache("feeds").get(5L));
+    }
+
+    @Test
+    void shouldFillLocalCacheFromSharedLevel() {
+        broker.clear();
+        TwoLevelCacheManager writer = startNode(sharedCacheManager);
+        TwoLevelCacheManager reader = startNode(sharedCacheManager);
+
+        writer.getCache("questions").put(1L, "shared value");
+
+        assertEquals("shared value", reader.getCache("questions").get(1L, String.class));
+        sharedCacheManager.getCache("questions").clear();
+        assertEquals("shared value", reader.getCache("questions").get(1L, String.class));
+
+        writer.getCache("questions").evict(1L);
+        assertNull(reader.getCache("questions").get(1L));
+    }
+
+    @Test
+    void shouldKeepLocalEvictionWhenBrokerIsDown() {
+        RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        doThrow(new RuntimeException("Connection refused"))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
+        CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(rabbitTemplate, objectMapper);
+        Cache cache = new TwoLevelCacheManager(new ConcurrentMapCacheManager(), null, publisher).getCache("questions");
+        cache.put(1L, "value");
+
+        assertDoesNotThrow(() -> cache.evict(1L));
+        assertNull(cache.get(1L));
+    }
+}
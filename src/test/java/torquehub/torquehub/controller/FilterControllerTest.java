@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import torquehub.torquehub.business.interfaces.FilterService;
 import torquehub.torquehub.controllers.FilterController;
+import torquehub.torquehub.domain.response.question_dtos.QuestionFeedResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 
 import java.util.Arrays;
@@ -158,10 +159,12 @@ class FilterControllerTest {
         Set<String> tags = new HashSet<>(Arrays.asList("java", "spring"));
         Boolean noAnswers = true;
         Boolean noAcceptedAnswer = false;
+        String tagMode = "all";
         String sortOption = "newest";
 
         when(filterService.filterQuestions(
                 eq(tags),
+                eq(tagMode),
                 eq(noAnswers),
                 eq(noAcceptedAnswer),
                 eq(sortOption),
@@ -171,6 +174,7 @@ class FilterControllerTest {
         // Act
         Page<QuestionSummaryResponse> response = filterController.filterQuestions(
                 tags,
+                tagMode,
                 noAnswers,
                 noAcceptedAnswer,
                 sortOption,
@@ -182,6 +186,7 @@ class FilterControllerTest {
         assertEquals(2, response.getContent().size());
         verify(filterService).filterQuestions(
                 eq(tags),
+                eq(tagMode),
                 eq(noAnswers),
                 eq(noAcceptedAnswer),
                 eq(sortOption),
@@ -189,4 +194,38 @@ class FilterControllerTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    void getQuestionFeed_Success() {
+        QuestionFeedResponse feed = QuestionFeedResponse.builder()
+                .content(questionList)
+                .nextCursor("abc")
+                .hasNext(true)
+                .build();
+        when(filterService.getQuestionFeed("votes", null, 10)).thenReturn(feed);
+
+        ResponseEntity<QuestionFeedResponse> response = filterController.getQuestionFeed("votes", null, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("abc", response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getQuestionFeed_InvalidCursor() {
+        when(filterService.getQuestionFeed("votes", "bad", 10)).thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        ResponseEntity<QuestionFeedResponse> response = filterController.getQuestionFeed("votes", "bad", 10);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void getQuestionFeed_ClampsPageSize() {
+        QuestionFeedResponse feed = QuestionFeedResponse.builder().content(questionList).hasNext(false).build();
+        when(filterService.getQuestionFeed("votes", null, FilterController.MAX_FEED_PAGE_SIZE)).thenReturn(feed);
+
+        ResponseEntity<QuestionFeedResponse> response = filterController.getQuestionFeed("votes", null, 100000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(filterService).getQuestionFeed("votes", null, FilterController.MAX_FEED_PAGE_SIZE);
+    }
+}
@@ -21,6 +21,7 @@ import torquehub.torquehub.domain.response.notification_dtos.NotificationRespons
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -96,10 +97,12 @@ class NotificationControllerTest {
     @Test
     void testMarkAllNotificationsAsRead() {
         Long userId = 1L;
+        when(notificationService.markAllAsRead(userId)).thenReturn(3);
 
-        ResponseEntity<Void> response = notificationController.markAllNotificationsAsRead(userId);
+        ResponseEntity<Map<String, Integer>> response = notificationController.markAllNotificationsAsRead(userId);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of("updated", 3), response.getBody());
         verify(notificationService, times(1)).markAllAsRead(userId);
     }
     @Test
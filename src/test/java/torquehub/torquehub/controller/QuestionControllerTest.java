@@ -8,8 +8,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ForwardedHeaderFilter;
 import torquehub.torquehub.business.interfaces.QuestionService;
 import torquehub.torquehub.configuration.jwt.token.exeption.InvalidAccessTokenException;
 import torquehub.torquehub.configuration.utils.TokenUtil;
@@ -22,10 +26,13 @@ import torquehub.torquehub.domain.response.question_dtos.QuestionResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.domain.response.reputation_dtos.ReputationResponse;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +55,7 @@ class QuestionControllerTest {
     private QuestionDetailResponse detailResponse;
     private QuestionResponse questionResponse;
     private String testToken;
+    private MockHttpServletRequest request;
 
     @BeforeEach
     void setUp() {
@@ -64,6 +72,8 @@ class QuestionControllerTest {
         detailResponse = new QuestionDetailResponse();
         questionResponse = new QuestionResponse();
         testToken = "Bearer test-token";
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
     }
 
     @Test
@@ -83,7 +93,7 @@ class QuestionControllerTest {
         when(questionService.getQuestionbyId(anyLong(), any(), anyLong())).thenReturn(Optional.of(detailResponse));
         when(tokenUtil.getUserIdFromToken(any())).thenReturn(1L);
 
-        ResponseEntity<QuestionDetailResponse> response = questionController.getQuestionById(1L, 0, 10, testToken);
+        ResponseEntity<QuestionDetailResponse> response = questionController.getQuestionById(1L, 0, 10, "votes", testToken, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -156,6 +166,42 @@ class QuestionControllerTest {
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
+        verify(questionService, never()).incrementQuestionView(anyLong(), any());
+    }
+
+    @Test
+    void shouldCountViewPerUserOrClientAddress() {
+        when(questionService.getQuestionbyId(anyLong(), any(), any())).thenReturn(Optional.of(detailResponse));
+        when(tokenUtil.getUserIdFromToken(any())).thenReturn(7L);
+
+        questionController.getQuestionById(1L, 0, 10, "votes", testToken, request);
+        questionController.getQuestionById(1L, 0, 10, "votes", null, request);
+
+        verify(questionService).incrementQuestionView(1L, "user:7");
+        verify(questionService).incrementQuestionView(1L, "ip:10.0.0.1");
+    }
+
+    @Test
+    void shouldCountViewPerForwardedClientBehindProxy() throws Exception {
+        when(questionService.getQuestionbyId(anyLong(), any(), any())).thenReturn(Optional.of(detailResponse));
+
+        questionController.getQuestionById(1L, 0, 10, "votes", null, forwardedFor("203.0.113.7"));
+        questionController.getQuestionById(1L, 0, 10, "votes", null, forwardedFor("198.51.100.23"));
+
+        verify(questionService).incrementQuestionView(1L, "ip:203.0.113.7");
+        verify(questionService).incrementQuestionView(1L, "ip:198.51.100.23");
+    }
+
+    // Runs the request through the filter that server.forward-headers-strategy=framework installs,
+    // as a load balancer at 10.0.0.1 would forward it.
+    private HttpServletRequest forwardedFor(String clientAddress) throws Exception {
+        MockHttpServletRequest proxied = new MockHttpServletRequest();
+        proxied.setRemoteAddr("10.0.0.1");
+        proxied.addHeader("X-Forwarded-For", clientAddress);
+        AtomicReference<HttpServletRequest> forwarded = new AtomicReference<>();
+        new ForwardedHeaderFilter().doFilter(proxied, new MockHttpServletResponse(),
+                (req, res) -> forwarded.set((HttpServletRequest) req));
+        return forwarded.get();
     }
 
     @Test
@@ -221,7 +267,7 @@ class QuestionControllerTest {
         when(tokenUtil.getUserIdFromToken(any())).thenReturn(1L);
 
         ResponseEntity<QuestionDetailResponse> response =
-                questionController.getQuestionById(999L, 0, 10, testToken);
+                questionController.getQuestionById(999L, 0, 10, "votes", testToken, request);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
@@ -271,7 +317,7 @@ class QuestionControllerTest {
                 .thenReturn(Optional.of(new QuestionDetailResponse()));
 
         ResponseEntity<QuestionDetailResponse> response =
-                questionController.getQuestionById(1L, 0, 10, null);
+                questionController.getQuestionById(1L, 0, 10, "votes", null, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -283,7 +329,7 @@ class QuestionControllerTest {
                 .thenThrow(new InvalidAccessTokenException("Invalid token"));
 
         ResponseEntity<QuestionDetailResponse> response =
-                questionController.getQuestionById(1L, 0, 10, testToken);
+                questionController.getQuestionById(1L, 0, 10, "votes", testToken, request);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertNull(response.getBody());
@@ -302,5 +348,13 @@ class QuestionControllerTest {
         assertNull(response.getBody());
     }
 
-}
+    @Test
+    void shouldPassAnswerSortToService() {
+        when(questionService.getQuestionbyId(anyLong(), any(), any())).thenReturn(Optional.of(detailResponse));
+
+        questionController.getQuestionById(1L, 2, 5, "newest", null, request);
 
+        verify(questionService).getQuestionbyId(1L,
+                PageRequest.of(2, 5, Sort.by(Sort.Order.desc("answeredTime"), Sort.Order.desc("id"))), null);
+    }
+}
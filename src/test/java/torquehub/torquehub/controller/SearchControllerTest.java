@@ -0,0 +1,85 @@
+package torquehub.torquehub.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import torquehub.torquehub.business.interfaces.SearchService;
+import torquehub.torquehub.controllers.SearchController;
+import torquehub.torquehub.domain.response.MessageResponse;
+import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchControllerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @InjectMocks
+    private SearchController searchController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void searchQuestions_Success() {
+        Page<QuestionSummaryResponse> results = new PageImpl<>(List.of(new QuestionSummaryResponse()));
+        when(searchService.searchQuestions("turbo", PageRequest.of(0, 10))).thenReturn(results);
+
+        ResponseEntity<Page<QuestionSummaryResponse>> response = searchController.searchQuestions("turbo", 0, 10);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+    }
+
+    @Test
+    void searchQuestions_BlankQueryReturnsBadRequest() {
+        when(searchService.searchQuestions(" ", PageRequest.of(0, 10))).thenThrow(new IllegalArgumentException("blank"));
+
+        ResponseEntity<Page<QuestionSummaryResponse>> response = searchController.searchQuestions(" ", 0, 10);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void searchQuestions_ClampsPageSize() {
+        PageRequest clamped = PageRequest.of(0, SearchController.MAX_SEARCH_PAGE_SIZE);
+        when(searchService.searchQuestions("turbo", clamped)).thenReturn(Page.empty(clamped));
+
+        ResponseEntity<Page<QuestionSummaryResponse>> response = searchController.searchQuestions("turbo", 0, 100000);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(searchService).searchQuestions("turbo", clamped);
+    }
+
+    @Test
+    void rebuildIndex_StartsBackgroundRebuild() {
+        when(searchService.rebuildIndex()).thenReturn(true);
+
+        ResponseEntity<MessageResponse> response = searchController.rebuildIndex();
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+    }
+
+    @Test
+    void rebuildIndex_ReturnsConflict_WhenRebuildAlreadyRunning() {
+        when(searchService.rebuildIndex()).thenReturn(false);
+
+        ResponseEntity<MessageResponse> response = searchController.rebuildIndex();
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Search index rebuild is already running.", response.getBody().getMessage());
+    }
+}
@@ -22,6 +22,7 @@ import torquehub.torquehub.domain.model.jpa_models.JpaTag;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
 import torquehub.torquehub.persistence.jpa.impl.JpaQuestionRepository;
 import torquehub.torquehub.persistence.jpa.interfaces.SpringDataJpaQuestionRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -246,6 +247,30 @@ class JpaQuestionRepositoryTest {
         assertThat(unansweredQuestions.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Find question summaries with author and tag names")
+    void testFindSummaries() {
+        // Arrange
+        JpaQuestion question = JpaQuestion.builder()
+                .title("Summary Question")
+                .description("This question is listed as a summary.")
+                .jpaUser(user)
+                .jpaTags(Set.of(tag))
+                .askedTime(LocalDateTime.now())
+                .lastActivityTime(LocalDateTime.now())
+                .build();
+        questionRepository.save(question);
+
+        // Act
+        Page<QuestionSummaryProjection> summaries = questionRepository.findSummaries(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(summaries.getTotalElements()).isEqualTo(1);
+        QuestionSummaryProjection summary = summaries.getContent().get(0);
+        assertThat(summary.getUserName()).isEqualTo("testuser");
+        assertThat(summary.getTagNames()).isEqualTo("Sample Tag");
+    }
+
     @Test
     @DisplayName("Count questions by user ID")
     void testCountByUserId() {
@@ -274,4 +299,28 @@ class JpaQuestionRepositoryTest {
         assertThat(count).isEqualTo(2);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Increment votes atomically in the database")
+    void testIncrementVotes() {
+        // Arrange
+        JpaQuestion question = JpaQuestion.builder()
+                .title("Voted Question")
+                .description("This question receives votes.")
+                .votes(3)
+                .jpaUser(user)
+                .askedTime(LocalDateTime.now())
+                .lastActivityTime(LocalDateTime.now())
+                .build();
+        JpaQuestion savedQuestion = questionRepository.save(question);
+
+        // Act
+        boolean updated = questionRepository.incrementVotes(savedQuestion.getId(), 2);
+        boolean missing = questionRepository.incrementVotes(-1L, 1);
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(questionRepository.findById(savedQuestion.getId()).get().getVotes()).isEqualTo(5);
+    }
+}
@@ -1,6 +1,7 @@
 package torquehub.torquehub.intregration;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Testcontainers
@@ -174,6 +176,23 @@ class JpaVoteRepositoryTest {
     @Test
     @DisplayName("Find top vote by user and question ordered by votedAt descending")
     void testFindTopByUserAndQuestion() {
+        JpaVote vote = JpaVote.builder()
+                .jpaUser(user)
+                .jpaQuestion(question)
+                .upvote(false)
+                .votedAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(vote);
+
+        Optional<JpaVote> topVote = voteRepository.findTopByJpaUserAndJpaQuestionOrderByVotedAtDesc(user, question);
+
+        assertThat(topVote).isPresent();
+        assertThat(topVote.get().isUpvote()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Reject a second vote by the same user on the same question")
+    void testDuplicateVoteOnQuestionIsRejected() {
         JpaVote vote1 = JpaVote.builder()
                 .jpaUser(user)
                 .jpaQuestion(question)
@@ -187,12 +206,11 @@ class JpaVoteRepositoryTest {
                 .votedAt(LocalDateTime.now())
                 .build();
         entityManager.persist(vote1);
-        entityManager.persist(vote2);
 
-        Optional<JpaVote> topVote = voteRepository.findTopByJpaUserAndJpaQuestionOrderByVotedAtDesc(user, question);
-
-        assertThat(topVote).isPresent();
-        assertThat(topVote.get().isUpvote()).isFalse();
+        assertThatThrownBy(() -> {
+            entityManager.persist(vote2);
+            entityManager.flush();
+        }).isInstanceOf(PersistenceException.class);
     }
 
     @Test
@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import torquehub.torquehub.domain.mapper.AnswerMapper;
 import torquehub.torquehub.domain.mapper.CommentMapper;
+import torquehub.torquehub.domain.mapper.UserInteractionState;
 import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.domain.request.answer_dtos.AnswerCreateRequest;
 import torquehub.torquehub.domain.request.answer_dtos.AnswerEditRequest;
@@ -20,7 +21,9 @@ import torquehub.torquehub.persistence.jpa.impl.JpaVoteRepository;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -188,4 +191,19 @@ class AnswerMapperTest {
         assertFalse(answerMapper.isFollowing(1L, 1L, followRepository));
     }
 
+    @Test
+    void testToResponseWithInteractionState() {
+        CommentResponse mockCommentResponse = new CommentResponse();
+        UserInteractionState state = new UserInteractionState(Set.of(1L), Set.of(), Map.of(1L, true), Map.of());
+        when(commentMapper.toResponse(jpaComment, state)).thenReturn(mockCommentResponse);
+
+        AnswerResponse response = answerMapper.toResponse(jpaAnswer, state, commentMapper);
+
+        assertTrue(response.getIsBookmarked());
+        assertFalse(response.getIsFollowing());
+        assertEquals("up", response.getUserVote());
+        assertEquals(1, response.getComments().size());
+        verifyNoInteractions(bookmarkRepository, followRepository, voteRepository);
+    }
+
 }
@@ -7,6 +7,7 @@ import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import torquehub.torquehub.domain.mapper.CommentMapper;
+import torquehub.torquehub.domain.mapper.UserInteractionState;
 import torquehub.torquehub.domain.model.jpa_models.JpaComment;
 import torquehub.torquehub.domain.model.jpa_models.JpaUser;
 import torquehub.torquehub.domain.model.jpa_models.JpaVote;
@@ -16,10 +17,13 @@ import torquehub.torquehub.domain.response.comment_dtos.CommentResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaVoteRepository;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -115,4 +119,16 @@ class CommentMapperTest {
         assertNull(response.getUserVote());
     }
 
+    @Test
+    void testToResponseWithInteractionState() {
+        jpaComment.setId(7L);
+        UserInteractionState state = new UserInteractionState(Set.of(), Set.of(), Map.of(), Map.of(7L, false));
+
+        CommentResponse response = commentMapper.toResponse(jpaComment, state);
+
+        assertEquals("testUser", response.getUsername());
+        assertEquals("down", response.getUserVote());
+        verifyNoInteractions(voteRepository);
+    }
+
 }
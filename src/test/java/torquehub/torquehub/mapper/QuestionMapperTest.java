@@ -4,25 +4,32 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import torquehub.torquehub.domain.mapper.AnswerMapper;
 import torquehub.torquehub.domain.mapper.CommentMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapper;
 import torquehub.torquehub.domain.mapper.QuestionMapperContext;
+import torquehub.torquehub.domain.mapper.UserInteractionState;
 import torquehub.torquehub.domain.model.jpa_models.*;
 import torquehub.torquehub.domain.response.answer_dtos.AnswerResponse;
+import torquehub.torquehub.domain.response.comment_dtos.CommentResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionDetailResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionResponse;
 import torquehub.torquehub.domain.response.question_dtos.QuestionSummaryResponse;
 import torquehub.torquehub.persistence.jpa.impl.JpaBookmarkRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaFollowRepository;
 import torquehub.torquehub.persistence.jpa.impl.JpaVoteRepository;
+import torquehub.torquehub.persistence.jpa.projection.QuestionSummaryProjection;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -88,6 +95,8 @@ class QuestionMapperTest {
 
     @Test
     void toSummaryResponse_ShouldMapQuestionToSummaryResponse() {
+        jpaQuestion.setTotalAnswers(1);
+
         QuestionSummaryResponse response = mapper.toSummaryResponse(jpaQuestion);
 
         assertEquals(Set.of("BMW"), response.getTags());
@@ -96,11 +105,32 @@ class QuestionMapperTest {
         assertEquals(1, response.getTotalAnswers());
     }
 
+    @Test
+    void toSummaryResponse_ShouldMapProjectionAndSplitTagNames() {
+        LocalDateTime askedTime = LocalDateTime.of(2024, 5, 1, 10, 0);
+        QuestionSummaryProjection projection = new QuestionSummaryProjection(
+                3L, "Summary", "testUser", 100, 12, 4, 2, askedTime, "BMW,Audi");
+
+        QuestionSummaryResponse response = mapper.toSummaryResponse(projection);
+
+        assertEquals(3L, response.getId());
+        assertEquals(Set.of("BMW", "Audi"), response.getTags());
+        assertEquals("testUser", response.getUserName());
+        assertEquals(100, response.getUserPoints());
+        assertEquals(2, response.getTotalAnswers());
+        assertEquals(askedTime, response.getAskedTime());
+    }
+
+    @Test
+    void splitTagNames_ShouldReturnEmptySetForQuestionWithoutTags() {
+        assertTrue(mapper.splitTagNames(null).isEmpty());
+    }
+
     @Test
     void toDetailResponse_ShouldMapQuestionToDetailResponse() {
         AnswerResponse mockAnswerResponse = new AnswerResponse();
         mockAnswerResponse.setId(1L);
-        when(answerMapper.toResponse(any(JpaAnswer.class), anyLong(), any(), any(), any(), any())).thenReturn(mockAnswerResponse);
+        when(answerMapper.toResponse(any(JpaAnswer.class), any(UserInteractionState.class), any())).thenReturn(mockAnswerResponse);
 
         QuestionDetailResponse response = mapper.toDetailResponse(jpaQuestion, context);
 
@@ -129,7 +159,7 @@ class QuestionMapperTest {
     void mapAnswersToPagedAnswerResponses_ShouldReturnPagedAnswerResponses() {
         AnswerResponse mockAnswerResponse = new AnswerResponse();
         mockAnswerResponse.setId(1L);
-        when(answerMapper.toResponse(any(JpaAnswer.class), anyLong(), any(), any(), any(), any())).thenReturn(mockAnswerResponse);
+        when(answerMapper.toResponse(any(JpaAnswer.class), any(UserInteractionState.class), any())).thenReturn(mockAnswerResponse);
 
         Page<AnswerResponse> responsePage = mapper.mapAnswersToPagedAnswerResponses(List.of(jpaAnswer), context);
 
@@ -143,5 +173,72 @@ class QuestionMapperTest {
 
         assertEquals(0, responsePage.getTotalElements());
     }
-}
 
+    @Test
+    void mapAnswersToPagedAnswerResponses_ShouldLoadInteractionStateOnceForPage() {
+        JpaAnswer secondAnswer = new JpaAnswer();
+        secondAnswer.setId(2L);
+        secondAnswer.setJpaUser(jpaUser);
+        when(bookmarkRepository.findBookmarkedAnswerIds(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+        when(followRepository.findFollowedAnswerIds(1L, List.of(1L, 2L))).thenReturn(List.of());
+        when(voteRepository.findVoteStates(1L, List.of(1L, 2L), List.of())).thenReturn(List.<Object[]>of(new Object[]{1L, null, true}));
+        when(answerMapper.toResponse(any(JpaAnswer.class), any(UserInteractionState.class), any())).thenReturn(new AnswerResponse());
+
+        mapper.mapAnswersToPagedAnswerResponses(List.of(jpaAnswer, secondAnswer), context);
+
+        ArgumentCaptor<UserInteractionState> stateCaptor = ArgumentCaptor.forClass(UserInteractionState.class);
+        verify(answerMapper, times(2)).toResponse(any(JpaAnswer.class), stateCaptor.capture(), any());
+        UserInteractionState state = stateCaptor.getValue();
+        assertTrue(state.isAnswerBookmarked(2L));
+        assertFalse(state.isAnswerBookmarked(1L));
+        assertEquals("up", state.getAnswerVote(1L));
+        verify(bookmarkRepository, never()).findByUserIdAndAnswerId(anyLong(), anyLong());
+        verify(voteRepository, never()).findByUserIdAndAnswerId(anyLong(), anyLong());
+    }
+
+    @Test
+    void toDetailResponse_ShouldUseDatabasePagedAnswers_WhenAnswerPageIsProvided() {
+        JpaAnswer pagedAnswer = new JpaAnswer();
+        pagedAnswer.setId(2L);
+        Page<JpaAnswer> answerPage = new PageImpl<>(List.of(pagedAnswer), PageRequest.of(1, 1), 2);
+        QuestionMapperContext pagedContext = new QuestionMapperContext(commentMapper, answerMapper, bookmarkRepository,
+                followRepository, voteRepository, null, PageRequest.of(1, 1), answerPage);
+        AnswerResponse mockAnswerResponse = new AnswerResponse();
+        mockAnswerResponse.setId(2L);
+        when(answerMapper.toResponse(eq(pagedAnswer), any(UserInteractionState.class), any())).thenReturn(mockAnswerResponse);
+
+        QuestionDetailResponse response = mapper.toDetailResponse(jpaQuestion, pagedContext);
+
+        assertEquals(2, response.getAnswers().getTotalElements());
+        assertEquals(2L, response.getAnswers().getContent().get(0).getId());
+        verify(answerMapper, never()).toResponse(eq(jpaAnswer), any(UserInteractionState.class), any());
+    }
+
+    @Test
+    void withUserInteractions_ShouldCopySharedDetailAndLeaveItUntouched() {
+        CommentResponse comment = CommentResponse.builder().id(20L).text("Check the plugs").build();
+        AnswerResponse answer = AnswerResponse.builder().id(10L).text("Swap the coil").votes(3)
+                .comments(List.of(comment)).isBookmarked(false).isFollowing(false).build();
+        QuestionDetailResponse shared = QuestionDetailResponse.builder().id(1L).title("Misfire")
+                .answers(new PageImpl<>(List.of(answer), PageRequest.of(0, 10), 1)).build();
+        UserInteractionState state = new UserInteractionState(Set.of(10L), Set.of(), Map.of(10L, true), Map.of(20L, false));
+
+        QuestionDetailResponse result = mapper.withUserInteractions(shared, state, "up", true, false);
+
+        assertEquals("Misfire", result.getTitle());
+        assertEquals("up", result.getUserVote());
+        assertTrue(result.getIsFollowing());
+        assertFalse(result.getIsBookmarked());
+        AnswerResponse mappedAnswer = result.getAnswers().getContent().get(0);
+        assertEquals(3, mappedAnswer.getVotes());
+        assertTrue(mappedAnswer.getIsBookmarked());
+        assertFalse(mappedAnswer.getIsFollowing());
+        assertEquals("up", mappedAnswer.getUserVote());
+        assertEquals("down", mappedAnswer.getComments().get(0).getUserVote());
+
+        assertNull(shared.getUserVote());
+        assertFalse(answer.getIsBookmarked());
+        assertNull(answer.getUserVote());
+        assertNull(comment.getUserVote());
+    }
+}